@@ -0,0 +1,71 @@
+package seedu.address.logic;
+
+import static seedu.address.testutil.AddressBookGenerator.FIRST_TERM_START;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.LastUpdatedDate;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.AddressBookGenerator;
+
+/**
+ * Measures how long updating the outstanding fees of every lesson takes as the number of students grows.
+ * The fees are updated as if TAB was last launched before the first lesson and is launched again
+ * a year later, so the fees of the lessons in the first year change and the later lessons are only checked.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class FeesCalculatorBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int studentCount;
+
+    private AddressBook addressBook;
+    private Model model;
+    private FeesCalculator feesCalculator;
+
+    /**
+     * Generates {@code studentCount} students.
+     */
+    @Setup
+    public void setUp() {
+        addressBook = new AddressBookGenerator(AddressBookGenerator.DEFAULT_SEED).generateAddressBook(studentCount);
+        LastUpdatedDate lastUpdatedDate = new LastUpdatedDate(FIRST_TERM_START.atStartOfDay().toString());
+        LocalDateTime currentDateTime = FIRST_TERM_START.plusYears(1).atStartOfDay();
+        feesCalculator = new FeesCalculator(lastUpdatedDate, currentDateTime);
+    }
+
+    /**
+     * Resets the model to the generated students before every iteration, as updating the fees changes them.
+     */
+    @Setup(Level.Iteration)
+    public void resetModel() {
+        model = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Benchmark
+    public boolean updateAllLessonOutstandingFees() {
+        return feesCalculator.updateAllLessonOutstandingFees(model);
+    }
+}
@@ -0,0 +1,255 @@
+package seedu.address.logic;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOMEWORK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAID_AMOUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CancelDateCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.FeesCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.LessonEditCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.PaidCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RemindCommand;
+import seedu.address.logic.commands.TagAddCommand;
+import seedu.address.logic.commands.TagCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.ViewCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.lesson.Date;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.AddressBookGenerator;
+
+/**
+ * Replays a scripted mix of commands through {@link LogicManager#execute(String)} on a generated address book,
+ * without the GUI, and reports the latencies of each command word.
+ *
+ * The address book is generated by {@link AddressBookGenerator}, saved and read back as TAB does on launch.
+ * Saves are done on the thread that executes the commands, so the latencies include saving.
+ * The same arguments always replay the same commands on the same address book.
+ *
+ * Arguments: {@code [STUDENT_COUNT] [COMMAND_COUNT] [SEED] [DATA_DIRECTORY]}
+ */
+public class LoadTestHarness {
+
+    private static final int DEFAULT_STUDENT_COUNT = 10000;
+    private static final int DEFAULT_COMMAND_COUNT = 2000;
+    private static final long DEFAULT_SEED = 42;
+    private static final Path DEFAULT_DATA_DIRECTORY = Paths.get("build", "loadtest");
+
+    // commands executed before the latencies are recorded, so the JIT compiler has warmed up
+    private static final double WARMUP_FRACTION = 0.1;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Random random;
+    private final Logic logic;
+    private final LocalDate lastTermStart;
+    private final List<WeightedCommand> commandMix = new ArrayList<>();
+    private final Map<String, List<Long>> latencies = new TreeMap<>();
+    private final Map<String, Integer> failureCounts = new TreeMap<>();
+    private int totalWeight = 0;
+    private int addedCount = 0;
+
+    private LoadTestHarness(long seed, Logic logic, LocalDate lastTermStart) {
+        this.random = new Random(seed);
+        this.logic = logic;
+        this.lastTermStart = lastTermStart;
+
+        addCommand(15, () -> ListCommand.COMMAND_WORD);
+        addCommand(15, () -> FindCommand.COMMAND_WORD + " " + PREFIX_NAME + pick(AddressBookGenerator.FIRST_NAMES));
+        addCommand(5, () -> FindCommand.COMMAND_WORD + " " + PREFIX_TAG + pick(AddressBookGenerator.TAGS));
+        addCommand(5, () -> FindCommand.COMMAND_WORD + " " + PREFIX_HOMEWORK + pick(AddressBookGenerator.HOMEWORK));
+        addCommand(10, () -> ViewCommand.COMMAND_WORD + " " + pickIndex());
+        addCommand(10, () -> EditCommand.COMMAND_WORD + " " + pickIndex() + " " + PREFIX_PHONE
+                + (90000000 + random.nextInt(10000000)));
+        addCommand(8, () -> LessonEditCommand.COMMAND_WORD + " " + pickIndex() + " 1 " + PREFIX_HOMEWORK
+                + pick(AddressBookGenerator.HOMEWORK));
+        addCommand(5, () -> PaidCommand.COMMAND_WORD + " " + pickIndex() + " 1 " + PREFIX_PAID_AMOUNT + "10");
+        addCommand(4, () -> {
+            int first = pickIndex();
+            return TagAddCommand.COMMAND_WORD + " " + first + "-" + (first + random.nextInt(20)) + " "
+                    + PREFIX_TAG + pick(AddressBookGenerator.TAGS);
+        });
+        addCommand(2, () -> CancelDateCommand.COMMAND_WORD + " " + PREFIX_DATE + pickDate());
+        addCommand(2, () -> CancelDateCommand.COMMAND_WORD_UNCANCEL + " " + PREFIX_DATE + pickDate());
+        addCommand(4, () -> AddCommand.COMMAND_WORD + " " + PREFIX_NAME + "Load Test Student " + ++addedCount
+                + " " + PREFIX_PHONE + "91234567 " + PREFIX_ADDRESS + "1 Load Test Ave");
+        addCommand(3, () -> DeleteCommand.COMMAND_WORD + " " + pickIndex());
+        addCommand(5, () -> UndoCommand.COMMAND_WORD);
+        addCommand(3, () -> RedoCommand.COMMAND_WORD);
+        addCommand(2, () -> RemindCommand.COMMAND_WORD);
+        addCommand(2, () -> FeesCommand.COMMAND_WORD);
+        addCommand(2, () -> TagCommand.COMMAND_WORD);
+    }
+
+    /**
+     * Generates the address book, replays the commands and prints the latencies of each command word.
+     */
+    public static void main(String[] args) throws IOException, DataConversionException {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_STUDENT_COUNT;
+        int commandCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_COMMAND_COUNT;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+        Path dataDirectory = args.length > 3 ? Paths.get(args[3]) : DEFAULT_DATA_DIRECTORY;
+
+        long startTime = System.nanoTime();
+        Path addressBookFilePath = dataDirectory.resolve("addressbook.json");
+        AddressBookGenerator generator = new AddressBookGenerator(seed);
+        generator.generateAddressBook(studentCount, addressBookFilePath);
+        System.out.printf("Generated %d students in %.1f ms%n", studentCount, elapsedMillis(startTime));
+
+        startTime = System.nanoTime();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookFilePath);
+        ReadOnlyAddressBook addressBook = addressBookStorage.readAddressBook().orElseThrow();
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(addressBookFilePath);
+        Model model = new ModelManager(addressBook, userPrefs);
+        System.out.printf("Loaded %d students in %.1f ms%n", studentCount, elapsedMillis(startTime));
+
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(dataDirectory.resolve("preferences.json")));
+        Logic logic = new LogicManager(model, storage, Runnable::run);
+        // every command is logged at INFO, which would bury the report
+        Logger.getLogger(LogicManager.class.getSimpleName()).setLevel(Level.WARNING);
+        LoadTestHarness harness = new LoadTestHarness(seed, logic, generator.getLastTermStart());
+        harness.run(commandCount);
+        logic.flush();
+        harness.printReport();
+    }
+
+    private static double elapsedMillis(long startTime) {
+        return (System.nanoTime() - startTime) / NANOS_PER_MILLI;
+    }
+
+    private void addCommand(int weight, Supplier<String> commandText) {
+        commandMix.add(new WeightedCommand(weight, commandText));
+        totalWeight += weight;
+    }
+
+    /**
+     * Executes {@code commandCount} commands picked from the command mix,
+     * after executing a fraction as many commands to warm up.
+     */
+    private void run(int commandCount) {
+        int warmupCount = (int) (commandCount * WARMUP_FRACTION);
+        for (int i = 0; i < warmupCount + commandCount; i++) {
+            String commandText = pickCommand();
+            String commandWord = commandText.split(" ", 2)[0];
+
+            long startTime = System.nanoTime();
+            boolean isSuccessful = execute(commandText);
+            long latency = System.nanoTime() - startTime;
+
+            if (i >= warmupCount) {
+                latencies.computeIfAbsent(commandWord, word -> new ArrayList<>()).add(latency);
+                if (!isSuccessful) {
+                    failureCounts.merge(commandWord, 1, Integer::sum);
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes the command, which may fail as the commands are picked without checking the address book.
+     *
+     * @return True if the command succeeded.
+     */
+    private boolean execute(String commandText) {
+        try {
+            logic.execute(commandText);
+            return true;
+        } catch (CommandException | ParseException e) {
+            return false;
+        }
+    }
+
+    private void printReport() {
+        System.out.printf("%-10s %8s %8s %10s %10s %10s%n", "Command", "Count", "Failed", "p50 (ms)", "p99 (ms)",
+                "Max (ms)");
+        latencies.forEach((commandWord, commandLatencies) -> {
+            long[] sortedLatencies = commandLatencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sortedLatencies);
+            System.out.printf("%-10s %8d %8d %10.3f %10.3f %10.3f%n", commandWord, sortedLatencies.length,
+                    failureCounts.getOrDefault(commandWord, 0),
+                    percentile(sortedLatencies, 50) / NANOS_PER_MILLI,
+                    percentile(sortedLatencies, 99) / NANOS_PER_MILLI,
+                    sortedLatencies[sortedLatencies.length - 1] / NANOS_PER_MILLI);
+        });
+    }
+
+    /**
+     * Returns the {@code percent}-th percentile of the sorted values, by the nearest rank.
+     */
+    private static long percentile(long[] sortedValues, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sortedValues.length);
+        return sortedValues[Math.max(rank, 1) - 1];
+    }
+
+    private String pickCommand() {
+        int roll = random.nextInt(totalWeight);
+        for (WeightedCommand command : commandMix) {
+            roll -= command.weight;
+            if (roll < 0) {
+                return command.commandText.get();
+            }
+        }
+        throw new AssertionError("The weights of the commands add up to the total weight.");
+    }
+
+    private int pickIndex() {
+        return random.nextInt(Math.max(logic.getFilteredPersonList().size(), 1)) + 1;
+    }
+
+    private String pickDate() {
+        long days = lastTermStart.toEpochDay() - AddressBookGenerator.FIRST_TERM_START.toEpochDay()
+                + AddressBookGenerator.TERM_WEEKS * 7;
+        LocalDate date = AddressBookGenerator.FIRST_TERM_START.plusDays((long) (random.nextDouble() * days));
+        return Date.fromLocalDate(date).value;
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * A command in the command mix, picked in proportion to its weight.
+     */
+    private static class WeightedCommand {
+        private final int weight;
+        private final Supplier<String> commandText;
+
+        WeightedCommand(int weight, Supplier<String> commandText) {
+            this.weight = weight;
+            this.commandText = commandText;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ACAD_LEVEL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ACAD_STREAM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANCEL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FIND_CONDITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOMEWORK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PARENT_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PARENT_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RATES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHOOL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long tokenizing the arguments of a {@code find} command with all its prefixes takes
+ * as the arguments grow, with a tokenizer built once as the parsers do, and with one built for every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix[] FIND_PREFIXES = {PREFIX_FIND_CONDITION, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+        PREFIX_PARENT_PHONE, PREFIX_PARENT_EMAIL, PREFIX_ADDRESS, PREFIX_SCHOOL, PREFIX_ACAD_STREAM,
+        PREFIX_ACAD_LEVEL, PREFIX_REMARK, PREFIX_TAG, PREFIX_TIME, PREFIX_DATE, PREFIX_SUBJECT, PREFIX_CANCEL,
+        PREFIX_RATES, PREFIX_HOMEWORK};
+
+    @Param({"1", "10", "100"})
+    private int argumentCount;
+
+    private String argsString;
+    private ArgumentTokenizer tokenizer;
+
+    /**
+     * Builds the arguments of a {@code find} command with {@code argumentCount} names and as many tags.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < argumentCount; i++) {
+            builder.append(" ").append(PREFIX_NAME).append("Alex Yeo ").append(PREFIX_TAG).append("unpaid");
+        }
+        argsString = builder.toString();
+        tokenizer = new ArgumentTokenizer(FIND_PREFIXES);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeArgs_sharedTokenizer() {
+        return tokenizer.tokenizeArgs(argsString);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize_newTokenizer() {
+        return ArgumentTokenizer.tokenize(argsString, FIND_PREFIXES);
+    }
+}
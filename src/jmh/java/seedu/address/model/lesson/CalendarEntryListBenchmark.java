@@ -0,0 +1,61 @@
+package seedu.address.model.lesson;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookGenerator;
+
+/**
+ * Measures how long checking a lesson for clashes takes as the number of students grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CalendarEntryListBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int studentCount;
+
+    private CalendarEntryList calendarEntryList;
+    private Lesson clashingLesson;
+    private Lesson freeLesson;
+
+    /**
+     * Adds the lessons of {@code studentCount} students to the calendar.
+     */
+    @Setup
+    public void setUp() {
+        AddressBookGenerator generator = new AddressBookGenerator(AddressBookGenerator.DEFAULT_SEED);
+        List<Person> persons = generator.generatePersons(studentCount);
+        calendarEntryList = new CalendarEntryList();
+        calendarEntryList.resetLessons(persons);
+        clashingLesson = persons.get(studentCount / 2).getLessons().iterator().next();
+        freeLesson = generator.generateLesson();
+    }
+
+    @Benchmark
+    public boolean hasClashes_clashingLesson() {
+        return calendarEntryList.hasClashes(clashingLesson);
+    }
+
+    @Benchmark
+    public boolean hasClashes_freeLesson() {
+        return calendarEntryList.hasClashes(freeLesson);
+    }
+}
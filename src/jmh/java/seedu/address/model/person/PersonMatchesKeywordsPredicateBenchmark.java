@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.AddressBookGenerator;
+
+/**
+ * Measures how long finding students by name and tag takes as the number of students grows,
+ * with and without the search index of the address book.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PersonMatchesKeywordsPredicateBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int studentCount;
+
+    private List<Person> persons;
+    private PersonMatchesKeywordsPredicate predicate;
+    private PersonMatchesKeywordsPredicate indexedPredicate;
+
+    /**
+     * Generates {@code studentCount} students and the predicates to find them with.
+     */
+    @Setup
+    public void setUp() {
+        AddressBook addressBook = new AddressBookGenerator(AddressBookGenerator.DEFAULT_SEED)
+                .generateAddressBook(studentCount);
+        persons = addressBook.getPersonList();
+        predicate = createPredicate();
+        indexedPredicate = createPredicate();
+        indexedPredicate.setSearchIndex(addressBook.getPersonSearchIndex());
+    }
+
+    private static PersonMatchesKeywordsPredicate createPredicate() {
+        PersonMatchesKeywordsPredicate predicate = new PersonMatchesKeywordsPredicate();
+        predicate.setNameKeywords(List.of("David"));
+        predicate.setTagKeywords(List.of("unpaid"));
+        return predicate;
+    }
+
+    @Benchmark
+    public int test_allPersons() {
+        return countMatches(predicate);
+    }
+
+    @Benchmark
+    public int test_allPersonsWithSearchIndex() {
+        return countMatches(indexedPredicate);
+    }
+
+    private int countMatches(PersonMatchesKeywordsPredicate predicate) {
+        int matchCount = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matchCount++;
+            }
+        }
+        return matchCount;
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.testutil.AddressBookGenerator;
+
+/**
+ * Measures how long adding a student takes as the number of students grows.
+ * Every iteration adds {@link #ADDED_COUNT} new students to a list of {@code studentCount} students.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+public class UniquePersonListBenchmark {
+
+    private static final int ADDED_COUNT = 1000;
+
+    @Param({"100", "10000", "100000"})
+    private int studentCount;
+
+    private List<Person> persons;
+    private List<Person> addedPersons;
+    private UniquePersonList uniquePersonList;
+
+    /**
+     * Generates {@code studentCount} students and the students to add.
+     */
+    @Setup
+    public void setUp() {
+        AddressBookGenerator generator = new AddressBookGenerator(AddressBookGenerator.DEFAULT_SEED);
+        persons = generator.generatePersons(studentCount);
+        addedPersons = generator.generatePersons(ADDED_COUNT);
+    }
+
+    /**
+     * Resets the list to the {@code studentCount} students before every iteration.
+     */
+    @Setup(Level.Iteration)
+    public void resetList() {
+        uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(persons);
+    }
+
+    /**
+     * Adds the new students one at a time, as adding a student through the {@code add} command does.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ADDED_COUNT)
+    public UniquePersonList add() {
+        for (Person person : addedPersons) {
+            uniquePersonList.add(person);
+        }
+        return uniquePersonList;
+    }
+}
@@ -17,6 +17,9 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path recordingPath;
+    private Path metricsPath;
+    private Path exportPath;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,6 +29,39 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the file to write a flight recording of the app to, or null if the app should not be recorded.
+     */
+    public Path getRecordingPath() {
+        return recordingPath;
+    }
+
+    public void setRecordingPath(Path recordingPath) {
+        this.recordingPath = recordingPath;
+    }
+
+    /**
+     * Returns the file to append the timers of the app to, or null if the timers should not be written.
+     */
+    public Path getMetricsPath() {
+        return metricsPath;
+    }
+
+    public void setMetricsPath(Path metricsPath) {
+        this.metricsPath = metricsPath;
+    }
+
+    /**
+     * Returns the file to export the address book to as JSON at startup, or null if it should not be exported.
+     */
+    public Path getExportPath() {
+        return exportPath;
+    }
+
+    public void setExportPath(Path exportPath) {
+        this.exportPath = exportPath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -40,6 +76,27 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String recordingPathParameter = namedParameters.get("record");
+        if (recordingPathParameter != null && !FileUtil.isValidPath(recordingPathParameter)) {
+            logger.warning("Invalid recording path " + recordingPathParameter + ". Not recording.");
+            recordingPathParameter = null;
+        }
+        appParameters.setRecordingPath(recordingPathParameter != null ? Paths.get(recordingPathParameter) : null);
+
+        String metricsPathParameter = namedParameters.get("metrics");
+        if (metricsPathParameter != null && !FileUtil.isValidPath(metricsPathParameter)) {
+            logger.warning("Invalid metrics path " + metricsPathParameter + ". Not writing metrics.");
+            metricsPathParameter = null;
+        }
+        appParameters.setMetricsPath(metricsPathParameter != null ? Paths.get(metricsPathParameter) : null);
+
+        String exportPathParameter = namedParameters.get("export");
+        if (exportPathParameter != null && !FileUtil.isValidPath(exportPathParameter)) {
+            logger.warning("Invalid export path " + exportPathParameter + ". Not exporting.");
+            exportPathParameter = null;
+        }
+        appParameters.setExportPath(exportPathParameter != null ? Paths.get(exportPathParameter) : null);
+
         return appParameters;
     }
 
@@ -54,11 +111,14 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getRecordingPath(), otherAppParameters.getRecordingPath())
+                && Objects.equals(getMetricsPath(), otherAppParameters.getMetricsPath())
+                && Objects.equals(getExportPath(), otherAppParameters.getExportPath());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, recordingPath, metricsPath, exportPath);
     }
 }
@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,6 +12,8 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
+import seedu.address.commons.core.flightrecorder.FlightRecording;
+import seedu.address.commons.core.metrics.MetricsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
@@ -18,12 +21,14 @@ import seedu.address.logic.FeesCalculator;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookConverter;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
@@ -41,12 +46,14 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(1, 4, 0, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final Duration METRICS_DUMP_INTERVAL = Duration.ofMinutes(5);
 
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected Path metricsFilePath;
 
     @Override
     public void init() throws Exception {
@@ -54,22 +61,63 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
+        if (appParameters.getRecordingPath() != null) {
+            FlightRecording.start(appParameters.getRecordingPath());
+        }
+        metricsFilePath = appParameters.getMetricsPath();
         config = initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
-
         initLogging(config);
 
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        if (appParameters.getExportPath() != null) {
+            exportAddressBook(addressBookStorage, appParameters.getExportPath());
+        }
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
+        if (metricsFilePath != null) {
+            MetricsCenter.startPeriodicDumps(metricsFilePath, METRICS_DUMP_INTERVAL);
+        }
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns a storage for the address book data file in the format set in {@code userPrefs},
+     * converting the data file to that format first if it is stored in another format.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookFormat format = userPrefs.getAddressBookFormat();
+        try {
+            AddressBookConverter.convertToFormat(addressBookFilePath, format);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Data file could not be converted to " + format + ": " + e);
+        }
+        return AddressBookConverter.createStorage(addressBookFilePath, format);
+    }
+
+    /**
+     * Writes the address book in {@code addressBookStorage} to {@code exportPath} as human-readable JSON,
+     * such as to back up or inspect a data file stored in the binary format.
+     */
+    private void exportAddressBook(AddressBookStorage addressBookStorage, Path exportPath) {
+        try {
+            if (AddressBookConverter.convert(addressBookStorage, new JsonAddressBookStorage(exportPath))) {
+                logger.info("Exported data file to " + exportPath);
+            } else {
+                logger.warning("Data file not found. Nothing exported to " + exportPath);
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Data file could not be exported to " + exportPath + ": " + e);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -78,12 +126,14 @@ public class MainApp extends Application {
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
+        boolean isDataFileRead = false;
         try {
             addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample AddressBook");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            isDataFileRead = addressBookOptional.isPresent();
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
             initialData = new AddressBook();
@@ -95,7 +145,13 @@ public class MainApp extends Application {
         // update fees upon initialisation
         Model model = new ModelManager(initialData, userPrefs);
         FeesCalculator feesCalculator = new FeesCalculator(model.getLastUpdatedDate(), LocalDateTime.now());
-        model = feesCalculator.updateAllLessonOutstandingFees(model);
+        boolean hasUpdatedFees = feesCalculator.updateAllLessonOutstandingFees(model);
+
+        if (isDataFileRead && !hasUpdatedFees) {
+            // the data file is unchanged as no lesson has ended since it was last updated
+            logger.info("No outstanding fees to update");
+            return model;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
@@ -188,10 +244,19 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("Last Updated Date " + model.getLastUpdatedDate());
         logger.info("============================ [ Stopping Address Book ] =============================");
+        try {
+            logic.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (metricsFilePath != null) {
+            MetricsCenter.stopPeriodicDumps(metricsFilePath);
+        }
+        FlightRecording.stop();
     }
 }
@@ -0,0 +1,58 @@
+package seedu.address.commons.core.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import seedu.address.commons.core.metrics.MetricsCenter;
+
+/**
+ * Flight recorder event of the whole address book being saved to its data file.
+ */
+@Name("seedu.address.AddressBookSave")
+@Label("Address Book Save")
+@Category({"TAB", "Storage"})
+@Description("The whole address book saved to its data file")
+public class AddressBookSaveEvent extends Event {
+
+    @Label("Command Word")
+    @Description("Word of the last command that requested the save")
+    private final String commandWord;
+
+    @Label("Person Count")
+    private int personCount;
+
+    @Label("Bytes Written")
+    @DataAmount
+    private long bytesWritten;
+
+    private AddressBookSaveEvent() {
+        this.commandWord = MetricsCenter.getCommandWord();
+    }
+
+    /**
+     * Starts timing a save.
+     */
+    public static AddressBookSaveEvent start() {
+        AddressBookSaveEvent event = new AddressBookSaveEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing the save, and records it if the event is enabled and above its threshold.
+     *
+     * @param personCount Persons saved.
+     * @param bytesWritten Size of the data file written.
+     */
+    public void finish(int personCount, long bytesWritten) {
+        end();
+        if (shouldCommit()) {
+            this.personCount = personCount;
+            this.bytesWritten = bytesWritten;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.commons.core.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event of a command being parsed and executed.
+ */
+@Name("seedu.address.Command")
+@Label("Command")
+@Category({"TAB", "Logic"})
+@Description("A command parsed and executed")
+public class CommandEvent extends Event {
+
+    @Label("Command Word")
+    private final String commandWord;
+
+    @Label("Successful")
+    private boolean isSuccessful;
+
+    @Label("Person Count")
+    @Description("Persons in the address book after the command")
+    private int personCount;
+
+    private CommandEvent(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    /**
+     * Starts timing the command {@code commandWord}.
+     */
+    public static CommandEvent start(String commandWord) {
+        CommandEvent event = new CommandEvent(commandWord);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing the command, and records it if the event is enabled and above its threshold.
+     *
+     * @param isSuccessful Whether the command was executed without errors.
+     * @param personCount Persons in the address book after the command.
+     */
+    public void finish(boolean isSuccessful, int personCount) {
+        end();
+        if (shouldCommit()) {
+            this.isSuccessful = isSuccessful;
+            this.personCount = personCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.commons.core.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import seedu.address.commons.core.metrics.MetricsCenter;
+
+/**
+ * Flight recorder event of the outstanding fees of all lessons being brought up to date.
+ */
+@Name("seedu.address.FeesUpdate")
+@Label("Fees Update")
+@Category({"TAB", "Logic"})
+@Description("The outstanding fees of all lessons brought up to date")
+public class FeesUpdateEvent extends Event {
+
+    @Label("Command Word")
+    private final String commandWord;
+
+    @Label("Person Count")
+    @Description("Persons whose lessons were checked")
+    private int personCount;
+
+    @Label("Edited Person Count")
+    @Description("Persons whose outstanding fees changed")
+    private int editedPersonCount;
+
+    private FeesUpdateEvent() {
+        this.commandWord = MetricsCenter.getCommandWord();
+    }
+
+    /**
+     * Starts timing an update of the outstanding fees.
+     */
+    public static FeesUpdateEvent start() {
+        FeesUpdateEvent event = new FeesUpdateEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing the update, and records it if the event is enabled and above its threshold.
+     *
+     * @param personCount Persons whose lessons were checked.
+     * @param editedPersonCount Persons whose outstanding fees changed.
+     */
+    public void finish(int personCount, int editedPersonCount) {
+        end();
+        if (shouldCommit()) {
+            this.personCount = personCount;
+            this.editedPersonCount = editedPersonCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.commons.core.flightrecorder;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.logging.Logger;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Runs a continuous flight recording of TAB, with the JVM's default events and TAB's own events,
+ * which is written to a file when TAB exits.
+ *
+ * Only the last {@link #MAX_AGE} of the recording is kept, so TAB can be left running with the recording on.
+ */
+public class FlightRecording {
+
+    public static final Duration MAX_AGE = Duration.ofMinutes(30);
+
+    private static final Logger logger = LogsCenter.getLogger(FlightRecording.class);
+    private static final String RECORDING_NAME = "TAB";
+    private static final String CONFIGURATION_NAME = "default";
+
+    private static Recording recording;
+
+    private FlightRecording() {} // prevents instantiation
+
+    /**
+     * Starts recording, to be written to {@code filePath} when the recording is stopped or the JVM exits.
+     * Does nothing but log a warning if the JVM cannot record.
+     */
+    public static synchronized void start(Path filePath) {
+        requireNonNull(filePath);
+        if (recording != null) {
+            logger.warning("Flight recording already started");
+            return;
+        }
+        if (!FlightRecorder.isAvailable()) {
+            logger.warning("Flight recording is not available in this JVM");
+            return;
+        }
+
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            Recording newRecording = new Recording(Configuration.getConfiguration(CONFIGURATION_NAME));
+            newRecording.setName(RECORDING_NAME);
+            newRecording.setToDisk(true);
+            newRecording.setMaxAge(MAX_AGE);
+            newRecording.setDumpOnExit(true);
+            newRecording.setDestination(filePath);
+            newRecording.start();
+            recording = newRecording;
+            logger.info("Started flight recording to " + filePath);
+        } catch (IOException | ParseException e) {
+            logger.warning("Failed to start flight recording " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns true if a recording has been started and not stopped.
+     */
+    public static synchronized boolean isRecording() {
+        return recording != null;
+    }
+
+    /**
+     * Stops the recording, if started, and writes it to its file.
+     */
+    public static synchronized void stop() {
+        if (recording == null) {
+            return;
+        }
+        recording.stop();
+        recording.close();
+        recording = null;
+        logger.info("Stopped flight recording");
+    }
+}
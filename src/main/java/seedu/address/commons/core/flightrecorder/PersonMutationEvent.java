@@ -0,0 +1,66 @@
+package seedu.address.commons.core.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import seedu.address.commons.core.metrics.MetricsCenter;
+
+/**
+ * Flight recorder event of a person being added to, edited in or removed from the address book,
+ * along with the calendar, tags and indexes kept in step with the persons.
+ */
+@Name("seedu.address.PersonMutation")
+@Label("Person Mutation")
+@Category({"TAB", "Model"})
+@Description("A person added to, edited in or removed from the address book")
+public class PersonMutationEvent extends Event {
+
+    public static final String ADD = "add";
+    public static final String SET = "set";
+    public static final String REMOVE = "remove";
+
+    @Label("Operation")
+    private final String operation;
+
+    @Label("Command Word")
+    private final String commandWord;
+
+    @Label("Person Count")
+    @Description("Persons in the address book after the mutation")
+    private int personCount;
+
+    @Label("Entry Count")
+    @Description("Calendar entries in the address book after the mutation")
+    private int entryCount;
+
+    private PersonMutationEvent(String operation) {
+        this.operation = operation;
+        this.commandWord = MetricsCenter.getCommandWord();
+    }
+
+    /**
+     * Starts timing the {@code operation} on the address book.
+     */
+    public static PersonMutationEvent start(String operation) {
+        PersonMutationEvent event = new PersonMutationEvent(operation);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing the operation, and records it if the event is enabled and above its threshold.
+     *
+     * @param personCount Persons in the address book after the operation.
+     * @param entryCount Calendar entries in the address book after the operation.
+     */
+    public void finish(int personCount, int entryCount) {
+        end();
+        if (shouldCommit()) {
+            this.personCount = personCount;
+            this.entryCount = entryCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package seedu.address.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Keeps the timers of the operations of the app, such as parsing and executing commands, tagged by the word
+ * of the command being executed on the thread that runs the operation.
+ *
+ * Time an operation with {@code MetricsCenter.time(name, () -> ...)}, or stop the sample returned by
+ * {@link #start(String)} in a {@code finally} block when the operation does not fit in a lambda.
+ * The bytes allocated by the operation are measured too if the JVM supports measuring the bytes
+ * allocated by a thread.
+ */
+public class MetricsCenter {
+
+    /** Tag of the operations run outside of any command, such as at startup. */
+    public static final String NO_COMMAND = "-";
+
+    public static final String DUMP_HEADER = "time,name,tag,count,total_ms,p50_ms,p99_ms,max_ms,mean_allocated_bytes";
+
+    private static final Logger logger = LogsCenter.getLogger(MetricsCenter.class);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final Comparator<Timer> TIMER_ORDER = Comparator.comparing(Timer::getName)
+            .thenComparing(Timer::getTag);
+
+    private static final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> commandWord = ThreadLocal.withInitial(() -> NO_COMMAND);
+    private static final com.sun.management.ThreadMXBean allocationCounter = getAllocationCounter();
+    private static ScheduledExecutorService dumpExecutor;
+
+    private MetricsCenter() {} // prevents instantiation
+
+    private static com.sun.management.ThreadMXBean getAllocationCounter() {
+        ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMxBean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationCounter = (com.sun.management.ThreadMXBean) threadMxBean;
+        return allocationCounter.isThreadAllocatedMemorySupported()
+                && allocationCounter.isThreadAllocatedMemoryEnabled()
+                ? allocationCounter
+                : null;
+    }
+
+    /**
+     * Tags the operations run on the calling thread with {@code word} until the returned sample is stopped,
+     * and starts timing the command as the operation {@code name}.
+     *
+     * @param name Name of the operation that runs the command.
+     * @param word Word of the command.
+     */
+    public static Sample startCommand(String name, String word) {
+        requireNonNull(word);
+        String previousWord = commandWord.get();
+        commandWord.set(word);
+        return new Sample(getTimer(name, word), () -> commandWord.set(previousWord));
+    }
+
+    /**
+     * Starts timing the operation {@code name}, tagged by the word of the command run on the calling thread.
+     */
+    public static Sample start(String name) {
+        return start(name, commandWord.get());
+    }
+
+    /**
+     * Starts timing the operation {@code name}, tagged by {@code tag}.
+     */
+    public static Sample start(String name, String tag) {
+        return new Sample(getTimer(name, tag), () -> {});
+    }
+
+    /**
+     * Runs {@code action}, timed as the operation {@code name}.
+     */
+    public static <E extends Exception> void time(String name, TimedAction<E> action) throws E {
+        Sample sample = start(name);
+        try {
+            action.run();
+        } finally {
+            sample.stop();
+        }
+    }
+
+    /**
+     * Runs {@code operation}, timed as the operation {@code name}, and returns its result.
+     */
+    public static <T, E extends Exception> T time(String name, TimedOperation<T, E> operation) throws E {
+        Sample sample = start(name);
+        try {
+            return operation.run();
+        } finally {
+            sample.stop();
+        }
+    }
+
+    /**
+     * Returns the word of the command run on the calling thread, or {@link #NO_COMMAND}.
+     */
+    public static String getCommandWord() {
+        return commandWord.get();
+    }
+
+    private static Timer getTimer(String name, String tag) {
+        requireNonNull(name);
+        requireNonNull(tag);
+        return timers.computeIfAbsent(name + "\n" + tag, key -> new Timer(name, tag));
+    }
+
+    /**
+     * Returns the timers of all the operations timed, ordered by name then tag.
+     */
+    public static List<Timer> getTimers() {
+        List<Timer> sortedTimers = new ArrayList<>(timers.values());
+        sortedTimers.sort(TIMER_ORDER);
+        return sortedTimers;
+    }
+
+    /**
+     * Removes all the timers.
+     */
+    public static void clear() {
+        timers.clear();
+    }
+
+    private static long getAllocatedBytes() {
+        return allocationCounter == null
+                ? Timer.ALLOCATION_UNKNOWN
+                : allocationCounter.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Appends the current values of all the timers to {@code filePath} as comma separated values,
+     * creating the file with a header if it does not exist.
+     *
+     * @param filePath File to append to.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void dump(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        boolean isNewFile = !FileUtil.isFileExists(filePath);
+        if (isNewFile) {
+            FileUtil.createIfMissing(filePath);
+        }
+
+        String time = LocalDateTime.now().toString();
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND)) {
+            if (isNewFile) {
+                writer.write(DUMP_HEADER);
+                writer.newLine();
+            }
+            for (Timer timer : getTimers()) {
+                writer.write(String.join(",", time, timer.getName(), timer.getTag(),
+                        String.valueOf(timer.getCount()),
+                        toMillis(timer.getTotalNanos()),
+                        toMillis(timer.getPercentileNanos(50)),
+                        toMillis(timer.getPercentileNanos(99)),
+                        toMillis(timer.getMaxNanos()),
+                        String.valueOf(timer.getMeanAllocatedBytes())));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Returns {@code nanos} in milliseconds, formatted to three decimal places.
+     */
+    public static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Dumps the timers to {@code filePath} every {@code interval} on a background thread,
+     * until {@link #stopPeriodicDumps(Path)} is called.
+     *
+     * @param filePath File to append to.
+     * @param interval Time between two dumps.
+     */
+    public static synchronized void startPeriodicDumps(Path filePath, Duration interval) {
+        requireNonNull(filePath);
+        requireNonNull(interval);
+        stopPeriodicDumps();
+        dumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread dumpThread = new Thread(runnable, "Metrics: Dump Thread");
+            dumpThread.setDaemon(true);
+            return dumpThread;
+        });
+        dumpExecutor.scheduleAtFixedRate(() -> dumpQuietly(filePath), interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the periodic dumps, if started, and dumps the timers to {@code filePath} a last time.
+     */
+    public static synchronized void stopPeriodicDumps(Path filePath) {
+        stopPeriodicDumps();
+        dumpQuietly(filePath);
+    }
+
+    private static synchronized void stopPeriodicDumps() {
+        if (dumpExecutor != null) {
+            dumpExecutor.shutdownNow();
+            dumpExecutor = null;
+        }
+    }
+
+    private static void dumpQuietly(Path filePath) {
+        try {
+            dump(filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to dump metrics " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * An operation that returns nothing, timed by {@link #time(String, TimedAction)}.
+     */
+    @FunctionalInterface
+    public interface TimedAction<E extends Exception> {
+        void run() throws E;
+    }
+
+    /**
+     * An operation that returns a result, timed by {@link #time(String, TimedOperation)}.
+     */
+    @FunctionalInterface
+    public interface TimedOperation<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    /**
+     * A run of an operation being timed, which is recorded when it is stopped.
+     */
+    public static class Sample {
+        private final Timer timer;
+        private final Runnable onClose;
+        private final long startAllocatedBytes;
+        private final long startNanos;
+
+        private Sample(Timer timer, Runnable onClose) {
+            this.timer = timer;
+            this.onClose = onClose;
+            startAllocatedBytes = getAllocatedBytes();
+            startNanos = System.nanoTime();
+        }
+
+        /**
+         * Records the time taken since this sample was started.
+         */
+        public void stop() {
+            long nanos = System.nanoTime() - startNanos;
+            long endAllocatedBytes = getAllocatedBytes();
+            timer.record(nanos, startAllocatedBytes == Timer.ALLOCATION_UNKNOWN
+                    ? Timer.ALLOCATION_UNKNOWN
+                    : endAllocatedBytes - startAllocatedBytes);
+            onClose.run();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Records how long an operation took, and how many bytes it allocated, each time it ran.
+ *
+ * Durations are counted in a histogram of buckets that double in size, starting from a microsecond,
+ * so percentiles are only accurate to within a factor of two, but recording a duration takes constant time
+ * and space however many durations are recorded.
+ * Timers are thread-safe.
+ */
+public class Timer {
+
+    /** Allocated bytes of a sample whose allocations could not be measured. */
+    public static final long ALLOCATION_UNKNOWN = -1;
+
+    private static final long NANOS_PER_MICRO = 1000;
+    private static final int BUCKET_COUNT = 40;
+
+    private final String name;
+    private final String tag;
+
+    // guarded by this
+    private final long[] buckets = new long[BUCKET_COUNT];
+    private long count = 0;
+    private long totalNanos = 0;
+    private long maxNanos = 0;
+    private long allocatedCount = 0;
+    private long totalAllocatedBytes = 0;
+
+    /**
+     * Constructs a {@code Timer} of the operation {@code name}, run by the command {@code tag}.
+     *
+     * @param name Name of the operation timed.
+     * @param tag Word of the command that ran the operation.
+     */
+    public Timer(String name, String tag) {
+        requireNonNull(name);
+        requireNonNull(tag);
+        this.name = name;
+        this.tag = tag;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * Records one run of the operation.
+     *
+     * @param nanos Duration of the run in nanoseconds.
+     * @param allocatedBytes Bytes allocated by the run, or {@link #ALLOCATION_UNKNOWN}.
+     */
+    public synchronized void record(long nanos, long allocatedBytes) {
+        long duration = Math.max(nanos, 0);
+        buckets[getBucket(duration)]++;
+        count++;
+        totalNanos += duration;
+        maxNanos = Math.max(maxNanos, duration);
+        if (allocatedBytes != ALLOCATION_UNKNOWN) {
+            allocatedCount++;
+            totalAllocatedBytes += allocatedBytes;
+        }
+    }
+
+    /**
+     * Returns the bucket of durations from 2^(i-1) up to 2^i microseconds, or the first bucket
+     * for durations below a microsecond.
+     */
+    private static int getBucket(long nanos) {
+        long micros = nanos / NANOS_PER_MICRO;
+        int bucket = 64 - Long.numberOfLeadingZeros(micros);
+        return Math.min(bucket, BUCKET_COUNT - 1);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public synchronized long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the mean bytes allocated by a run, or {@link #ALLOCATION_UNKNOWN} if no allocations were measured.
+     */
+    public synchronized long getMeanAllocatedBytes() {
+        return allocatedCount == 0 ? ALLOCATION_UNKNOWN : totalAllocatedBytes / allocatedCount;
+    }
+
+    /**
+     * Returns an upper bound of the duration of the {@code percent}-th percentile of the runs in nanoseconds,
+     * which is at most twice the actual duration and at most the longest duration.
+     *
+     * @param percent Percentile between 0 and 100.
+     */
+    public synchronized long getPercentileNanos(double percent) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max((long) Math.ceil(percent / 100 * count), 1);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += buckets[bucket];
+            if (seen >= rank) {
+                return Math.min((1L << bucket) * NANOS_PER_MICRO, maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+}
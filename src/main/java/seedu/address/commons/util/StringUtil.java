@@ -67,6 +67,37 @@ public class StringUtil {
         return preppedSentence.contains(preppedSubstring);
     }
 
+    /**
+     * Returns true if the {@code sentence} contains the {@code lowerCaseSubstring}, ignoring the case of
+     * {@code sentence}. Unlike {@link #containsSubstringIgnoreCase(String, String)}, no lower case copy of
+     * {@code sentence} is created, so the substring must already be trimmed and in lower case.
+     * <br>examples:<pre>
+     *       containsLowerCaseSubstringIgnoreCase("ABc def", "abc") == true
+     *       containsLowerCaseSubstringIgnoreCase("ABc def", "c d") == true
+     *       containsLowerCaseSubstringIgnoreCase("ABc def", "ABC") == false //substring is not in lower case
+     *       </pre>
+     *
+     * @param sentence           Sentence string to be checked and cannot be null.
+     * @param lowerCaseSubstring Lower case string to search and cannot be null.
+     */
+    public static boolean containsLowerCaseSubstringIgnoreCase(String sentence, String lowerCaseSubstring) {
+        requireNonNull(sentence);
+        requireNonNull(lowerCaseSubstring);
+
+        int substringLength = lowerCaseSubstring.length();
+        for (int start = 0; start + substringLength <= sentence.length(); start++) {
+            int i = 0;
+            while (i < substringLength
+                    && Character.toLowerCase(sentence.charAt(start + i)) == lowerCaseSubstring.charAt(i)) {
+                i++;
+            }
+            if (i == substringLength) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      *
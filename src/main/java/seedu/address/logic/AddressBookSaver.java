@@ -0,0 +1,199 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.metrics.MetricsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.LastUpdatedDate;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PersonChange;
+import seedu.address.storage.Storage;
+
+/**
+ * Saves the address book to storage behind the commands that modify it.
+ *
+ * Saves are run on the given executor, so that commands do not wait for the file to be written.
+ * Usually only the changes to the persons are saved, and the changes requested while a save is pending
+ * are saved together in one batch. The whole address book has to be saved instead once
+ * {@link #COMPACTION_THRESHOLD} changes have been saved since it was last saved, so that the changes
+ * can be compacted into the data file, or after a save failed, as the changes that failed to be saved are lost.
+ * Failed saves are recorded to be reported later.
+ * Saves are timed, and recorded by the flight recorder, under the word of the last command that requested them.
+ */
+public class AddressBookSaver {
+    /** Number of changes saved after which the whole address book has to be saved. */
+    public static final int COMPACTION_THRESHOLD = 500;
+
+    public static final String METRIC_SAVE = "save";
+    public static final String METRIC_SAVE_CHANGES = "saveChanges";
+
+    private final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+
+    private final Storage storage;
+    private final Executor executor;
+
+    // the saves requested but not started, guarded by this
+    private ReadOnlyAddressBook pendingAddressBook;
+    private final List<PersonChange> pendingChanges = new ArrayList<>();
+    private LastUpdatedDate pendingLastUpdatedDate;
+    private String pendingCommandWord = MetricsCenter.NO_COMMAND;
+    private boolean isSaveScheduled = false;
+
+    // the state of the storage, only changed while holding writeLock
+    private final Object writeLock = new Object();
+    private int savedChangeCount = 0;
+    private volatile boolean isFullSaveNeeded = false;
+
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+
+    /**
+     * Constructs an {@code AddressBookSaver} that saves to {@code storage} on {@code executor}.
+     * The address book in {@code storage} must be the same as the address book changes are requested for.
+     *
+     * @param storage Storage to save the address book to.
+     * @param executor Executor to run the saves on.
+     */
+    public AddressBookSaver(Storage storage, Executor executor) {
+        requireNonNull(storage);
+        requireNonNull(executor);
+        this.storage = storage;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns true if the next save has to be of the whole address book instead of the changes.
+     */
+    public boolean isFullSaveNeeded() {
+        return isFullSaveNeeded;
+    }
+
+    /**
+     * Schedules the whole address book to be saved, replacing the saves that have not started yet.
+     *
+     * @param snapshot Data of the address book to save, which must not be modified afterwards.
+     */
+    public void requestSave(ReadOnlyAddressBook snapshot) {
+        requireNonNull(snapshot);
+        synchronized (this) {
+            pendingAddressBook = snapshot;
+            pendingChanges.clear();
+            pendingCommandWord = MetricsCenter.getCommandWord();
+        }
+        scheduleSave();
+    }
+
+    /**
+     * Schedules the changes made to the address book since the last requested save to be saved.
+     *
+     * @param changes Changes to the persons, in the order they were made.
+     * @param lastUpdatedDate Last updated date of the address book after the changes.
+     */
+    public void requestSaveChanges(List<PersonChange> changes, LastUpdatedDate lastUpdatedDate) {
+        requireAllNonNull(changes, lastUpdatedDate);
+        synchronized (this) {
+            pendingChanges.addAll(changes);
+            pendingLastUpdatedDate = lastUpdatedDate;
+            pendingCommandWord = MetricsCenter.getCommandWord();
+        }
+        scheduleSave();
+    }
+
+    private void scheduleSave() {
+        synchronized (this) {
+            if (isSaveScheduled) {
+                return;
+            }
+            isSaveScheduled = true;
+        }
+        executor.execute(this::saveInBackground);
+    }
+
+    /**
+     * Returns the failure of the last save that failed since this method was last called, if any.
+     */
+    public Optional<IOException> pollFailure() {
+        return Optional.ofNullable(failure.getAndSet(null));
+    }
+
+    /**
+     * Runs the pending save, if any, on the calling thread.
+     * When this method returns normally, all the saves requested have been written to storage.
+     *
+     * @throws IOException If the pending save failed.
+     */
+    public void flush() throws IOException {
+        // waits for any save in progress on the executor
+        synchronized (writeLock) {
+            savePending();
+            failure.set(null);
+        }
+    }
+
+    private void saveInBackground() {
+        try {
+            savePending();
+        } catch (IOException ioe) {
+            logger.warning("Failed to save address book " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    /**
+     * Saves the address book, then the changes, requested since the last save.
+     * If a save fails, the failure is recorded and the whole address book has to be saved next.
+     */
+    private void savePending() throws IOException {
+        synchronized (writeLock) {
+            ReadOnlyAddressBook addressBook;
+            List<PersonChange> changes;
+            LastUpdatedDate lastUpdatedDate;
+            String commandWord;
+            synchronized (this) {
+                addressBook = pendingAddressBook;
+                changes = new ArrayList<>(pendingChanges);
+                lastUpdatedDate = pendingLastUpdatedDate;
+                commandWord = pendingCommandWord;
+                pendingAddressBook = null;
+                pendingChanges.clear();
+                isSaveScheduled = false;
+            }
+
+            try {
+                if (addressBook != null) {
+                    MetricsCenter.Sample sample = MetricsCenter.startCommand(METRIC_SAVE, commandWord);
+                    try {
+                        storage.saveAddressBook(addressBook);
+                    } finally {
+                        sample.stop();
+                    }
+                    savedChangeCount = 0;
+                    isFullSaveNeeded = false;
+                }
+                // changes saved after a failed save may not be applied to the data in storage
+                if (!changes.isEmpty() && !isFullSaveNeeded) {
+                    MetricsCenter.Sample sample = MetricsCenter.startCommand(METRIC_SAVE_CHANGES, commandWord);
+                    try {
+                        storage.saveAddressBookChanges(changes, lastUpdatedDate);
+                    } finally {
+                        sample.stop();
+                    }
+                    savedChangeCount += changes.size();
+                    isFullSaveNeeded = savedChangeCount >= COMPACTION_THRESHOLD;
+                }
+            } catch (IOException ioe) {
+                isFullSaveNeeded = true;
+                failure.set(ioe);
+                throw ioe;
+            }
+        }
+    }
+}
@@ -10,9 +10,9 @@ public interface Calculator {
      * Calculates and updates all students' lesson's outstanding fees.
      *
      * @param model Model to be updated.
-     * @return Updated model.
+     * @return True if the outstanding fees of any lesson changed.
      */
-    Model updateAllLessonOutstandingFees(Model model);
+    boolean updateAllLessonOutstandingFees(Model model);
 
     /**
      * Calculates one student's total fee by summing up all outstanding
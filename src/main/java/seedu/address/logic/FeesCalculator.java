@@ -1,34 +1,32 @@
 package seedu.address.logic;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.time.DayOfWeek;
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
-import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
+import seedu.address.commons.core.flightrecorder.FeesUpdateEvent;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.LastUpdatedDate;
 import seedu.address.model.Model;
 import seedu.address.model.lesson.Date;
-import seedu.address.model.lesson.Homework;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.lesson.LessonRates;
 import seedu.address.model.lesson.MakeUpLesson;
 import seedu.address.model.lesson.Money;
 import seedu.address.model.lesson.OutstandingFees;
 import seedu.address.model.lesson.RecurringLesson;
-import seedu.address.model.lesson.Subject;
 import seedu.address.model.lesson.TimeRange;
 import seedu.address.model.person.Person;
 import seedu.address.model.util.PersonUtil;
@@ -36,15 +34,22 @@ import seedu.address.model.util.PersonUtil;
 /**
  * Responsible for the automated updates and calculation of each lesson's fees.
  * Many lessons to 1 FeeCalculator.
+ * Lessons are counted on epoch days and minutes and fees are computed in cents,
+ * so lessons whose fees did not change are left untouched.
  */
 public class FeesCalculator implements Calculator {
     public static final String MESSAGE_PAY_TOO_MUCH = "Payment amount exceeds current "
             + "outstanding fees. Invalid transaction.";
 
     public static final DecimalFormat DECIMAL_FORMAT = new DecimalFormat("0.00");
-    private static final float numberOfMinutesInAnHour = 60.00F;
-    private final LocalDateTime currentDateTime;
-    private final LastUpdatedDate lastUpdated;
+    private static final long MINUTES_PER_HOUR = 60;
+    private static final long MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+    private static final long DAYS_PER_WEEK = 7;
+    private static final long MINUTES_PER_WEEK = DAYS_PER_WEEK * MINUTES_PER_DAY;
+
+    // last updated and current date times as the number of minutes since the epoch
+    private final long lastUpdatedMinute;
+    private final long currentMinute;
 
     /**
      * Constructs a {@code FeesCalculator}
@@ -53,137 +58,134 @@ public class FeesCalculator implements Calculator {
      * @param currentDateTime Current Date and Time.
      */
     public FeesCalculator(LastUpdatedDate lastUpdatedDate, LocalDateTime currentDateTime) {
-        lastUpdated = lastUpdatedDate;
-        this.currentDateTime = currentDateTime.truncatedTo(ChronoUnit.MINUTES);
+        lastUpdatedMinute = toEpochMinute(lastUpdatedDate.dateTime);
+        currentMinute = toEpochMinute(currentDateTime.truncatedTo(ChronoUnit.MINUTES));
+    }
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return dateTime.toLocalDate().toEpochDay() * MINUTES_PER_DAY + dateTime.toLocalTime().toSecondOfDay() / 60;
     }
 
     /**
      * Updates all lessons in model to the updated outstanding fees.
+     * Only persons with at least one lesson that ended since the last update are replaced,
+     * and they are replaced in a single batch.
      *
      * @param model Model to be updated.
-     * @return Updated model with correct outstanding fees.
+     * @return True if the outstanding fees of any lesson changed.
      */
     @Override
-    public Model updateAllLessonOutstandingFees(Model model) {
-        List<Person> personList = model.getFilteredPersonList();
-
-        for (Person targetPerson : personList) {
-            model.setPerson(targetPerson, createEditedPerson(targetPerson));
+    public boolean updateAllLessonOutstandingFees(Model model) {
+        FeesUpdateEvent event = FeesUpdateEvent.start();
+        Map<Person, Person> editedPersons = new LinkedHashMap<>();
+
+        for (Person targetPerson : model.getFilteredPersonList()) {
+            Person editedPerson = createEditedPerson(targetPerson);
+            if (editedPerson != targetPerson) {
+                editedPersons.put(targetPerson, editedPerson);
+            }
         }
 
+        if (!editedPersons.isEmpty()) {
+            model.replacePersons(editedPersons);
+        }
         model.setLastUpdatedDate();
+        event.finish(model.getFilteredPersonList().size(), editedPersons.size());
 
-
-        return model;
+        return !editedPersons.isEmpty();
     }
 
+    /**
+     * Returns the person with updated outstanding fees, or {@code personToEdit} itself if no fees changed.
+     */
     private Person createEditedPerson(Person personToEdit) {
         assert personToEdit != null;
 
-        List<Lesson> lessonList = new ArrayList<>(personToEdit.getLessons());
-
-        for (int i = 0; i < lessonList.size(); i++) {
-            lessonList.set(i, updateLessonOutstandingFeesField(lessonList.get(i)));
+        List<Lesson> lessonList = null;
+        for (Lesson lesson : personToEdit.getLessons()) {
+            Lesson updatedLesson = updateLessonOutstandingFeesField(lesson);
+            if (updatedLesson != lesson && lessonList == null) {
+                // only copy the lessons once a fee has changed
+                lessonList = new ArrayList<>(personToEdit.getLessons());
+            }
+            if (lessonList != null) {
+                lessonList.set(lessonList.indexOf(lesson), updatedLesson);
+            }
         }
 
-        return PersonUtil.createdEditedPerson(personToEdit, new TreeSet<>(lessonList));
+        return lessonList == null
+                ? personToEdit
+                : PersonUtil.createdEditedPerson(personToEdit, new TreeSet<>(lessonList));
     }
 
     /**
      * Automatically updates the specific lesson's outstanding fees.
      *
      * @param lesson The specific lesson to be updated.
-     * @return Updated lesson with the correct outstanding fees.
+     * @return Updated lesson with the correct outstanding fees, or {@code lesson} itself if the fees did not change.
      */
     public Lesson updateLessonOutstandingFeesField(Lesson lesson) {
+        long startDay = lesson.getStartDate().getLocalDate().toEpochDay();
+        long endDay = lesson.getEndDate().getLocalDate().toEpochDay();
+        int endMinute = lesson.getTimeRange().getEndMinutes();
 
-        // make a copy of untouched fields
-        Date copiedDate = new Date(lesson.getStartDate().value);
-        Date copiedEndDate = new Date(lesson.getEndDate().value);
-        TimeRange copiedTimeRange = new TimeRange(lesson.getTimeRange().value);
-        Subject copiedSubject = new Subject(lesson.getSubject().value);
-        LessonRates copiedLessonRates = new LessonRates(lesson.getLessonRates().value);
-        Set<Homework> copiedHomework = lesson.getHomework() == null
-                ? null
-                : new HashSet<>(lesson.getHomework());
-        Set<Date> copiedCancelledDates = lesson.getCancelledDates();
-
-        OutstandingFees currentOutstanding = lesson.getOutstandingFees();
-
-        if (lesson.isRecurring()) {
-            OutstandingFees updatedOutstandingFees = lesson.hasStarted()
-                    ? getUpdatedOutstandingFeesRecurring(currentOutstanding, lesson.getStartDate(), lesson.getEndDate(),
-                    lesson.getDayOfWeek(), copiedTimeRange, copiedLessonRates, copiedCancelledDates)
-                    : new OutstandingFees(lesson.getOutstandingFees().value);
-            return new RecurringLesson(copiedDate, copiedEndDate, copiedTimeRange, copiedSubject,
-                    copiedHomework, copiedLessonRates, updatedOutstandingFees, copiedCancelledDates);
-        } else {
-            OutstandingFees updatedOutstandingFees = getUpdatedOutstandingFeesMakeup(currentOutstanding,
-                    copiedDate, copiedTimeRange, copiedLessonRates);
-            return new MakeUpLesson(copiedDate, copiedTimeRange, copiedSubject,
-                    copiedHomework, copiedLessonRates, updatedOutstandingFees, copiedCancelledDates);
+        int numberOfLessons = countLessonsSinceLastUpdate(startDay, endDay, endMinute, lesson.getCancelledDates());
+        if (numberOfLessons == 0) {
+            return lesson;
         }
-    }
-
-    /**
-     * Updates the Outstanding Fees field to most recent value for makeup lessons.
-     *
-     * @param original Outstanding Fees of current amount.
-     * @param date Day of the lesson.
-     * @param timeRange Duration per lesson.
-     * @param lessonRates Cost per hour for the lesson.
-     * @return Updated Outstanding Fees object.
-     */
-    public OutstandingFees getUpdatedOutstandingFeesMakeup(OutstandingFees original, Date date, TimeRange timeRange,
-                                                           LessonRates lessonRates) {
-        BigDecimal costPerLesson = getCostPerLesson(timeRange, lessonRates);
-        BigDecimal updatedFees = original.getMonetaryValue();
 
-        LocalDateTime makeUpLessonEnd = LocalDateTime.of(date.getLocalDate(), timeRange.getEnd());
+        OutstandingFees updatedOutstandingFees = getUpdatedOutstandingFees(lesson.getOutstandingFees(),
+                lesson.getTimeRange(), lesson.getLessonRates(), numberOfLessons);
 
-        boolean isBetween = makeUpLessonEnd.isAfter(lastUpdated.dateTime) && makeUpLessonEnd.isBefore(currentDateTime);
-
-        if (isBetween) {
-            updatedFees = updatedFees.add(costPerLesson);
-        }
-
-        return new OutstandingFees(DECIMAL_FORMAT.format(updatedFees));
+        return lesson.isRecurring()
+                ? new RecurringLesson(lesson.getStartDate(), lesson.getEndDate(), lesson.getTimeRange(),
+                lesson.getSubject(), lesson.getHomework(), lesson.getLessonRates(), updatedOutstandingFees,
+                lesson.getCancelledDates())
+                : new MakeUpLesson(lesson.getStartDate(), lesson.getTimeRange(), lesson.getSubject(),
+                lesson.getHomework(), lesson.getLessonRates(), updatedOutstandingFees, lesson.getCancelledDates());
     }
 
     /**
-     * Updates the Outstanding Fees field to most recent value for recurring lessons.
+     * Returns the outstanding fees after charging for the specified number of lessons.
      *
      * @param original Outstanding Fees of current amount.
-     * @param updateDay Day of the lesson.
      * @param timeRange Duration per lesson.
      * @param lessonRates Cost per hour for the lesson.
+     * @param numberOfLessons Number of lessons to charge for.
      * @return Updated Outstanding Fees object.
      */
-    public OutstandingFees getUpdatedOutstandingFeesRecurring(OutstandingFees original, Date startDate, Date endDate,
-                                                              DayOfWeek updateDay,
-            TimeRange timeRange, LessonRates lessonRates, Set<Date> cancelledDates) {
-        // updated fee values
-        int numberOfLessons = getNumOfLessonsSinceLastUpdate(updateDay, startDate.getLocalDate(),
-                endDate.getLocalDate(), timeRange.getEnd(), cancelledDates);
+    public OutstandingFees getUpdatedOutstandingFees(OutstandingFees original, TimeRange timeRange,
+                                                     LessonRates lessonRates, int numberOfLessons) {
         assert numberOfLessons >= 0;
-        BigDecimal costPerLesson = getCostPerLesson(timeRange, lessonRates);
-
-        // updatedFees = costPerLesson * numOfLessons + originalAmount
-        BigDecimal updatedFees = costPerLesson
-                .multiply(BigDecimal.valueOf(numberOfLessons))
-                .add(original.getMonetaryValue());
-
-        return new OutstandingFees(DECIMAL_FORMAT.format(updatedFees));
+        long minutes = timeRange.getEndMinutes() - timeRange.getStartMinutes();
+        try {
+            // updatedFees = ratePerHour * minutesPerLesson / 60 * numOfLessons + originalAmount
+            long chargedCents = divideRoundHalfEven(Math.multiplyExact(
+                    Math.multiplyExact(lessonRates.getValueInCents(), minutes), numberOfLessons), MINUTES_PER_HOUR);
+            long updatedCents = Math.addExact(original.getValueInCents(), chargedCents);
+            return new OutstandingFees(Money.formatCents(updatedCents));
+        } catch (ArithmeticException e) {
+            // amounts too large for cents are computed exactly instead
+            BigDecimal updatedFees = lessonRates.getMonetaryValue()
+                    .multiply(BigDecimal.valueOf(minutes * numberOfLessons))
+                    .divide(BigDecimal.valueOf(MINUTES_PER_HOUR), 2, RoundingMode.HALF_EVEN)
+                    .add(original.getMonetaryValue());
+            return new OutstandingFees(DECIMAL_FORMAT.format(updatedFees));
+        }
     }
 
-    private BigDecimal getCostPerLesson(TimeRange timeRange, LessonRates lessonRates) {
-        Duration duration = timeRange.getDuration();
-        BigDecimal durationInHour = BigDecimal.valueOf(duration.toMinutes() / numberOfMinutesInAnHour);
-        return durationInHour.multiply(lessonRates.getMonetaryValue());
+    private static long divideRoundHalfEven(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long twiceRemainder = 2 * (dividend % divisor);
+        if (twiceRemainder > divisor || (twiceRemainder == divisor && quotient % 2 != 0)) {
+            quotient++;
+        }
+        return quotient;
     }
 
     /**
      * Calculates the number of lessons that have passed since last updated date and time.
+     * A lesson has passed if it ended after the last updated date time and not after the current date time.
      *
      * @param updateDay The day of the week which the lesson falls on.
      * @param startDate The start date of the lesson.
@@ -194,56 +196,63 @@ public class FeesCalculator implements Calculator {
      */
     public int getNumOfLessonsSinceLastUpdate(DayOfWeek updateDay, LocalDate startDate,
                                                LocalDate endDate, LocalTime endTime, Set<Date> cancelledDates) {
-        int lastUpdatedDay = lastUpdated.getLastUpdatedLocalDate().getDayOfWeek().getValue();
-        int currentUpdatedDay = currentDateTime.getDayOfWeek().getValue();
+        assert startDate.getDayOfWeek().equals(updateDay);
+        return countLessonsSinceLastUpdate(startDate.toEpochDay(), endDate.toEpochDay(),
+                endTime.toSecondOfDay() / 60, cancelledDates);
+    }
 
-        if (lastUpdated.dateTime.isEqual(currentDateTime)) {
+    /**
+     * Counts the weekly lessons from {@code startDay} to {@code endDay} that ended after the last updated
+     * date time and not after the current date time, excluding cancelled dates.
+     * The lessons in that window are counted arithmetically, so the cancelled dates are only looked at
+     * if at least one lesson has passed.
+     *
+     * @param startDay The epoch day of the first lesson.
+     * @param endDay The epoch day of the end of the recurrence.
+     * @param endMinute The end time of the lesson, in minutes after midnight.
+     * @param cancelledDates The set of cancelled dates.
+     * @return The number of lessons that have passed since last update.
+     */
+    private int countLessonsSinceLastUpdate(long startDay, long endDay, int endMinute, Set<Date> cancelledDates) {
+        if (endDay < startDay) {
             return 0;
         }
+        long firstLessonEnd = startDay * MINUTES_PER_DAY + endMinute;
 
-        // Number of Days between last updated and current date excluding these both days
-        LocalDate laterStart = Collections.max(Arrays.asList(startDate, lastUpdated.getLastUpdatedLocalDate()));
-        LocalDate earlierEnd = Collections.min(Arrays.asList(endDate, currentDateTime.toLocalDate()));
-
-        if (laterStart.isAfter(earlierEnd)) {
+        // lesson k of the recurrence ends at firstLessonEnd + k * MINUTES_PER_WEEK
+        long firstIndex = Math.max(0, Math.floorDiv(lastUpdatedMinute - firstLessonEnd, MINUTES_PER_WEEK) + 1);
+        long lastIndex = Math.min((endDay - startDay) / DAYS_PER_WEEK,
+                Math.floorDiv(currentMinute - firstLessonEnd, MINUTES_PER_WEEK));
+        if (lastIndex < firstIndex) {
             return 0;
         }
-
-        LocalDate start = laterStart.with(TemporalAdjusters.previous(updateDay));
-        LocalDate end = earlierEnd.with(TemporalAdjusters.next(updateDay));
-
-        // get lessons in between
-        int numLessons = (int) ChronoUnit.WEEKS.between(start, end) - 1;
-        assert numLessons >= 0;
-
-        for (Date cancelledDate : cancelledDates) {
-            if (cancelledDate.isDateBetween(lastUpdated.getLastUpdatedLocalDate(), currentDateTime.toLocalDate())) {
-                numLessons -= 1;
+        long numLessons = lastIndex - firstIndex + 1;
+
+        if (!cancelledDates.isEmpty()) {
+            long[] cancelledDays = toSortedEpochDays(cancelledDates);
+            long firstDay = startDay + firstIndex * DAYS_PER_WEEK;
+            long lastDay = startDay + lastIndex * DAYS_PER_WEEK;
+            int index = Arrays.binarySearch(cancelledDays, firstDay);
+            for (int i = index >= 0 ? index : -index - 1; i < cancelledDays.length && cancelledDays[i] <= lastDay;
+                 i++) {
+                if ((cancelledDays[i] - startDay) % DAYS_PER_WEEK == 0) {
+                    numLessons--;
+                }
             }
         }
 
         assert numLessons >= 0;
+        return (int) numLessons;
+    }
 
-        // all lessons between this range is cancelled
-        if (numLessons == 0) {
-            return numLessons;
-        }
-
-        // Check the case for lesson falls on lastUpdatedDay or currentDay
-        boolean endBeforeLastUpdatedOnSameDay = laterStart.equals(lastUpdated.getLastUpdatedLocalDate())
-            && lastUpdatedDay == updateDay.getValue()
-            && lastUpdated.getLastUpdatedLocalTime().isAfter(endTime);
-
-        boolean endAfterCurrentDateTimeOnSameDay = earlierEnd.equals(currentDateTime.toLocalDate())
-            && currentUpdatedDay == updateDay.getValue()
-            && currentDateTime.toLocalTime().isBefore(endTime);
-
-        // Only minus once if start and end dates of lesson on the same date
-        if (endBeforeLastUpdatedOnSameDay || endAfterCurrentDateTimeOnSameDay) {
-            numLessons -= 1;
+    private static long[] toSortedEpochDays(Set<Date> dates) {
+        long[] epochDays = new long[dates.size()];
+        int i = 0;
+        for (Date date : dates) {
+            epochDays[i++] = date.getLocalDate().toEpochDay();
         }
-
-        return numLessons;
+        Arrays.sort(epochDays);
+        return epochDays;
     }
 
     /**
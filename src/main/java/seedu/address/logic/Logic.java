@@ -1,6 +1,10 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import com.calendarfx.model.Calendar;
 import com.calendarfx.model.Entry;
@@ -30,6 +34,19 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the command words that start with {@code partialCommandWord}, ignoring case, in alphabetical order.
+     */
+    List<String> getCommandWordCompletions(String partialCommandWord);
+
+    /**
+     * Saves the changes to the address book that have not been saved yet,
+     * returning only after they have been written to storage.
+     *
+     * @throws IOException If the address book could not be saved.
+     */
+    void flush() throws IOException;
+
     /**
      * Returns the AddressBook.
      *
@@ -61,6 +78,9 @@ public interface Logic {
     /** Updates the list of upcoming lists within two days. */
     void updateUpcomingLessons();
 
+    /** Returns the earliest date time at which the list of upcoming lessons changes, if any. */
+    Optional<LocalDateTime> getNextUpcomingLessonsUpdate();
+
     /**
      * Returns the user prefs' address book file path.
      */
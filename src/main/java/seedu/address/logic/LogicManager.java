@@ -2,6 +2,11 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import com.calendarfx.model.Calendar;
@@ -12,11 +17,14 @@ import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.flightrecorder.CommandEvent;
+import seedu.address.commons.core.metrics.MetricsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.LastUpdatedDate;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -30,20 +38,42 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String METRIC_COMMAND = "command";
+    public static final String METRIC_PARSE = "parse";
+    public static final String METRIC_EXECUTE = "execute";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final AddressBookSaver addressBookSaver;
+    private final PersonChangeRecorder personChangeRecorder;
     private final UndoRedoStack undoRedoStack;
     private final AddressBookParser addressBookParser;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved in the background on a dedicated thread.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread saveThread = new Thread(runnable, "Storage: Save Address Book Thread");
+            saveThread.setDaemon(true);
+            return saveThread;
+        }));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage},
+     * which saves the address book on {@code saveExecutor}.
+     * The address book in {@code storage} must be the same as the address book in {@code model},
+     * as only the changes to the persons in {@code model} are saved.
+     */
+    public LogicManager(Model model, Storage storage, Executor saveExecutor) {
         this.model = model;
-        this.storage = storage;
-        undoRedoStack = new UndoRedoStack();
+        addressBookSaver = new AddressBookSaver(storage, saveExecutor);
+        personChangeRecorder = new PersonChangeRecorder();
+        model.getAddressBook().getPersonList().addListener(personChangeRecorder);
+        undoRedoStack = new UndoRedoStack(model.getUserPrefs().getUndoHistoryLimit());
         addressBookParser = new AddressBookParser();
     }
 
@@ -52,20 +82,69 @@ public class LogicManager implements Logic {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        command.setDependencies(model, undoRedoStack); //equivalent to setting parameters for command.execute()
-        commandResult = command.execute();
-        undoRedoStack.pushUndoableCommand(command);
-
+        String commandWord = getCommandWord(commandText);
+        CommandEvent commandEvent = CommandEvent.start(commandWord);
+        boolean isSuccessful = false;
+        MetricsCenter.Sample commandSample = MetricsCenter.startCommand(METRIC_COMMAND, commandWord);
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (IOException ioe) {
+            Command command = MetricsCenter.time(METRIC_PARSE, () -> addressBookParser.parseCommand(commandText));
+            command.setDependencies(model, undoRedoStack); //equivalent to setting parameters for command.execute()
+            commandResult = MetricsCenter.time(METRIC_EXECUTE, command::execute);
+            undoRedoStack.pushUndoableCommand(command);
+
+            if (command.isModifyingData()) {
+                requestSave();
+            }
+            isSuccessful = true;
+        } finally {
+            commandSample.stop();
+            commandEvent.finish(isSuccessful, model.getAddressBook().getPersonList().size());
+        }
+
+        Optional<IOException> saveFailure = addressBookSaver.pollFailure();
+        if (saveFailure.isPresent()) {
+            IOException ioe = saveFailure.get();
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public List<String> getCommandWordCompletions(String partialCommandWord) {
+        return addressBookParser.getCommandWordCompletions(partialCommandWord);
+    }
+
+    /**
+     * Returns the first word of {@code commandText}, which the command is timed under.
+     */
+    private static String getCommandWord(String commandText) {
+        return commandText.trim().split("\\s+", 2)[0].toLowerCase();
+    }
+
+    /**
+     * Requests the changes to the persons since the last save to be saved,
+     * or the whole address book if the changes cannot be saved.
+     */
+    private void requestSave() {
+        if (addressBookSaver.isFullSaveNeeded()) {
+            personChangeRecorder.clear();
+            addressBookSaver.requestSave(new AddressBookSnapshot(model.getAddressBook()));
+        } else if (personChangeRecorder.hasChanges()) {
+            addressBookSaver.requestSaveChanges(personChangeRecorder.takeChanges(), model.getLastUpdatedDate());
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        requestSave();
+        addressBookSaver.flush();
+        if (addressBookSaver.isFullSaveNeeded()) {
+            // compacts the changes saved, or saves the changes lost by a save that failed before flushing
+            requestSave();
+            addressBookSaver.flush();
+        }
+    }
 
     @Override
     public ReadOnlyAddressBook getAddressBook() {
@@ -115,6 +194,11 @@ public class LogicManager implements Logic {
         model.updateUpcomingLessons();
     }
 
+    @Override
+    public Optional<LocalDateTime> getNextUpcomingLessonsUpdate() {
+        return model.getNextUpcomingLessonsUpdate();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
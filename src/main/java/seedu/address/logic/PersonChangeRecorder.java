@@ -0,0 +1,92 @@
+package seedu.address.logic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
+
+/**
+ * Records the changes made to a list of persons as {@code PersonChange}s, so that only the persons changed
+ * have to be saved.
+ */
+public class PersonChangeRecorder implements ListChangeListener<Person> {
+    private final List<PersonChange> changes = new ArrayList<>();
+
+    @Override
+    public void onChanged(Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                recordPermutation(change);
+            } else if (change.wasAdded() || change.wasRemoved()) {
+                recordReplacement(change);
+            }
+        }
+    }
+
+    /**
+     * Records the persons moved by a permutation as removed and put back at their new indices,
+     * as putting a person that exists does not move them.
+     */
+    private void recordPermutation(Change<? extends Person> change) {
+        List<? extends Person> persons = change.getList();
+        for (int i = change.getFrom(); i < change.getTo(); i++) {
+            changes.add(PersonChange.remove(persons.get(i).getName()));
+        }
+        for (int i = change.getFrom(); i < change.getTo(); i++) {
+            changes.add(PersonChange.put(persons.get(i), i));
+        }
+    }
+
+    /**
+     * Records the persons removed, then the persons added at their indices.
+     * If every person removed is replaced by a person with the same name, only the persons added are recorded,
+     * as putting them replaces the persons in place.
+     */
+    private void recordReplacement(Change<? extends Person> change) {
+        List<? extends Person> removed = change.getRemoved();
+        List<? extends Person> added = change.getAddedSubList();
+
+        if (!isReplacedInPlace(removed, added)) {
+            for (Person person : removed) {
+                changes.add(PersonChange.remove(person.getName()));
+            }
+        }
+        for (int i = 0; i < added.size(); i++) {
+            changes.add(PersonChange.put(added.get(i), change.getFrom() + i));
+        }
+    }
+
+    private static boolean isReplacedInPlace(List<? extends Person> removed, List<? extends Person> added) {
+        if (removed.size() != added.size()) {
+            return false;
+        }
+        for (int i = 0; i < removed.size(); i++) {
+            if (!removed.get(i).getName().equals(added.get(i).getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean hasChanges() {
+        return !changes.isEmpty();
+    }
+
+    /**
+     * Returns the changes recorded in order, and stops keeping them.
+     */
+    public List<PersonChange> takeChanges() {
+        List<PersonChange> recordedChanges = new ArrayList<>(changes);
+        changes.clear();
+        return recordedChanges;
+    }
+
+    /**
+     * Discards the changes recorded, such as when all the persons are saved.
+     */
+    public void clear() {
+        changes.clear();
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.address.logic;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.Stack;
 
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.UndoableCommand;
+import seedu.address.model.UserPrefs;
 
 // @@author Zhiyuan-Amos-reused
 // Reused code from
@@ -14,22 +17,38 @@ import seedu.address.logic.commands.UndoableCommand;
 /**
  * Keeps track of Commands that have been called (undoStack)
  * and Commands that have been undone (redoStack).
+ * The oldest commands are forgotten once the commands kept hold more persons than the history limit,
+ * as counted by {@link UndoableCommand#getHistorySize()}.
  */
 public class UndoRedoStack {
     private Stack<UndoableCommand> undoStack;
     private Stack<UndoableCommand> redoStack;
+    private final int historyLimit;
+    private int historySize = 0;
 
     /**
-     * Constructor for UndoRedoStack to store Undoable commands.
+     * Constructor for UndoRedoStack to store Undoable commands, with the default history limit.
      */
     public UndoRedoStack() {
+        this(UserPrefs.DEFAULT_UNDO_HISTORY_LIMIT);
+    }
+
+    /**
+     * Constructor for UndoRedoStack to store Undoable commands holding up to {@code historyLimit} persons.
+     *
+     * @param historyLimit Positive number of persons the commands kept may hold.
+     */
+    public UndoRedoStack(int historyLimit) {
+        checkArgument(historyLimit > 0);
         undoStack = new Stack<>();
         redoStack = new Stack<>();
+        this.historyLimit = historyLimit;
     }
 
     /**
      * Adds Command to Undo Stack if command is undoable.
-     * Clears the redo-stack
+     * Clears the redo-stack, then forgets the oldest commands while the history is over its limit,
+     * though the command added is always kept.
      *
      * @param command Command executed.
      */
@@ -37,9 +56,17 @@ public class UndoRedoStack {
         if (!(command instanceof UndoableCommand)) {
             return;
         }
+        for (UndoableCommand redoCommand : redoStack) {
+            historySize -= redoCommand.getHistorySize();
+        }
         redoStack.clear();
 
-        undoStack.push((UndoableCommand) command);
+        UndoableCommand undoableCommand = (UndoableCommand) command;
+        undoStack.push(undoableCommand);
+        historySize += undoableCommand.getHistorySize();
+        while (historySize > historyLimit && undoStack.size() > 1) {
+            historySize -= undoStack.remove(0).getHistorySize();
+        }
     }
 
     /**
@@ -0,0 +1,143 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.util.CommandUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents a command that edits many students at once.
+ * All the students are replaced in one batch, so the calendar is only refreshed once,
+ * the address book is only saved once and the whole batch is undone or redone as a single command.
+ */
+public abstract class BatchCommand extends UndoableCommand {
+
+    public static final String ALL_DISPLAYED_STUDENTS = "all";
+
+    public static final String TARGET_PARAMETERS = "INDEX[-INDEX]... | " + ALL_DISPLAYED_STUDENTS;
+
+    public static final String MESSAGE_NO_STUDENTS_CHANGED = "None of the students were changed.";
+
+    private final List<Index> targetIndices;
+    private final Map<Person, Person> editedPersons = new LinkedHashMap<>();
+    private final Map<Person, Person> originalPersons = new LinkedHashMap<>();
+
+    /**
+     * Constructs a {@code BatchCommand} that edits the students at {@code targetIndices}
+     * of the displayed student list.
+     *
+     * @param commandType Action of the command.
+     * @param targetIndices Indices of the students in the displayed student list.
+     */
+    protected BatchCommand(String commandType, List<Index> targetIndices) {
+        super(commandType);
+        requireNonNull(targetIndices);
+        this.targetIndices = new ArrayList<>(targetIndices);
+    }
+
+    /**
+     * Constructs a {@code BatchCommand} that edits every student in the displayed student list,
+     * such as the students found by a {@code FindCommand}.
+     *
+     * @param commandType Action of the command.
+     */
+    protected BatchCommand(String commandType) {
+        super(commandType);
+        this.targetIndices = null;
+    }
+
+    /**
+     * Returns the indices of the students to edit, or an empty {@code Optional} if every displayed student is edited.
+     */
+    public Optional<List<Index>> getTargetIndices() {
+        return Optional.ofNullable(targetIndices).map(Collections::unmodifiableList);
+    }
+
+    /**
+     * Returns the students to edit.
+     * This method may be overridden to select students other than the displayed ones.
+     *
+     * @throws CommandException If a target index is invalid.
+     */
+    protected List<Person> getTargetPersons() throws CommandException {
+        List<Person> lastShownList = model.getFilteredPersonList();
+        if (targetIndices == null) {
+            return new ArrayList<>(lastShownList);
+        }
+
+        List<Person> targetPersons = new ArrayList<>();
+        for (Index index : targetIndices) {
+            targetPersons.add(CommandUtil.getPerson(lastShownList, index));
+        }
+        return targetPersons;
+    }
+
+    /**
+     * Returns {@code personToEdit} edited by this command.
+     * The person itself is returned if this command does not change it.
+     *
+     * @param personToEdit Person to edit.
+     * @return Person that is edited.
+     * @throws CommandException If the person cannot be edited.
+     */
+    protected abstract Person editPerson(Person personToEdit) throws CommandException;
+
+    /**
+     * Returns the message to show after {@code editedCount} students are edited.
+     */
+    protected abstract String getSuccessMessage(int editedCount);
+
+    @Override
+    protected CommandResult executeUndoableCommand() throws CommandException {
+        requireNonNull(model);
+        editedPersons.clear();
+        originalPersons.clear();
+
+        for (Person personToEdit : getTargetPersons()) {
+            Person editedPerson = editPerson(personToEdit);
+            if (!editedPerson.equals(personToEdit)) {
+                editedPersons.put(personToEdit, editedPerson);
+                originalPersons.put(editedPerson, personToEdit);
+            }
+        }
+
+        if (editedPersons.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_STUDENTS_CHANGED);
+        }
+
+        model.replacePersons(editedPersons);
+        return new CommandResult(getSuccessMessage(editedPersons.size()));
+    }
+
+    @Override
+    public int getHistorySize() {
+        return editedPersons.size();
+    }
+
+    @Override
+    protected Person undo() {
+        requireNonNull(model);
+
+        originalPersons.keySet().forEach(this::checkValidity);
+        model.replacePersons(originalPersons);
+        return null;
+    }
+
+    @Override
+    protected Person redo() {
+        requireNonNull(model);
+
+        editedPersons.keySet().forEach(this::checkValidity);
+        model.replacePersons(editedPersons);
+        return null;
+    }
+}
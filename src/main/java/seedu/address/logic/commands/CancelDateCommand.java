@@ -0,0 +1,181 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.util.CommandUtil;
+import seedu.address.model.lesson.Date;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonDateIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.PersonUtil;
+
+/**
+ * Cancels or uncancels the lessons of every student on a date, such as a public holiday.
+ */
+public class CancelDateCommand extends BatchCommand {
+
+    public static final String COMMAND_ACTION_CANCEL = "Cancel Date";
+
+    public static final String COMMAND_ACTION_UNCANCEL = "Uncancel Date";
+
+    public static final String COMMAND_WORD = "cancel";
+
+    public static final String COMMAND_WORD_UNCANCEL = "uncancel";
+
+    public static final String COMMAND_PARAMETERS = PREFIX_DATE + "dd MMM yyyy";
+
+    public static final String COMMAND_FORMAT = COMMAND_WORD + " " + COMMAND_PARAMETERS;
+
+    public static final String COMMAND_FORMAT_UNCANCEL = COMMAND_WORD_UNCANCEL + " " + COMMAND_PARAMETERS;
+
+    public static final String COMMAND_EXAMPLE = COMMAND_WORD + " " + PREFIX_DATE + "25 Dec 2021";
+
+    public static final String COMMAND_EXAMPLE_UNCANCEL = COMMAND_WORD_UNCANCEL + " " + PREFIX_DATE + "25 Dec 2021";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Cancels the lessons of all students on the date.\n"
+            + "Parameters: " + COMMAND_PARAMETERS + "\n"
+            + "Example: " + COMMAND_EXAMPLE;
+
+    public static final String MESSAGE_USAGE_UNCANCEL = COMMAND_WORD_UNCANCEL
+            + ": Uncancels the cancelled lessons of all students on the date.\n"
+            + "Parameters: " + COMMAND_PARAMETERS + "\n"
+            + "Example: " + COMMAND_EXAMPLE_UNCANCEL;
+
+    public static final String MESSAGE_CANCEL_SUCCESS = "Cancelled %1$d lesson(s) of %2$d student(s) on %3$s.";
+    public static final String MESSAGE_UNCANCEL_SUCCESS = "Uncancelled %1$d lesson(s) of %2$d student(s) on %3$s.";
+    public static final String MESSAGE_NO_LESSONS_ON_DATE = "There are no lessons on %1$s.";
+    public static final String MESSAGE_CLASHING_LESSON =
+            "Uncancelling the lessons on this date will result in clashes with an existing lesson.";
+
+    private final Date date;
+    private final boolean isCancelling;
+    private final List<Lesson> uncancelledLessons = new ArrayList<>();
+    private int editedLessonCount;
+
+    /**
+     * Constructs a {@code CancelDateCommand} to cancel or uncancel the lessons on {@code date}.
+     *
+     * @param date Date of the lessons.
+     * @param isCancelling True to cancel the lessons, false to uncancel them.
+     */
+    public CancelDateCommand(Date date, boolean isCancelling) {
+        super(isCancelling ? COMMAND_ACTION_CANCEL : COMMAND_ACTION_UNCANCEL);
+        requireNonNull(date);
+        this.date = date;
+        this.isCancelling = isCancelling;
+    }
+
+    @Override
+    protected CommandResult executeUndoableCommand() throws CommandException {
+        uncancelledLessons.clear();
+        editedLessonCount = 0;
+        return super.executeUndoableCommand();
+    }
+
+    /**
+     * Returns every student with a lesson on the date, found through the lesson date index
+     * rather than the lessons of every student.
+     */
+    @Override
+    protected List<Person> getTargetPersons() throws CommandException {
+        List<Person> lessonOwners = new ArrayList<>(model.getLessonDateIndex().getLessonOwners(date));
+        if (lessonOwners.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_LESSONS_ON_DATE, date));
+        }
+        return lessonOwners;
+    }
+
+    @Override
+    protected Person editPerson(Person personToEdit) throws CommandException {
+        Set<Lesson> updatedLessons = new TreeSet<>();
+        boolean isEdited = false;
+        for (Lesson lesson : personToEdit.getLessons()) {
+            Lesson updatedLesson = LessonDateIndex.isOnDate(lesson, date) ? editLesson(lesson) : lesson;
+            isEdited |= updatedLesson != lesson;
+            updatedLessons.add(updatedLesson);
+        }
+
+        return isEdited
+                ? PersonUtil.createdEditedPerson(personToEdit, updatedLessons)
+                : personToEdit;
+    }
+
+    /**
+     * Returns the lesson cancelled or uncancelled on the date, or the lesson itself if it already is.
+     *
+     * @throws CommandException If the uncancelled lesson clashes with another lesson.
+     */
+    private Lesson editLesson(Lesson lesson) throws CommandException {
+        boolean isCancelled = lesson.getCancelledDates().contains(date);
+        if (isCancelling == isCancelled) {
+            return lesson;
+        }
+
+        Set<Date> updatedCancelledDates = new HashSet<>(lesson.getCancelledDates());
+        if (isCancelling) {
+            updatedCancelledDates.add(date);
+        } else {
+            updatedCancelledDates.remove(date);
+        }
+        Lesson updatedLesson = lesson.updateCancelledDates(updatedCancelledDates);
+
+        if (!isCancelling) {
+            checkClashes(updatedLesson, lesson);
+            uncancelledLessons.add(updatedLesson);
+        }
+        editedLessonCount++;
+        return updatedLesson;
+    }
+
+    /**
+     * Checks that {@code uncancelledLesson} does not clash with the existing lessons other than {@code lesson},
+     * nor with the other lessons uncancelled by this command.
+     */
+    private void checkClashes(Lesson uncancelledLesson, Lesson lesson) throws CommandException {
+        if (model.hasClashingLesson(uncancelledLesson, lesson)) {
+            Set<String> clashes = model.getClashingLessonsString(uncancelledLesson, lesson);
+            throw new CommandException(MESSAGE_CLASHING_LESSON + CommandUtil.lessonsToString(clashes));
+        }
+        if (uncancelledLessons.stream().anyMatch(uncancelledLesson::isClashing)) {
+            throw new CommandException(MESSAGE_CLASHING_LESSON);
+        }
+    }
+
+    @Override
+    protected String getSuccessMessage(int editedCount) {
+        return String.format(isCancelling ? MESSAGE_CANCEL_SUCCESS : MESSAGE_UNCANCEL_SUCCESS,
+                editedLessonCount, editedCount, date);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CancelDateCommand)) {
+            return false;
+        }
+
+        // state check
+        CancelDateCommand e = (CancelDateCommand) other;
+        return date.equals(e.date)
+                && isCancelling == e.isCancelling;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, isCancelling);
+    }
+}
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_NO_PARAMS;
 
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 
@@ -34,11 +35,17 @@ public class ClearCommand extends UndoableCommand {
     @Override
     public CommandResult executeUndoableCommand() {
         requireNonNull(model);
-        previousAddressBook = new AddressBook(model.getAddressBook());
+        // persons are immutable, so only the list of them has to be copied to restore them
+        previousAddressBook = new AddressBookSnapshot(model.getAddressBook());
         model.setAddressBook(new AddressBook());
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
+    @Override
+    public int getHistorySize() {
+        return previousAddressBook == null ? 1 : Math.max(1, previousAddressBook.getPersonList().size());
+    }
+
     @Override
     protected Person undo() {
         requireNonNull(model);
@@ -19,6 +19,13 @@ public abstract class Command {
      */
     public abstract CommandResult execute() throws CommandException;
 
+    /**
+     * Returns true if executing the command may modify the address book, such that it has to be saved after.
+     */
+    public boolean isModifyingData() {
+        return false;
+    }
+
     /**
      * Sets the required components that are required for commands to be executed.
      * This method may be overridden to set the different dependencies required.
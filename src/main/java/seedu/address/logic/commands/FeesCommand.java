@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_NO_PARAMS;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.lesson.Money;
+import seedu.address.model.lesson.Subject;
+import seedu.address.model.person.FeesLedger;
+import seedu.address.model.person.Person;
+
+/**
+ * Reports the total outstanding fees of all students, by subject, and the students who owe the most.
+ */
+public class FeesCommand extends Command {
+    public static final String COMMAND_WORD = "fees";
+
+    public static final String COMMAND_ACTION = "View Outstanding Fees";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the total outstanding fees of all students, "
+            + "the total of each subject and the students with the most outstanding fees.\n"
+            + MESSAGE_NO_PARAMS;
+
+    public static final int TOP_DEBTORS_COUNT = 5;
+
+    public static final String MESSAGE_TOTAL = "Total outstanding fees: $%1$s";
+    public static final String MESSAGE_SUBJECTS_HEADER = "\nBy subject:";
+    public static final String MESSAGE_TOP_DEBTORS_HEADER = "\nStudents with the most outstanding fees:";
+    public static final String MESSAGE_ENTRY = "\n%1$s: $%2$s";
+    public static final String MESSAGE_FEES_TOO_LARGE =
+            "The outstanding fees are too large to be totalled.";
+
+    @Override
+    public CommandResult execute() throws CommandException {
+        requireNonNull(model);
+        FeesLedger feesLedger = model.getFeesLedger();
+        if (feesLedger.isOverflowed()) {
+            throw new CommandException(MESSAGE_FEES_TOO_LARGE);
+        }
+
+        StringBuilder builder = new StringBuilder(
+                String.format(MESSAGE_TOTAL, Money.formatCents(feesLedger.getTotalCents())));
+
+        Map<Subject, Long> subjectCents = feesLedger.getSubjectCents();
+        if (!subjectCents.isEmpty()) {
+            builder.append(MESSAGE_SUBJECTS_HEADER);
+            subjectCents.entrySet().stream()
+                    .sorted(Map.Entry.<Subject, Long>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(entry -> entry.getKey().value))
+                    .forEach(entry -> builder.append(String.format(MESSAGE_ENTRY, entry.getKey(),
+                            Money.formatCents(entry.getValue()))));
+        }
+
+        List<Person> topDebtors = feesLedger.getTopDebtors(TOP_DEBTORS_COUNT);
+        if (!topDebtors.isEmpty()) {
+            builder.append(MESSAGE_TOP_DEBTORS_HEADER);
+            for (Person debtor : topDebtors) {
+                builder.append(String.format(MESSAGE_ENTRY, debtor.getName(),
+                        Money.formatCents(feesLedger.getPersonCents(debtor))));
+            }
+        }
+        return new CommandResult(builder.toString());
+    }
+}
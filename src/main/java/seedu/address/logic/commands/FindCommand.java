@@ -22,6 +22,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 import java.util.function.Predicate;
 
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book whose fields match the given argument keywords.
@@ -93,6 +94,11 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute() {
         requireNonNull(model);
+        if (predicate instanceof PersonMatchesKeywordsPredicate) {
+            // only test the persons that the search index cannot rule out
+            PersonMatchesKeywordsPredicate keywordsPredicate = (PersonMatchesKeywordsPredicate) predicate;
+            keywordsPredicate.setSearchIndex(model.getPersonSearchIndex());
+        }
         model.updateFilteredPersonList(predicate);
         return new CommandResult(
                 String.format(MESSAGE_FIND_RESULTS, model.getFilteredPersonList().size(), predicate));
@@ -32,7 +32,7 @@ public class RedoCommand extends Command {
             model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         }
 
-        if (commandToRedo.isClearOrDelete()) {
+        if (commandToRedo.isClearOrDelete() || studentModified == null) {
             String successMessage = commandToRedo.commandType + " command has been redone.";
             return new CommandResult(successMessage);
         }
@@ -41,6 +41,11 @@ public class RedoCommand extends Command {
         return new CommandResult(successMessage, studentModified);
     }
 
+    @Override
+    public boolean isModifyingData() {
+        return true;
+    }
+
     @Override
     public void setDependencies(Model model, UndoRedoStack undoRedoStack) {
         this.model = model;
@@ -0,0 +1,55 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.core.Messages.MESSAGE_NO_PARAMS;
+
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.commons.core.metrics.MetricsCenter;
+import seedu.address.commons.core.metrics.Timer;
+
+/**
+ * Reports how long the commands executed since TAB was launched took, by command word,
+ * and how long parsing, executing, saving and updating the calendar took for each of them.
+ */
+public class StatsCommand extends Command {
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String COMMAND_ACTION = "View Command Statistics";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how long the commands executed since TAB "
+            + "was launched took, by command word.\n"
+            + MESSAGE_NO_PARAMS;
+
+    public static final String MESSAGE_HEADER = "Command statistics since launch (times in ms):";
+    public static final String MESSAGE_COMMAND_WORD = "\n%1$s";
+    public static final String MESSAGE_ENTRY = "\n  %1$s: %2$d run(s), p50 %3$s, p99 %4$s, max %5$s";
+    public static final String MESSAGE_ALLOCATED = ", %1$d KB allocated per run";
+
+    private static final long BYTES_PER_KB = 1024;
+    private static final Comparator<Timer> TIMER_ORDER = Comparator.comparing(Timer::getTag)
+            .thenComparing(Timer::getName);
+
+    @Override
+    public CommandResult execute() {
+        List<Timer> timers = MetricsCenter.getTimers();
+        timers.sort(TIMER_ORDER);
+
+        StringBuilder builder = new StringBuilder(MESSAGE_HEADER);
+        String commandWord = null;
+        for (Timer timer : timers) {
+            if (!timer.getTag().equals(commandWord)) {
+                commandWord = timer.getTag();
+                builder.append(String.format(MESSAGE_COMMAND_WORD, commandWord));
+            }
+            builder.append(String.format(MESSAGE_ENTRY, timer.getName(), timer.getCount(),
+                    MetricsCenter.toMillis(timer.getPercentileNanos(50)),
+                    MetricsCenter.toMillis(timer.getPercentileNanos(99)),
+                    MetricsCenter.toMillis(timer.getMaxNanos())));
+            if (timer.getMeanAllocatedBytes() != Timer.ALLOCATION_UNKNOWN) {
+                builder.append(String.format(MESSAGE_ALLOCATED, timer.getMeanAllocatedBytes() / BYTES_PER_KB));
+            }
+        }
+        return new CommandResult(builder.toString());
+    }
+}
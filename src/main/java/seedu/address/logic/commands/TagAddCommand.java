@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.PersonUtil;
+
+/**
+ * Adds tags to many students at once, keeping the tags they already have.
+ */
+public class TagAddCommand extends BatchCommand {
+
+    public static final String COMMAND_ACTION = "Add Tags";
+
+    public static final String COMMAND_WORD = "tadd";
+
+    public static final String COMMAND_PARAMETERS = TARGET_PARAMETERS + " "
+            + PREFIX_TAG + "TAG "
+            + "[" + PREFIX_TAG + "TAG]...";
+
+    public static final String COMMAND_FORMAT = COMMAND_WORD + " " + COMMAND_PARAMETERS;
+
+    public static final String COMMAND_EXAMPLE = COMMAND_WORD + " 1-5 8 " + PREFIX_TAG + "Sec4Class";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the tags to the students identified "
+            + "by the index numbers or index ranges used in the displayed student list, "
+            + "or to every displayed student with \"" + ALL_DISPLAYED_STUDENTS + "\". "
+            + "Existing tags are kept.\n"
+            + "Parameters: " + COMMAND_PARAMETERS + "\n"
+            + "Example: " + COMMAND_EXAMPLE;
+
+    public static final String MESSAGE_TAG_ADD_SUCCESS = "Added tags %1$s to %2$d student(s).";
+
+    private final Set<Tag> tagsToAdd;
+
+    /**
+     * Constructs a {@code TagAddCommand} to add tags to the students at {@code targetIndices}.
+     *
+     * @param targetIndices Indices of the students in the displayed student list.
+     * @param tagsToAdd Tags to add to the students.
+     */
+    public TagAddCommand(List<Index> targetIndices, Set<Tag> tagsToAdd) {
+        super(COMMAND_ACTION, targetIndices);
+        requireNonNull(tagsToAdd);
+        this.tagsToAdd = new HashSet<>(tagsToAdd);
+    }
+
+    /**
+     * Constructs a {@code TagAddCommand} to add tags to every displayed student.
+     *
+     * @param tagsToAdd Tags to add to the students.
+     */
+    public TagAddCommand(Set<Tag> tagsToAdd) {
+        super(COMMAND_ACTION);
+        requireNonNull(tagsToAdd);
+        this.tagsToAdd = new HashSet<>(tagsToAdd);
+    }
+
+    @Override
+    protected Person editPerson(Person personToEdit) {
+        if (personToEdit.getTags().containsAll(tagsToAdd)) {
+            return personToEdit;
+        }
+
+        Set<Tag> updatedTags = new HashSet<>(personToEdit.getTags());
+        updatedTags.addAll(tagsToAdd);
+        return PersonUtil.createdEditedPerson(personToEdit, updatedTags, personToEdit.getLessons());
+    }
+
+    @Override
+    protected String getSuccessMessage(int editedCount) {
+        return String.format(MESSAGE_TAG_ADD_SUCCESS, tagsToAdd, editedCount);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagAddCommand)) {
+            return false;
+        }
+
+        // state check
+        TagAddCommand e = (TagAddCommand) other;
+        return getTargetIndices().equals(e.getTargetIndices())
+                && tagsToAdd.equals(e.tagsToAdd);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getTargetIndices(), tagsToAdd);
+    }
+}
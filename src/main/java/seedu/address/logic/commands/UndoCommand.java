@@ -34,7 +34,7 @@ public class UndoCommand extends Command {
             model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         }
 
-        if (commandToUndo.isClearOrAdd()) {
+        if (commandToUndo.isClearOrAdd() || studentModified == null) {
             String successMessage = commandToUndo.commandType + " command has been undone.";
             return new CommandResult(successMessage);
         }
@@ -43,6 +43,11 @@ public class UndoCommand extends Command {
         return new CommandResult(successMessage, studentModified);
     }
 
+    @Override
+    public boolean isModifyingData() {
+        return true;
+    }
+
     @Override
     public void setDependencies(Model model, UndoRedoStack undoRedoStack) {
         this.model = model;
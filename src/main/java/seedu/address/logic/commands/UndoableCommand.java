@@ -29,6 +29,19 @@ public abstract class UndoableCommand extends Command {
         return executeUndoableCommand();
     }
 
+    @Override
+    public boolean isModifyingData() {
+        return true;
+    }
+
+    /**
+     * Returns the number of persons this command keeps to be undone or redone,
+     * which the undo history uses to bound the memory it holds.
+     */
+    public int getHistorySize() {
+        return 1;
+    }
+
     protected abstract Person undo() throws AssertionError;
     protected abstract Person redo() throws AssertionError;
 
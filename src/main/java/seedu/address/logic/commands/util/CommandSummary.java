@@ -7,11 +7,13 @@ import javafx.collections.ObservableList;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.BackCommand;
 import seedu.address.logic.commands.CalendarCommand;
+import seedu.address.logic.commands.CancelDateCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DayCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FeesCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.LessonAddCommand;
@@ -22,6 +24,8 @@ import seedu.address.logic.commands.MonthCommand;
 import seedu.address.logic.commands.NextCommand;
 import seedu.address.logic.commands.PaidCommand;
 import seedu.address.logic.commands.RemindCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TagAddCommand;
 import seedu.address.logic.commands.TagCommand;
 import seedu.address.logic.commands.TodayCommand;
 import seedu.address.logic.commands.ViewCommand;
@@ -139,8 +143,14 @@ public class CommandSummary {
                         LessonEditCommand.COMMAND_EXAMPLE),
                 new CommandSummary(PaidCommand.COMMAND_ACTION, PaidCommand.COMMAND_FORMAT,
                         PaidCommand.COMMAND_EXAMPLE),
+                new CommandSummary(FeesCommand.COMMAND_ACTION, FeesCommand.COMMAND_WORD,
+                        FeesCommand.COMMAND_WORD),
                 new CommandSummary(LessonDeleteCommand.COMMAND_ACTION, LessonDeleteCommand.COMMAND_FORMAT,
                         LessonDeleteCommand.COMMAND_EXAMPLE),
+                new CommandSummary(CancelDateCommand.COMMAND_ACTION_CANCEL, CancelDateCommand.COMMAND_FORMAT,
+                        CancelDateCommand.COMMAND_EXAMPLE),
+                new CommandSummary(CancelDateCommand.COMMAND_ACTION_UNCANCEL, CancelDateCommand.COMMAND_FORMAT_UNCANCEL,
+                        CancelDateCommand.COMMAND_EXAMPLE_UNCANCEL),
                 new CommandSummary(ViewCommand.COMMAND_ACTION, ViewCommand.COMMAND_FORMAT,
                         ViewCommand.COMMAND_EXAMPLE),
                 new CommandSummary(RemindCommand.COMMAND_ACTION, RemindCommand.COMMAND_WORD,
@@ -163,7 +173,11 @@ public class CommandSummary {
                         TodayCommand.COMMAND_WORD),
                 new CommandSummary(ClearCommand.COMMAND_ACTION, ClearCommand.COMMAND_WORD,
                         ClearCommand.COMMAND_WORD),
+                new CommandSummary(StatsCommand.COMMAND_ACTION, StatsCommand.COMMAND_WORD,
+                        StatsCommand.COMMAND_WORD),
                 new CommandSummary(TagCommand.COMMAND_ACTION, TagCommand.COMMAND_WORD, TagCommand.COMMAND_WORD),
+                new CommandSummary(TagAddCommand.COMMAND_ACTION, TagAddCommand.COMMAND_FORMAT,
+                        TagAddCommand.COMMAND_EXAMPLE),
                 new CommandSummary(ExitCommand.COMMAND_ACTION, ExitCommand.COMMAND_WORD,
                         ExitCommand.COMMAND_WORD));
     }
@@ -3,18 +3,22 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.List;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.BackCommand;
 import seedu.address.logic.commands.CalendarCommand;
+import seedu.address.logic.commands.CancelDateCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DayCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FeesCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.LessonAddCommand;
@@ -26,6 +30,8 @@ import seedu.address.logic.commands.NextCommand;
 import seedu.address.logic.commands.PaidCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemindCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TagAddCommand;
 import seedu.address.logic.commands.TagCommand;
 import seedu.address.logic.commands.TodayCommand;
 import seedu.address.logic.commands.UndoCommand;
@@ -36,6 +42,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * The parser of each command word is looked up in a table built once, which also serves the completions
+ * of command words.
  */
 public class AddressBookParser {
 
@@ -44,6 +52,59 @@ public class AddressBookParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    /** Parsers of the command words, which are shared as parsers hold no state. */
+    private static final PrefixTrie<Parser<? extends Command>> COMMAND_PARSERS = createCommandParsers();
+
+    private static PrefixTrie<Parser<? extends Command>> createCommandParsers() {
+        PrefixTrie<Parser<? extends Command>> parsers = new PrefixTrie<>();
+        parsers.put(AddCommand.COMMAND_WORD, new AddCommandParser());
+        parsers.put(EditCommand.COMMAND_WORD, new EditCommandParser());
+        parsers.put(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        parsers.put(LessonAddCommand.COMMAND_WORD, new LessonAddCommandParser());
+        parsers.put(LessonEditCommand.COMMAND_WORD, new LessonEditCommandParser());
+        parsers.put(LessonDeleteCommand.COMMAND_WORD, new LessonDeleteCommandParser());
+        parsers.put(FindCommand.COMMAND_WORD, new FindCommandParser());
+        parsers.put(ViewCommand.COMMAND_WORD, new ViewCommandParser());
+        parsers.put(PaidCommand.COMMAND_WORD, new PaidCommandParser());
+        parsers.put(TagAddCommand.COMMAND_WORD, new TagAddCommandParser());
+        parsers.put(CancelDateCommand.COMMAND_WORD, new CancelDateCommandParser(true));
+        parsers.put(CancelDateCommand.COMMAND_WORD_UNCANCEL, new CancelDateCommandParser(false));
+
+        parsers.put(ClearCommand.COMMAND_WORD, createNoArgsParser(ClearCommand::new, ClearCommand.MESSAGE_USAGE));
+        parsers.put(UndoCommand.COMMAND_WORD, createNoArgsParser(UndoCommand::new, UndoCommand.MESSAGE_USAGE));
+        parsers.put(RedoCommand.COMMAND_WORD, createNoArgsParser(RedoCommand::new, RedoCommand.MESSAGE_USAGE));
+        parsers.put(ListCommand.COMMAND_WORD, createNoArgsParser(ListCommand::new, ListCommand.MESSAGE_USAGE));
+        parsers.put(CalendarCommand.COMMAND_WORD,
+                createNoArgsParser(CalendarCommand::new, CalendarCommand.MESSAGE_USAGE));
+        parsers.put(DayCommand.COMMAND_WORD, createNoArgsParser(DayCommand::new, DayCommand.MESSAGE_USAGE));
+        parsers.put(WeekCommand.COMMAND_WORD, createNoArgsParser(WeekCommand::new, WeekCommand.MESSAGE_USAGE));
+        parsers.put(MonthCommand.COMMAND_WORD, createNoArgsParser(MonthCommand::new, MonthCommand.MESSAGE_USAGE));
+        parsers.put(YearCommand.COMMAND_WORD, createNoArgsParser(YearCommand::new, YearCommand.MESSAGE_USAGE));
+        parsers.put(TodayCommand.COMMAND_WORD, createNoArgsParser(TodayCommand::new, TodayCommand.MESSAGE_USAGE));
+        parsers.put(NextCommand.COMMAND_WORD, createNoArgsParser(NextCommand::new, NextCommand.MESSAGE_USAGE));
+        parsers.put(BackCommand.COMMAND_WORD, createNoArgsParser(BackCommand::new, BackCommand.MESSAGE_USAGE));
+        parsers.put(TagCommand.COMMAND_WORD, createNoArgsParser(TagCommand::new, TagCommand.MESSAGE_USAGE));
+        parsers.put(ExitCommand.COMMAND_WORD, createNoArgsParser(ExitCommand::new, ExitCommand.MESSAGE_USAGE));
+        parsers.put(HelpCommand.COMMAND_WORD, createNoArgsParser(HelpCommand::new, HelpCommand.MESSAGE_USAGE));
+        parsers.put(RemindCommand.COMMAND_WORD,
+                createNoArgsParser(RemindCommand::new, RemindCommand.MESSAGE_USAGE));
+        parsers.put(FeesCommand.COMMAND_WORD, createNoArgsParser(FeesCommand::new, FeesCommand.MESSAGE_USAGE));
+        parsers.put(StatsCommand.COMMAND_WORD, createNoArgsParser(StatsCommand::new, StatsCommand.MESSAGE_USAGE));
+        return parsers;
+    }
+
+    /**
+     * Returns a parser of a command that only has 1 command word and no arguments.
+     */
+    private static Parser<Command> createNoArgsParser(Supplier<Command> commandSupplier, String messageUsage) {
+        return arguments -> {
+            if (!arguments.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+            }
+            return commandSupplier.get();
+        };
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -60,142 +121,15 @@ public class AddressBookParser {
         final String commandWord = matcher.group("commandWord");
         final String arguments = matcher.group("arguments");
 
-        switch (commandWord.toLowerCase()) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case LessonAddCommand.COMMAND_WORD:
-            return new LessonAddCommandParser().parse(arguments);
-
-        case LessonEditCommand.COMMAND_WORD:
-            return new LessonEditCommandParser().parse(arguments);
-
-        case LessonDeleteCommand.COMMAND_WORD:
-            return new LessonDeleteCommandParser().parse(arguments);
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ViewCommand.COMMAND_WORD:
-            return new ViewCommandParser().parse(arguments);
-
-        case PaidCommand.COMMAND_WORD:
-            return new PaidCommandParser().parse(arguments);
-
-        default:
-            return parseSingleCommand(commandWord, arguments);
-        }
-
+        Parser<? extends Command> parser = COMMAND_PARSERS.get(commandWord.toLowerCase())
+                .orElseThrow(() -> new ParseException(MESSAGE_UNKNOWN_COMMAND));
+        return parser.parse(arguments);
     }
 
     /**
-     * Parse commands that only have 1 command word and no arguments
+     * Returns the command words that start with {@code partialCommandWord}, ignoring case, in alphabetical order.
      */
-    private Command parseSingleCommand(String commandWord, String arguments) throws ParseException {
-        checkEmptyArgs(commandWord, arguments);
-        switch (commandWord.toLowerCase()) {
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case UndoCommand.COMMAND_WORD:
-            return new UndoCommand();
-
-        case RedoCommand.COMMAND_WORD:
-            return new RedoCommand();
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case CalendarCommand.COMMAND_WORD:
-            return new CalendarCommand();
-
-        case DayCommand.COMMAND_WORD:
-            return new DayCommand();
-
-        case WeekCommand.COMMAND_WORD:
-            return new WeekCommand();
-
-        case MonthCommand.COMMAND_WORD:
-            return new MonthCommand();
-
-        case YearCommand.COMMAND_WORD:
-            return new YearCommand();
-
-        case TodayCommand.COMMAND_WORD:
-            return new TodayCommand();
-
-        case NextCommand.COMMAND_WORD:
-            return new NextCommand();
-
-        case BackCommand.COMMAND_WORD:
-            return new BackCommand();
-
-        case TagCommand.COMMAND_WORD:
-            return new TagCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case RemindCommand.COMMAND_WORD:
-            return new RemindCommand();
-
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
-    }
-
-    private void checkEmptyArgs(String commandWord, String args) throws ParseException {
-        if (args.isEmpty()) {
-            return;
-        }
-        switch (commandWord.toLowerCase()) {
-
-        case ClearCommand.COMMAND_WORD:
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ClearCommand.MESSAGE_USAGE));
-        case UndoCommand.COMMAND_WORD:
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UndoCommand.MESSAGE_USAGE));
-        case RedoCommand.COMMAND_WORD:
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RedoCommand.MESSAGE_USAGE));
-        case ListCommand.COMMAND_WORD:
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
-        case CalendarCommand.COMMAND_WORD:
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CalendarCommand.MESSAGE_USAGE));
-        case DayCommand.COMMAND_WORD:
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DayCommand.MESSAGE_USAGE));
-        case WeekCommand.COMMAND_WORD:
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, WeekCommand.MESSAGE_USAGE));
-        case MonthCommand.COMMAND_WORD:
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MonthCommand.MESSAGE_USAGE));
-        case YearCommand.COMMAND_WORD:
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, YearCommand.MESSAGE_USAGE));
-        case TodayCommand.COMMAND_WORD:
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TodayCommand.MESSAGE_USAGE));
-        case NextCommand.COMMAND_WORD:
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, NextCommand.MESSAGE_USAGE));
-        case BackCommand.COMMAND_WORD:
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BackCommand.MESSAGE_USAGE));
-        case TagCommand.COMMAND_WORD:
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TagCommand.MESSAGE_USAGE));
-        case ExitCommand.COMMAND_WORD:
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExitCommand.MESSAGE_USAGE));
-        case HelpCommand.COMMAND_WORD:
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
-        case RemindCommand.COMMAND_WORD:
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RemindCommand.MESSAGE_USAGE));
-
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
+    public List<String> getCommandWordCompletions(String partialCommandWord) {
+        return COMMAND_PARSERS.getKeysStartingWith(partialCommandWord.toLowerCase());
     }
 }
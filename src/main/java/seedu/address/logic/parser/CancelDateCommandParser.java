@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.CancelDateCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.lesson.Date;
+
+/**
+ * Parses input arguments and creates a new CancelDateCommand object.
+ */
+public class CancelDateCommandParser implements Parser<CancelDateCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_DATE);
+
+    private final boolean isCancelling;
+
+    /**
+     * Constructs a {@code CancelDateCommandParser} for a command that cancels lessons if {@code isCancelling},
+     * or uncancels them otherwise.
+     */
+    public CancelDateCommandParser(boolean isCancelling) {
+        this.isCancelling = isCancelling;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the CancelDateCommand
+     * and returns a CancelDateCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public CancelDateCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
+
+        String messageUsage = isCancelling ? CancelDateCommand.MESSAGE_USAGE : CancelDateCommand.MESSAGE_USAGE_UNCANCEL;
+        if (!argMultimap.getPreamble().isEmpty() || argMultimap.getAllValues(PREFIX_DATE).size() != 1) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+        }
+
+        Optional<Date> date = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
+        if (date.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+        }
+        return new CancelDateCommand(date.get(), isCancelling);
+    }
+}
@@ -32,6 +32,9 @@ import seedu.address.model.lesson.Homework;
  */
 public class LessonEditCommandParser implements Parser<LessonEditCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_RECURRING, PREFIX_DATE, PREFIX_TIME,
+            PREFIX_SUBJECT, PREFIX_HOMEWORK, PREFIX_RATES, PREFIX_OUTSTANDING_FEES, PREFIX_CANCEL, PREFIX_UNCANCEL);
+
     /**
      * Parses the given {@code String} of arguments in the context of the LessonEditCommand
      * and returns a LessonEditCommand object for execution.
@@ -41,10 +44,7 @@ public class LessonEditCommandParser implements Parser<LessonEditCommand> {
      */
     public LessonEditCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_RECURRING, PREFIX_DATE, PREFIX_TIME,
-                    PREFIX_SUBJECT, PREFIX_HOMEWORK, PREFIX_RATES, PREFIX_OUTSTANDING_FEES,
-                    PREFIX_CANCEL, PREFIX_UNCANCEL);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         String[] preamble = ParserUtil.parsePreamble(argMultimap.getPreamble());
         if (preamble.length != INDEX_ARGS_COUNT_STUDENT_LESSON) {
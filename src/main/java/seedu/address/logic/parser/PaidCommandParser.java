@@ -17,6 +17,8 @@ import seedu.address.model.lesson.Money;
  */
 public class PaidCommandParser implements Parser<PaidCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_PAID_AMOUNT);
+
     /**
      * Parses the given {@code String} of arguments in the context of the PaidCommand
      * and returns a PaidCommand object for execution.
@@ -24,7 +26,7 @@ public class PaidCommandParser implements Parser<PaidCommand> {
      */
     public PaidCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PAID_AMOUNT);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         String[] preamble = ParserUtil.parsePreamble(argMultimap.getPreamble());
         boolean isInvalidPreamble = preamble.length != INDEX_ARGS_COUNT_STUDENT_LESSON;
@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -53,6 +54,16 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
 
+    public static final String MESSAGE_INVALID_INDEX_RANGE = "The end of an index range cannot be before its start.";
+
+    /** Maximum number of indices in a single index range. */
+    public static final int MAX_INDEX_RANGE_SIZE = 100000;
+
+    public static final String MESSAGE_INDEX_RANGE_TOO_LARGE =
+            "An index range cannot have more than " + MAX_INDEX_RANGE_SIZE + " indices.";
+
+    public static final String INDEX_RANGE_SEPARATOR = "-";
+
     /**
      * Parses {@code preamble} into {@code String[]} and returns it.
      * Leading and trailing whitespaces will be stripped and
@@ -102,6 +113,38 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses {@code indexRanges} into the {@code Index} of each student in the ranges and returns them.
+     * Each range is either a single index, or two indices separated by {@code INDEX_RANGE_SEPARATOR},
+     * such as 2-5, which includes both ends. Indices in more than one range are only returned once.
+     *
+     * @param indexRanges The index ranges to parse.
+     * @return Indices in the ranges, in the order they are first given.
+     * @throws ParseException If an index or range is invalid.
+     */
+    public static List<Index> parseStudentIndexRanges(String... indexRanges) throws ParseException {
+        requireNonNull(indexRanges);
+        Set<Integer> zeroBasedIndices = new LinkedHashSet<>();
+        for (String indexRange : indexRanges) {
+            String[] ends = indexRange.split(INDEX_RANGE_SEPARATOR, -1);
+            if (ends.length > 2) {
+                throw new ParseException(MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+            }
+            Index start = parseStudentIndex(ends[0]);
+            Index end = ends.length == 2 ? parseStudentIndex(ends[1]) : start;
+            if (end.getZeroBased() < start.getZeroBased()) {
+                throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+            }
+            if (end.getZeroBased() - start.getZeroBased() >= MAX_INDEX_RANGE_SIZE) {
+                throw new ParseException(MESSAGE_INDEX_RANGE_TOO_LARGE);
+            }
+            for (int i = start.getZeroBased(); i <= end.getZeroBased(); i++) {
+                zeroBasedIndices.add(i);
+            }
+        }
+        return zeroBasedIndices.stream().map(Index::fromZeroBased).collect(Collectors.toList());
+    }
+
     /**
      * Parses {@code lessonIndex} into {@code Index} and returns it.
      *
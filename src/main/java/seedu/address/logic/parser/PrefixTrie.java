@@ -0,0 +1,104 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Maps string keys to values in a trie, so that the keys at a position of a string, or the keys starting with
+ * a string, can be found by walking the string once, however many keys there are.
+ *
+ * @param <V> Type of the values.
+ */
+public class PrefixTrie<V> {
+
+    private final Node<V> root = new Node<>();
+
+    /**
+     * Associates {@code value} with {@code key}, replacing the value of {@code key} if any.
+     * The empty key is not supported, as it would match everywhere.
+     */
+    public void put(String key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        assert !key.isEmpty();
+
+        Node<V> node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), unused -> new Node<>());
+        }
+        node.value = value;
+    }
+
+    /**
+     * Returns the value of {@code key}, if any.
+     */
+    public Optional<V> get(String key) {
+        requireNonNull(key);
+        Node<V> node = find(key);
+        return node == null ? Optional.empty() : Optional.ofNullable(node.value);
+    }
+
+    /**
+     * Returns the value of the longest key that {@code text} has at {@code start}, or null if there is none.
+     * Returns null rather than an empty {@code Optional} as this is called at every word of the text tokenized.
+     */
+    public V getLongestKeyValueAt(String text, int start) {
+        V longestValue = null;
+        Node<V> node = root;
+        for (int i = start; i < text.length(); i++) {
+            node = node.children.get(text.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.value != null) {
+                longestValue = node.value;
+            }
+        }
+        return longestValue;
+    }
+
+    /**
+     * Returns the keys that start with {@code prefix}, in alphabetical order.
+     */
+    public List<String> getKeysStartingWith(String prefix) {
+        requireNonNull(prefix);
+        List<String> keys = new ArrayList<>();
+        Node<V> node = find(prefix);
+        if (node != null) {
+            collectKeys(node, new StringBuilder(prefix), keys);
+        }
+        return keys;
+    }
+
+    private Node<V> find(String key) {
+        Node<V> node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+
+    private static <V> void collectKeys(Node<V> node, StringBuilder key, List<String> keys) {
+        if (node.value != null) {
+            keys.add(key.toString());
+        }
+        for (Map.Entry<Character, Node<V>> child : node.children.entrySet()) {
+            key.append(child.getKey());
+            collectKeys(child.getValue(), key, keys);
+            key.setLength(key.length() - 1);
+        }
+    }
+
+    /**
+     * A node of the trie, which is the end of a key if it has a value.
+     */
+    private static class Node<V> {
+        private final Map<Character, Node<V>> children = new TreeMap<>();
+        private V value;
+    }
+}
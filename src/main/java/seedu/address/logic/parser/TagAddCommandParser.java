@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.TagAddCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new TagAddCommand object.
+ */
+public class TagAddCommandParser implements Parser<TagAddCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_TAG);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the TagAddCommand
+     * and returns a TagAddCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public TagAddCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
+
+        String[] preamble = ParserUtil.parsePreamble(argMultimap.getPreamble());
+        if (preamble.length == 0 || argMultimap.getAllValues(PREFIX_TAG).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TagAddCommand.MESSAGE_USAGE));
+        }
+        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        if (tags.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TagAddCommand.MESSAGE_USAGE));
+        }
+
+        if (preamble.length == 1 && preamble[0].equalsIgnoreCase(BatchCommand.ALL_DISPLAYED_STUDENTS)) {
+            return new TagAddCommand(tags);
+        }
+        // index errors should come after field errors
+        List<Index> studentIndices = ParserUtil.parseStudentIndexRanges(preamble);
+        return new TagAddCommand(studentIndices, tags);
+    }
+}
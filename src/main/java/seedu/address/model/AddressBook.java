@@ -3,8 +3,11 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import com.calendarfx.model.Calendar;
@@ -12,10 +15,15 @@ import com.calendarfx.model.Entry;
 
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
+import seedu.address.commons.core.flightrecorder.PersonMutationEvent;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.lesson.CalendarEntryList;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonDateIndex;
+import seedu.address.model.person.FeesLedger;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.UniqueTagList;
@@ -23,6 +31,11 @@ import seedu.address.model.tag.UniqueTagList;
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * The calendar, tags and indexes derived from the persons are updated before the persons themselves,
+ * so that listeners of the person list, such as a filtered list testing persons against the search index,
+ * see the derived data of the persons they are notified of. The person list is checked first so that
+ * an invalid change does not reach the derived data.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
@@ -30,6 +43,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final CalendarEntryList entries;
     private LastUpdatedDate lastUpdatedDate;
     private final UniqueTagList tags;
+    private final PersonSearchIndex searchIndex;
+    private final LessonDateIndex lessonDateIndex;
+    private final FeesLedger feesLedger;
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -42,6 +58,9 @@ public class AddressBook implements ReadOnlyAddressBook {
         entries = new CalendarEntryList();
         lastUpdatedDate = new LastUpdatedDate();
         tags = new UniqueTagList();
+        searchIndex = new PersonSearchIndex();
+        lessonDateIndex = new LessonDateIndex();
+        feesLedger = new FeesLedger();
     }
 
     public AddressBook() {}
@@ -59,11 +78,16 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * The calendar, tags and indexes are rebuilt from {@code persons} in one batch each.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        requireAllNonNull(persons);
+        this.persons.requireUnique(persons);
+
         entries.resetLessons(persons);
         tags.addTagFromPersonList(persons);
+        resetDerivedData(persons);
+        this.persons.setPersons(persons);
     }
 
     /**
@@ -144,9 +168,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @param p Person to be added to the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        PersonMutationEvent event = PersonMutationEvent.start(PersonMutationEvent.ADD);
+        persons.requireAddable(p);
         entries.addLessons(p);
         tags.addTagFromPerson(p);
+        addDerivedData(p);
+        persons.add(p);
+        finish(event);
     }
 
     /**
@@ -157,9 +185,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @param p Person to be added.
      */
     public void addPerson(Index index, Person p) {
-        persons.add(p, index);
+        PersonMutationEvent event = PersonMutationEvent.start(PersonMutationEvent.ADD);
+        persons.requireAddable(p);
         entries.addLessons(p);
         tags.addTagFromPerson(p);
+        addDerivedData(p);
+        persons.add(p, index);
+        finish(event);
     }
 
     /**
@@ -169,9 +201,35 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
-        persons.setPerson(target, editedPerson);
+        PersonMutationEvent event = PersonMutationEvent.start(PersonMutationEvent.SET);
+        persons.requireSettable(target, editedPerson);
         entries.setLessons(target, editedPerson);
         tags.editTagFromPerson(target, editedPerson);
+        removeDerivedData(target);
+        addDerivedData(editedPerson);
+        persons.setPerson(target, editedPerson);
+        finish(event);
+    }
+
+    /**
+     * Replaces each target person in the address book with the corresponding edited person in one batch.
+     * All target persons must exist in the address book.
+     * The person identities of the edited persons must not be the same as other persons in the address book.
+     *
+     * @param editedPersons The edited persons mapped by the persons they replace.
+     */
+    public void replacePersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+        persons.requireReplaceable(editedPersons);
+        entries.setLessons(editedPersons);
+        for (Map.Entry<Person, Person> edit : editedPersons.entrySet()) {
+            if (!edit.getKey().getTags().equals(edit.getValue().getTags())) {
+                tags.editTagFromPerson(edit.getKey(), edit.getValue());
+            }
+            removeDerivedData(edit.getKey());
+            addDerivedData(edit.getValue());
+        }
+        persons.replacePersons(editedPersons);
     }
 
     /**
@@ -179,9 +237,71 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        PersonMutationEvent event = PersonMutationEvent.start(PersonMutationEvent.REMOVE);
+        persons.requireRemovable(key);
         entries.removeLessons(key);
         tags.removeTagFromPerson(key);
+        removeDerivedData(key);
+        persons.remove(key);
+        finish(event);
+    }
+
+    /**
+     * Adds {@code person} to the indexes kept by person, that is the search index, the lesson date index and
+     * the fees ledger. The calendar and tags are updated separately, as they have targeted edit operations.
+     */
+    private void addDerivedData(Person person) {
+        searchIndex.add(person);
+        lessonDateIndex.add(person);
+        feesLedger.add(person);
+    }
+
+    /**
+     * Removes {@code person} from the indexes kept by person.
+     */
+    private void removeDerivedData(Person person) {
+        searchIndex.remove(person);
+        lessonDateIndex.remove(person);
+        feesLedger.remove(person);
+    }
+
+    /**
+     * Rebuilds the indexes kept by person from {@code persons}.
+     */
+    private void resetDerivedData(List<Person> persons) {
+        searchIndex.clear();
+        lessonDateIndex.clear();
+        feesLedger.clear();
+        persons.forEach(this::addDerivedData);
+    }
+
+    private void finish(PersonMutationEvent event) {
+        event.finish(persons.asUnmodifiableObservableList().size(), entries.size());
+    }
+
+    /**
+     * Applies {@code change} to the persons of this {@code AddressBook}.
+     * A person put is added at the index of the change, or the end of the list if the index is out of range,
+     * unless a person with the same name exists, in which case that person is replaced in place.
+     * The person put must not clash with the lessons of other persons.
+     *
+     * @param change Change to apply.
+     */
+    public void applyPersonChange(PersonChange change) {
+        requireNonNull(change);
+        Optional<Person> existingPerson = persons.get(change.getName());
+        if (change.isRemoval()) {
+            existingPerson.ifPresent(this::removePerson);
+            return;
+        }
+
+        Person person = change.getPerson().get();
+        if (existingPerson.isPresent()) {
+            setPerson(existingPerson.get(), person);
+        } else {
+            int index = Math.min(change.getIndex(), persons.asUnmodifiableObservableList().size());
+            addPerson(Index.fromZeroBased(index), person);
+        }
     }
 
     //// util methods
@@ -226,6 +346,29 @@ public class AddressBook implements ReadOnlyAddressBook {
         return tags.asUnmodifiableMap();
     }
 
+    /**
+     * Returns the search index of the persons in the address book.
+     *
+     * @return The search index of all persons.
+     */
+    public PersonSearchIndex getPersonSearchIndex() {
+        return searchIndex;
+    }
+
+    /**
+     * Returns the index of the persons in this address book by the dates of their lessons.
+     */
+    public LessonDateIndex getLessonDateIndex() {
+        return lessonDateIndex;
+    }
+
+    /**
+     * Returns the running totals of the outstanding fees of the persons in this address book.
+     */
+    public FeesLedger getFeesLedger() {
+        return feesLedger;
+    }
+
     /**
      * Returns the Calendar consisting of all lessons entries.
      *
@@ -251,6 +394,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         entries.updateUpcomingLessons();
     }
 
+    /**
+     * Returns the earliest date time at which the list of upcoming lessons changes, if any.
+     *
+     * @return The date time of the next change to the list of upcoming lessons.
+     */
+    public Optional<LocalDateTime> getNextUpcomingLessonsUpdate() {
+        return entries.getNextUpcomingLessonsUpdate();
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * Represents the format the address book data file is stored in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable JSON, which can be edited by hand. */
+    JSON,
+    /** Compact binary snapshot, which is faster to read and write. */
+    BINARY
+}
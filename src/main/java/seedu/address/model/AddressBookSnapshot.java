@@ -0,0 +1,55 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An immutable copy of the data of an address book at one point in time.
+ * As persons and tags are immutable, only the lists holding them are copied, such that the snapshot
+ * can be taken cheaply and read from another thread while the original address book keeps changing.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+    private final ObservableList<Person> persons;
+    private final LastUpdatedDate lastUpdatedDate;
+    private final ObservableList<Tag> tags;
+    private final ObservableMap<Tag, Integer> tagCounter;
+
+    /**
+     * Creates a snapshot of the current data of {@code toCopy}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook toCopy) {
+        requireNonNull(toCopy);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(toCopy.getPersonList()));
+        lastUpdatedDate = toCopy.getLastUpdatedDate();
+        tags = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(toCopy.getTagList()));
+        ObservableMap<Tag, Integer> tagCounterCopy = FXCollections.observableHashMap();
+        tagCounterCopy.putAll(toCopy.getTagCounter());
+        tagCounter = FXCollections.unmodifiableObservableMap(tagCounterCopy);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public LastUpdatedDate getLastUpdatedDate() {
+        return lastUpdatedDate;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tags;
+    }
+
+    @Override
+    public ObservableMap<Tag, Integer> getTagCounter() {
+        return tagCounter;
+    }
+}
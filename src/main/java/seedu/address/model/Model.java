@@ -2,6 +2,9 @@ package seedu.address.model;
 
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -13,7 +16,10 @@ import javafx.collections.ObservableMap;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonDateIndex;
+import seedu.address.model.person.FeesLedger;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -112,6 +118,15 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each target person with the corresponding edited person in one batch.
+     * All target persons must exist in the address book.
+     * The person identities of the edited persons must not be the same as other persons in the address book.
+     *
+     * @param editedPersons The edited persons mapped by the persons they replace.
+     */
+    void replacePersons(Map<Person, Person> editedPersons);
+
     /**
      * Returns the Calendar.
      */
@@ -129,6 +144,34 @@ public interface Model {
      */
     void updateUpcomingLessons();
 
+    /**
+     * Returns the earliest date time at which the list of upcoming lessons changes, if any.
+     *
+     * @return The date time of the next change to the list of upcoming lessons.
+     */
+    Optional<LocalDateTime> getNextUpcomingLessonsUpdate();
+
+    /**
+     * Returns the search index of the persons in the address book.
+     *
+     * @return The search index of all persons.
+     */
+    PersonSearchIndex getPersonSearchIndex();
+
+    /**
+     * Returns the index of the persons in the address book by the dates of their lessons.
+     *
+     * @return The lesson date index of all persons.
+     */
+    LessonDateIndex getLessonDateIndex();
+
+    /**
+     * Returns the running totals of the outstanding fees of the persons in the address book.
+     *
+     * @return The fees ledger of all persons.
+     */
+    FeesLedger getFeesLedger();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -4,7 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -19,7 +22,10 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonDateIndex;
+import seedu.address.model.person.FeesLedger;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -39,7 +45,8 @@ public class ModelManager implements Model {
         super();
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        // the message lists every person, so it is only built if it is logged
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
@@ -156,6 +163,13 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void replacePersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+
+        addressBook.replacePersons(editedPersons);
+    }
+
     @Override
     public Calendar getCalendar() {
         return addressBook.getCalendar();
@@ -171,6 +185,11 @@ public class ModelManager implements Model {
         addressBook.updateUpcomingLessons();
     }
 
+    @Override
+    public Optional<LocalDateTime> getNextUpcomingLessonsUpdate() {
+        return addressBook.getNextUpcomingLessonsUpdate();
+    }
+
     @Override
     public ObservableList<Tag> getObservableTagList() {
         return addressBook.getTagList();
@@ -187,6 +206,21 @@ public class ModelManager implements Model {
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
      * {@code versionedAddressBook}
      */
+    @Override
+    public PersonSearchIndex getPersonSearchIndex() {
+        return addressBook.getPersonSearchIndex();
+    }
+
+    @Override
+    public LessonDateIndex getLessonDateIndex() {
+        return addressBook.getLessonDateIndex();
+    }
+
+    @Override
+    public FeesLedger getFeesLedger() {
+        return addressBook.getFeesLedger();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return filteredPersons;
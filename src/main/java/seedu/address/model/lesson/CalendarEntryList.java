@@ -6,10 +6,14 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -17,8 +21,8 @@ import com.calendarfx.model.Calendar;
 import com.calendarfx.model.Entry;
 import com.calendarfx.model.Interval;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.metrics.MetricsCenter;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.ClashingLessonException;
 import seedu.address.model.person.exceptions.LessonNotFoundException;
@@ -31,17 +35,21 @@ import seedu.address.model.person.exceptions.LessonNotFoundException;
  * being added or updated does not clash with other lessons in the CalendarEntryList.
  * However, the removal of a lesson uses Person#equals(Object) to ensure that the person with exactly the same fields
  * will be removed.
+ * Clash checks are answered through a {@code LessonClashIndex} instead of scanning every entry.
+ * Every batch of updates to the calendar is timed by the {@code MetricsCenter}.
  *
  * @author Chesterwongz, with add-ons from Xiaoyunnn and Lingshanng.
  * @see Lesson#isClashing(Lesson)
  */
 public class CalendarEntryList {
-    // two day time difference in minutes
-    private static final long TWO_DAY_DIFF = 2880;
+    public static final String METRIC_CALENDAR_UPDATE = "calendarUpdate";
+    public static final String METRIC_UPCOMING_LESSONS_UPDATE = "upcomingLessonsUpdate";
 
     private final Calendar calendar = new Calendar();
-    private final List<Entry<Lesson>> entryList = new ArrayList<>();
-    private final ObservableList<Entry<Lesson>> upcomingLessons = FXCollections.observableArrayList();
+    private final Set<Entry<Lesson>> entryList = new LinkedHashSet<>();
+    private final Map<Lesson, List<Entry<Lesson>>> lessonEntries = new HashMap<>();
+    private final LessonClashIndex clashIndex = new LessonClashIndex();
+    private final UpcomingLessonTracker upcomingLessons = new UpcomingLessonTracker();
 
     /**
      * Constructs a {@code CalendarEntryList} and sets the {@code Calendar} style.
@@ -54,57 +62,63 @@ public class CalendarEntryList {
         return calendar;
     }
 
+    /**
+     * Returns the number of calendar entries, where each recurring lesson is a single entry.
+     */
+    public int size() {
+        return entryList.size();
+    }
+
     private void add(Entry<Lesson> calendarEntry) {
         assert calendarEntry != null;
         calendar.addEntry(calendarEntry);
         entryList.add(calendarEntry);
-        addUpcomingLesson(calendarEntry);
-    }
-
-    /**
-     * Adds calendar entry to the list of upcoming lessons if the lesson for the specified calendar entry
-     * is upcoming within the next two days.
-     *
-     * @param calendarEntry Calendar Entry of lesson to be checked and added if it is upcoming.
-     */
-    private void addUpcomingLesson(Entry<Lesson> calendarEntry) {
-        Lesson lesson = calendarEntry.getUserObject();
-        boolean isNotInUpcomingLessons =
-                upcomingLessons.stream().noneMatch(entry -> entry.getUserObject().equals(lesson));
-        if (isUpcoming(lesson) && isNotInUpcomingLessons) {
-            upcomingLessons.add(calendarEntry);
-            sortUpcomingLessons();
-        }
+        lessonEntries.computeIfAbsent(calendarEntry.getUserObject(), lesson -> new ArrayList<>()).add(calendarEntry);
+        clashIndex.add(calendarEntry);
+        upcomingLessons.add(calendarEntry, LocalDateTime.now());
     }
 
     private void remove(Entry<Lesson> calendarEntry) {
         calendar.removeEntry(calendarEntry);
         entryList.remove(calendarEntry);
-        upcomingLessons.remove(calendarEntry);
-        sortUpcomingLessons();
+        List<Entry<Lesson>> entries = lessonEntries.get(calendarEntry.getUserObject());
+        if (entries != null) {
+            entries.remove(calendarEntry);
+            if (entries.isEmpty()) {
+                lessonEntries.remove(calendarEntry.getUserObject());
+            }
+        }
+        clashIndex.remove(calendarEntry);
+        if (upcomingLessons.remove(calendarEntry) && entries != null && !entries.isEmpty()) {
+            // track the lesson through one of its remaining entries
+            upcomingLessons.add(entries.get(0), LocalDateTime.now());
+        }
     }
 
     private void clear() {
         calendar.clear();
         entryList.clear();
+        lessonEntries.clear();
+        clashIndex.clear();
         upcomingLessons.clear();
     }
 
     /**
      * Retrieves the {@code Entry} that contains the {@code Lesson} we want to remove.
      * The Entry must exist within the {@code entryList}.
+     * Entries are looked up by lesson equality, so only the entries of the specified lesson are visited.
      *
      * @param toFind The Lesson whose Entry we want to find
      * @return The Entry that has the Lesson.
      * @throws LessonNotFoundException If the Entry does not exist.
      */
     private List<Entry<Lesson>> getEntries(Lesson toFind) {
-        List<Entry<Lesson>> entries = entryList.stream().filter(entry -> entry.getUserObject().equals(toFind))
-                .collect(Collectors.toList());
-        if (entries.isEmpty()) {
+        List<Entry<Lesson>> entries = lessonEntries.get(toFind);
+        if (entries == null || entries.isEmpty()) {
             throw new LessonNotFoundException();
         }
-        return entries;
+        // copy as the entries will be removed from the map while iterating
+        return new ArrayList<>(entries);
     }
 
     /**
@@ -115,7 +129,7 @@ public class CalendarEntryList {
      */
     public boolean hasClashes(Lesson toCheck) {
         requireNonNull(toCheck);
-        return entryList.stream().anyMatch(entry-> entry.getUserObject().isClashing(toCheck));
+        return clashIndex.hasClashes(toCheck, null);
     }
 
     /**
@@ -127,8 +141,7 @@ public class CalendarEntryList {
      */
     public boolean hasClashes(Lesson toCheck, Lesson toIgnore) {
         requireAllNonNull(toCheck, toIgnore);
-        return entryList.stream().anyMatch(entry-> !entry.getUserObject().equals(toIgnore)
-                && entry.getUserObject().isClashing(toCheck));
+        return clashIndex.hasClashes(toCheck, toIgnore);
     }
 
     /**
@@ -156,8 +169,7 @@ public class CalendarEntryList {
      */
     public Set<String> getClashes(Lesson toCheck, Lesson toIgnore) {
         requireAllNonNull(toCheck, toIgnore);
-        return entryList.stream()
-                .filter(entry-> !entry.getUserObject().equals(toIgnore) && entry.getUserObject().isClashing(toCheck))
+        return clashIndex.getClashingEntries(toCheck, toIgnore).stream()
                 .map(entry -> entry.getTitle() + " " + entry.getUserObject().getLessonDetails())
                 .collect(Collectors.toSet());
     }
@@ -170,8 +182,7 @@ public class CalendarEntryList {
      */
     public Set<String> getClashes(Lesson toCheck) {
         requireAllNonNull(toCheck);
-        return entryList.stream()
-                .filter(entry -> entry.getUserObject().isClashing(toCheck))
+        return clashIndex.getClashingEntries(toCheck, null).stream()
                 .map(entry -> entry.getTitle() + " " + entry.getUserObject().getLessonDetails())
                 .collect(Collectors.toSet());
     }
@@ -229,11 +240,17 @@ public class CalendarEntryList {
      */
     public void addLessons(Person person) {
         requireAllNonNull(person);
-        calendar.startBatchUpdates();
+        MetricsCenter.time(METRIC_CALENDAR_UPDATE, () -> {
+            calendar.startBatchUpdates();
+            addLessonsOf(person);
+            calendar.stopBatchUpdates();
+        });
+    }
+
+    private void addLessonsOf(Person person) {
         for (Lesson lesson : person.getLessons()) {
             addLesson(person, lesson);
         }
-        calendar.stopBatchUpdates();
     }
 
     /**
@@ -243,11 +260,13 @@ public class CalendarEntryList {
      */
     public void removeLessons(Person person) {
         requireAllNonNull(person);
-        calendar.startBatchUpdates();
-        for (Lesson lesson : person.getLessons()) {
-            removeLesson(lesson);
-        }
-        calendar.stopBatchUpdates();
+        MetricsCenter.time(METRIC_CALENDAR_UPDATE, () -> {
+            calendar.startBatchUpdates();
+            for (Lesson lesson : person.getLessons()) {
+                removeLesson(lesson);
+            }
+            calendar.stopBatchUpdates();
+        });
     }
 
     /**
@@ -263,17 +282,67 @@ public class CalendarEntryList {
     }
 
     /**
-     * Replaces the entries of the calendar with {@code persons}.
+     * Sets the lessons of each target person to the lessons of the corresponding edited person
+     * within a single batch of calendar updates.
+     * Only lessons that differ between the target and edited person are replaced, unless the name of the person
+     * has changed.
+     *
+     * @param editedPersons The edited persons mapped by the persons they replace.
+     */
+    public void setLessons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+        MetricsCenter.time(METRIC_CALENDAR_UPDATE, () -> {
+            calendar.startBatchUpdates();
+            // remove the previous versions first so that they do not clash with the updated lessons
+            for (Map.Entry<Person, Person> edit : editedPersons.entrySet()) {
+                for (Lesson lesson : getLessonsToReplace(edit.getKey(), edit.getValue())) {
+                    removeLesson(lesson);
+                }
+            }
+            for (Map.Entry<Person, Person> edit : editedPersons.entrySet()) {
+                for (Lesson lesson : getLessonsToReplace(edit.getValue(), edit.getKey())) {
+                    addLesson(edit.getValue(), lesson);
+                }
+            }
+            calendar.stopBatchUpdates();
+        });
+    }
+
+    /**
+     * Returns the lessons of {@code person} whose entries cannot be kept when {@code person} is swapped
+     * with {@code other}.
+     */
+    private static List<Lesson> getLessonsToReplace(Person person, Person other) {
+        if (!person.getName().equals(other.getName())) {
+            // entry titles contain the name of the person
+            return new ArrayList<>(person.getLessons());
+        }
+        Set<Lesson> otherLessons = new HashSet<>(other.getLessons());
+        return person.getLessons().stream()
+                .filter(lesson -> !otherLessons.contains(lesson))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Replaces the entries of the calendar with {@code persons} within a single batch of calendar updates.
      * {@code persons} must not contain clashing lessons.
      *
      * @param persons The list of persons we will use to build the {@code CalendarEntryList}.
+     * @throws ClashingLessonException If any of the lessons of {@code persons} clash.
      */
     public void resetLessons(List<Person> persons) {
         requireAllNonNull(persons);
-        clear();
-        for (Person person : persons) {
-            addLessons(person);
-        }
+        MetricsCenter.time(METRIC_CALENDAR_UPDATE, () -> {
+            calendar.startBatchUpdates();
+            try {
+                clear();
+                for (Person person : persons) {
+                    addLessonsOf(person);
+                }
+            } finally {
+                calendar.stopBatchUpdates();
+            }
+        });
     }
 
     /**
@@ -283,44 +352,25 @@ public class CalendarEntryList {
      * @return Unmodifiable observable list of upcoming lessons within two days.
      */
     public ObservableList<Entry<Lesson>> getUpcomingLessons() {
-        sortUpcomingLessons();
-        return FXCollections.unmodifiableObservableList(upcomingLessons);
-    }
-
-    /**
-     * Returns true if the lesson start or end time is within two days of current date time.
-     *
-     * @param lesson Lesson to be checked.
-     * @return True if the lesson start or end time is within two days of current date time.
-     */
-    private boolean isUpcoming(Lesson lesson) {
-        long endTimeDiff = ChronoUnit.MINUTES.between(LocalDateTime.now(), lesson.getDisplayEndLocalDateTime());
-        long startTimeDiff = ChronoUnit.MINUTES.between(LocalDateTime.now(), lesson.getDisplayStartLocalDateTime());
-        return endTimeDiff >= 0 && (startTimeDiff < TWO_DAY_DIFF || endTimeDiff < TWO_DAY_DIFF);
+        return upcomingLessons.asUnmodifiableObservableList();
     }
 
     /**
-     * Sorts the upcoming lessons from nearest to furthest date.
+     * Removes lesson entries with end date time that has passed the current time and add new upcoming lessons if any.
+     * Only the lessons that are due to enter or leave the list of upcoming lessons are checked.
      */
-    private void sortUpcomingLessons() {
-        List<Entry<Lesson>> sortedList = upcomingLessons.stream()
-                .sorted(Comparator.comparing(e -> e.getUserObject().getDisplayEndLocalDateTime()))
-                .collect(Collectors.toList());
-        upcomingLessons.setAll(sortedList);
+    public void updateUpcomingLessons() {
+        MetricsCenter.time(METRIC_UPCOMING_LESSONS_UPDATE, () -> upcomingLessons.update(LocalDateTime.now()));
     }
 
     /**
-     * Removes lesson entries with end date time that has passed the current time and add new upcoming lessons if any.
+     * Returns the earliest date time at which the list of upcoming lessons changes, if any.
+     * {@link #updateUpcomingLessons()} should be called at that time to refresh the list.
+     *
+     * @return The date time of the next change to the list of upcoming lessons.
      */
-    public void updateUpcomingLessons() {
-        for (Entry<Lesson> entry : entryList) {
-            Lesson lesson = entry.getUserObject();
-            if (upcomingLessons.contains(entry)
-                    && !isUpcoming(lesson)) {
-                upcomingLessons.remove(entry);
-            }
-            addUpcomingLesson(entry);
-        }
+    public Optional<LocalDateTime> getNextUpcomingLessonsUpdate() {
+        return upcomingLessons.getNextUpdateTime();
     }
 
     /**
@@ -425,7 +475,7 @@ public class CalendarEntryList {
 
     /**
      * Returns true if the compared object is an equivalent {@code CalendarEntryList}.
-     * Note that we don't use ArrayList#equals(Object) as we want to check if lessons are equal, not entries.
+     * Note that we don't use Set#equals(Object) as we want to check if lessons are equal, not entries.
      * CalendarFX Entry#equals(Object) method does not check equality of the user object, and only checks Entry.id,
      * which we do not set, so we should not use it.
      *
@@ -446,20 +496,23 @@ public class CalendarEntryList {
 
         // state check
         CalendarEntryList other = (CalendarEntryList) obj;
-        if (entryList.size() != other.entryList.size() || upcomingLessons.size() != other.upcomingLessons.size()) {
+        ObservableList<Entry<Lesson>> upcoming = getUpcomingLessons();
+        ObservableList<Entry<Lesson>> otherUpcoming = other.getUpcomingLessons();
+        if (entryList.size() != other.entryList.size() || upcoming.size() != otherUpcoming.size()) {
             return false;
         }
 
-        for (int i = 0; i < entryList.size(); i++) {
-            boolean equalPair = entryList.get(i).getUserObject().equals(other.entryList.get(i).getUserObject());
+        Iterator<Entry<Lesson>> otherEntries = other.entryList.iterator();
+        for (Entry<Lesson> entry : entryList) {
+            boolean equalPair = entry.getUserObject().equals(otherEntries.next().getUserObject());
             if (!equalPair) {
                 return false;
             }
         }
 
-        for (int i = 0; i < upcomingLessons.size(); i++) {
-            boolean equalPair = upcomingLessons.get(i).getUserObject()
-                    .equals(other.upcomingLessons.get(i).getUserObject());
+        for (int i = 0; i < upcoming.size(); i++) {
+            boolean equalPair = upcoming.get(i).getUserObject()
+                    .equals(otherUpcoming.get(i).getUserObject());
             if (!equalPair) {
                 return false;
             }
@@ -54,6 +54,22 @@ public class Date implements Comparable<Date> {
         localDate = LocalDate.parse(value, FORMATTER);
     }
 
+    private Date(LocalDate localDate) {
+        this.localDate = localDate;
+        value = localDate.format(FORMATTER).toUpperCase();
+    }
+
+    /**
+     * Returns the {@code Date} of {@code localDate}, with its value formatted as {@link #FORMATTER} formats it,
+     * without parsing the value.
+     *
+     * @param localDate The date.
+     */
+    public static Date fromLocalDate(LocalDate localDate) {
+        requireNonNull(localDate);
+        return new Date(localDate);
+    }
+
     /**
      * Returns if a given string is a valid date.
      *
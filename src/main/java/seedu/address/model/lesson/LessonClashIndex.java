@@ -0,0 +1,306 @@
+package seedu.address.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.calendarfx.model.Entry;
+
+/**
+ * An index of lesson calendar entries used to answer clash queries without scanning every entry.
+ * Entries are bucketed by the {@code DayOfWeek} of their lesson, and each bucket is an interval tree
+ * over the start and end minutes of the lesson {@code TimeRange}.
+ *
+ * Two lessons can only clash if they fall on the same day of the week and their time ranges overlap,
+ * so a query only visits the entries satisfying both conditions before confirming each candidate with
+ * {@code Lesson#isClashing(Lesson)}. This keeps the answers identical to a linear scan, including
+ * cancelled dates and non-terminating recurrences, while each query costs O(log n + k), where k is the
+ * number of candidates with an overlapping time range on the same day.
+ *
+ * @see Lesson#isClashing(Lesson)
+ */
+class LessonClashIndex {
+    private final Map<DayOfWeek, IntervalTree> buckets = new EnumMap<>(DayOfWeek.class);
+
+    /**
+     * Adds the calendar entry to the index.
+     *
+     * @param entry The calendar entry to add.
+     */
+    public void add(Entry<Lesson> entry) {
+        requireNonNull(entry);
+        Lesson lesson = entry.getUserObject();
+        buckets.computeIfAbsent(lesson.getDayOfWeek(), day -> new IntervalTree()).insert(entry);
+    }
+
+    /**
+     * Removes the calendar entry from the index.
+     * Does nothing if the entry has not been added.
+     *
+     * @param entry The calendar entry to remove.
+     */
+    public void remove(Entry<Lesson> entry) {
+        requireNonNull(entry);
+        IntervalTree tree = buckets.get(entry.getUserObject().getDayOfWeek());
+        if (tree != null) {
+            tree.delete(entry);
+        }
+    }
+
+    /**
+     * Removes all entries from the index.
+     */
+    public void clear() {
+        buckets.clear();
+    }
+
+    /**
+     * Returns the entries whose lessons clash with the specified lesson.
+     *
+     * @param toCheck The lesson to check.
+     * @param toIgnore The lesson whose entries are to be ignored, or null if none are to be ignored.
+     * @return The entries whose lessons clash with {@code toCheck}.
+     */
+    public List<Entry<Lesson>> getClashingEntries(Lesson toCheck, Lesson toIgnore) {
+        requireNonNull(toCheck);
+        List<Entry<Lesson>> clashingEntries = new ArrayList<>();
+        for (Entry<Lesson> entry : getCandidates(toCheck)) {
+            if (isClashing(entry, toCheck, toIgnore)) {
+                clashingEntries.add(entry);
+            }
+        }
+        return clashingEntries;
+    }
+
+    /**
+     * Returns true if any entry in the index has a lesson that clashes with the specified lesson.
+     *
+     * @param toCheck The lesson to check.
+     * @param toIgnore The lesson whose entries are to be ignored, or null if none are to be ignored.
+     * @return True if there is a clash in lesson timing, false otherwise.
+     */
+    public boolean hasClashes(Lesson toCheck, Lesson toIgnore) {
+        requireNonNull(toCheck);
+        for (Entry<Lesson> entry : getCandidates(toCheck)) {
+            if (isClashing(entry, toCheck, toIgnore)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isClashing(Entry<Lesson> entry, Lesson toCheck, Lesson toIgnore) {
+        Lesson lesson = entry.getUserObject();
+        return (toIgnore == null || !lesson.equals(toIgnore)) && lesson.isClashing(toCheck);
+    }
+
+    /**
+     * Returns the entries on the same day of the week as the specified lesson
+     * whose time ranges overlap with that of the lesson.
+     */
+    private List<Entry<Lesson>> getCandidates(Lesson toCheck) {
+        List<Entry<Lesson>> candidates = new ArrayList<>();
+        if (toCheck.isCancelled()) {
+            // fully cancelled lessons do not clash with any lesson
+            return candidates;
+        }
+        IntervalTree tree = buckets.get(toCheck.getDayOfWeek());
+        if (tree != null) {
+            TimeRange timeRange = toCheck.getTimeRange();
+            tree.collectOverlapping(timeRange.getStartMinutes(), timeRange.getEndMinutes(), candidates);
+        }
+        return candidates;
+    }
+
+    /**
+     * An AVL tree of calendar entries ordered by the start and then end minutes of their lessons.
+     * Each node keeps the maximum end minute of its subtree so that subtrees which cannot contain
+     * an overlapping time range are skipped.
+     */
+    private static class IntervalTree {
+        private Node root;
+
+        void insert(Entry<Lesson> entry) {
+            TimeRange timeRange = entry.getUserObject().getTimeRange();
+            root = insertInto(root, timeRange.getStartMinutes(), timeRange.getEndMinutes(), entry);
+        }
+
+        void delete(Entry<Lesson> entry) {
+            TimeRange timeRange = entry.getUserObject().getTimeRange();
+            root = deleteFrom(root, timeRange.getStartMinutes(), timeRange.getEndMinutes(), entry);
+        }
+
+        /**
+         * Adds all entries whose time range overlaps with the open interval ({@code start}, {@code end})
+         * to {@code result}. Time ranges that only touch at their end points do not overlap.
+         */
+        void collectOverlapping(int start, int end, List<Entry<Lesson>> result) {
+            collectFrom(root, start, end, result);
+        }
+
+        private static void collectFrom(Node node, int start, int end, List<Entry<Lesson>> result) {
+            if (node == null || node.maxEnd <= start) {
+                return;
+            }
+            collectFrom(node.left, start, end, result);
+            if (node.start >= end) {
+                // nodes in the right subtree start even later
+                return;
+            }
+            if (node.end > start) {
+                result.addAll(node.entries);
+            }
+            collectFrom(node.right, start, end, result);
+        }
+
+        private static Node insertInto(Node node, int start, int end, Entry<Lesson> entry) {
+            if (node == null) {
+                Node newNode = new Node(start, end);
+                newNode.entries.add(entry);
+                return newNode;
+            }
+            int comparison = compare(start, end, node);
+            if (comparison < 0) {
+                node.left = insertInto(node.left, start, end, entry);
+            } else if (comparison > 0) {
+                node.right = insertInto(node.right, start, end, entry);
+            } else {
+                node.entries.add(entry);
+                return node;
+            }
+            return rebalance(node);
+        }
+
+        private static Node deleteFrom(Node node, int start, int end, Entry<Lesson> entry) {
+            if (node == null) {
+                return null;
+            }
+            int comparison = compare(start, end, node);
+            if (comparison < 0) {
+                node.left = deleteFrom(node.left, start, end, entry);
+            } else if (comparison > 0) {
+                node.right = deleteFrom(node.right, start, end, entry);
+            } else {
+                removeByIdentity(node.entries, entry);
+                if (!node.entries.isEmpty()) {
+                    return node;
+                }
+                if (node.left == null) {
+                    return node.right;
+                }
+                if (node.right == null) {
+                    return node.left;
+                }
+                Node successor = node.right;
+                while (successor.left != null) {
+                    successor = successor.left;
+                }
+                Node replacement = new Node(successor.start, successor.end);
+                replacement.entries.addAll(successor.entries);
+                replacement.left = node.left;
+                replacement.right = deleteMin(node.right);
+                node = replacement;
+            }
+            return rebalance(node);
+        }
+
+        private static Node deleteMin(Node node) {
+            if (node.left == null) {
+                return node.right;
+            }
+            node.left = deleteMin(node.left);
+            return rebalance(node);
+        }
+
+        private static void removeByIdentity(List<Entry<Lesson>> entries, Entry<Lesson> toRemove) {
+            // CalendarFX Entry#equals(Object) does not compare lessons, so entries are matched by reference
+            Iterator<Entry<Lesson>> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next() == toRemove) {
+                    iterator.remove();
+                    return;
+                }
+            }
+        }
+
+        private static int compare(int start, int end, Node node) {
+            int comparison = Integer.compare(start, node.start);
+            return comparison != 0 ? comparison : Integer.compare(end, node.end);
+        }
+
+        private static int height(Node node) {
+            return node == null ? 0 : node.height;
+        }
+
+        private static Node rebalance(Node node) {
+            update(node);
+            int balance = height(node.left) - height(node.right);
+            if (balance > 1) {
+                if (height(node.left.left) < height(node.left.right)) {
+                    node.left = rotateLeft(node.left);
+                }
+                return rotateRight(node);
+            }
+            if (balance < -1) {
+                if (height(node.right.right) < height(node.right.left)) {
+                    node.right = rotateRight(node.right);
+                }
+                return rotateLeft(node);
+            }
+            return node;
+        }
+
+        private static Node rotateLeft(Node node) {
+            Node newRoot = node.right;
+            node.right = newRoot.left;
+            newRoot.left = node;
+            update(node);
+            update(newRoot);
+            return newRoot;
+        }
+
+        private static Node rotateRight(Node node) {
+            Node newRoot = node.left;
+            node.left = newRoot.right;
+            newRoot.right = node;
+            update(node);
+            update(newRoot);
+            return newRoot;
+        }
+
+        private static void update(Node node) {
+            node.height = Math.max(height(node.left), height(node.right)) + 1;
+            node.maxEnd = node.end;
+            if (node.left != null) {
+                node.maxEnd = Math.max(node.maxEnd, node.left.maxEnd);
+            }
+            if (node.right != null) {
+                node.maxEnd = Math.max(node.maxEnd, node.right.maxEnd);
+            }
+        }
+    }
+
+    /**
+     * A node of the interval tree holding all entries with the same start and end minutes.
+     */
+    private static class Node {
+        private final int start;
+        private final int end;
+        private final List<Entry<Lesson>> entries = new ArrayList<>();
+        private int height = 1;
+        private int maxEnd;
+        private Node left;
+        private Node right;
+
+        Node(int start, int end) {
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An index of persons by the dates of their lessons, used to find the lessons on a date without going
+ * through the lessons of every person.
+ *
+ * Make up lessons are indexed by their date, and recurring lessons by their day of week,
+ * so the persons with recurring lessons on the day of week of a date still have to be checked against
+ * the start and end dates of the lessons.
+ * Persons are compared by reference.
+ */
+public class LessonDateIndex {
+
+    private final Map<LocalDate, Set<Person>> makeUpLessonOwners = new HashMap<>();
+    private final Map<DayOfWeek, Set<Person>> recurringLessonOwners = new EnumMap<>(DayOfWeek.class);
+
+    /**
+     * Adds the lessons of the person to the index.
+     *
+     * @param person The person to add.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Lesson lesson : person.getLessons()) {
+            if (lesson.isRecurring()) {
+                recurringLessonOwners.computeIfAbsent(lesson.getDayOfWeek(), key -> newPersonSet()).add(person);
+            } else {
+                makeUpLessonOwners.computeIfAbsent(lesson.getLocalDate(), key -> newPersonSet()).add(person);
+            }
+        }
+    }
+
+    /**
+     * Removes the lessons of the person from the index.
+     * Does nothing if the person has not been added.
+     *
+     * @param person The person to remove.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Lesson lesson : person.getLessons()) {
+            if (lesson.isRecurring()) {
+                removeFromPostings(recurringLessonOwners, lesson.getDayOfWeek(), person);
+            } else {
+                removeFromPostings(makeUpLessonOwners, lesson.getLocalDate(), person);
+            }
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        makeUpLessonOwners.clear();
+        recurringLessonOwners.clear();
+    }
+
+    /**
+     * Returns the persons with at least one lesson that falls on the date, whether or not it is cancelled.
+     *
+     * @param date The date of the lessons.
+     * @return A new set of the persons with lessons on the date.
+     */
+    public Set<Person> getLessonOwners(Date date) {
+        requireNonNull(date);
+        Set<Person> owners = newPersonSet();
+        owners.addAll(makeUpLessonOwners.getOrDefault(date.getLocalDate(), Collections.emptySet()));
+        for (Person person : recurringLessonOwners.getOrDefault(date.getDayOfWeek(), Collections.emptySet())) {
+            if (person.getLessons().stream().anyMatch(lesson -> isOnDate(lesson, date))) {
+                owners.add(person);
+            }
+        }
+        return owners;
+    }
+
+    /**
+     * Returns true if the lesson falls on the date, whether or not the lesson is cancelled on the date.
+     *
+     * @param lesson The lesson to check.
+     * @param date The date to check.
+     * @return True if the date is a date of the lesson.
+     */
+    public static boolean isOnDate(Lesson lesson, Date date) {
+        return lesson.isRecurring()
+                ? date.isOnRecurringDate(lesson.getStartDate(), lesson.getEndDate())
+                : lesson.getLocalDate().equals(date.getLocalDate());
+    }
+
+    private static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static <K> void removeFromPostings(Map<K, Set<Person>> postings, K key, Person person) {
+        Set<Person> persons = postings.get(key);
+        if (persons != null) {
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+}
@@ -15,6 +15,15 @@ public class LessonRates extends Money {
         super(lessonRates);
     }
 
+    /**
+     * Constructs a {@code LessonRates} of the specified number of cents.
+     *
+     * @param valueInCents A non-negative number of cents.
+     */
+    public LessonRates(long valueInCents) {
+        super(valueInCents);
+    }
+
     @Override
     public String toString() {
         return "$" + value;
@@ -22,6 +22,7 @@ public class Money {
     public static final String VALIDATION_REGEX = "^[0-9]+(\\.[0-9]{1,2})?$";
     public final String value;
     private final BigDecimal valueInBigDec;
+    private final long valueInCents;
 
     /**
      * Constructs a {@code Money}.
@@ -33,6 +34,56 @@ public class Money {
         checkArgument(isValidMonetaryField(amount));
         value = formatValue(fillEmptyString(amount));
         valueInBigDec = new BigDecimal(value);
+        valueInCents = toCents(valueInBigDec);
+    }
+
+    /**
+     * Constructs a {@code Money} of the specified number of cents, without parsing an amount.
+     *
+     * @param valueInCents A non-negative number of cents.
+     */
+    protected Money(long valueInCents) {
+        checkArgument(valueInCents >= 0);
+        value = formatCents(valueInCents);
+        valueInBigDec = BigDecimal.valueOf(valueInCents, 2);
+        this.valueInCents = valueInCents;
+    }
+
+    /**
+     * Returns the number of cents in {@code amount}, or -1 if it does not fit in a {@code long}.
+     */
+    private static long toCents(BigDecimal amount) {
+        try {
+            return amount.movePointRight(2).longValueExact();
+        } catch (ArithmeticException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns a string representing the specified number of cents with two decimal places.
+     *
+     * @param cents A non-negative number of cents.
+     * @return The formatted amount, e.g. 12.50 for 1250 cents.
+     */
+    public static String formatCents(long cents) {
+        assert cents >= 0;
+        long remainder = cents % 100;
+        return (cents / 100) + (remainder < 10 ? ".0" : ".") + remainder;
+    }
+
+    /**
+     * Gets the value in Money object in cents such that it can be used for calculations without
+     * {@code BigDecimal} arithmetic.
+     *
+     * @return Value in cents.
+     * @throws ArithmeticException If the value in cents does not fit in a {@code long}.
+     */
+    public long getValueInCents() {
+        if (valueInCents < 0) {
+            throw new ArithmeticException("Amount is too large to be represented in cents: " + value);
+        }
+        return valueInCents;
     }
 
     private String fillEmptyString(String amount) {
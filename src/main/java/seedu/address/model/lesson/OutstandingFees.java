@@ -19,6 +19,15 @@ public class OutstandingFees extends Money {
         super(outstandingFees);
     }
 
+    /**
+     * Constructs a {@code OutstandingFees} of the specified number of cents.
+     *
+     * @param valueInCents A non-negative number of cents.
+     */
+    public OutstandingFees(long valueInCents) {
+        super(valueInCents);
+    }
+
     /**
      * Returns true if outstandingFee value is empty.
      *
@@ -45,6 +45,27 @@ public class TimeRange implements Comparable<TimeRange> {
         end = LocalTime.parse(startEndTimes[1], DATE_TIME_FORMAT);
     }
 
+    private TimeRange(LocalTime start, LocalTime end) {
+        this.start = start;
+        this.end = end;
+        value = start.format(DATE_TIME_FORMAT) + "-" + end.format(DATE_TIME_FORMAT);
+    }
+
+    /**
+     * Returns the {@code TimeRange} between the specified minutes after midnight,
+     * with its value formatted as HHmm-HHmm, without parsing the value.
+     *
+     * @param startMinutes Start time as the number of minutes after midnight.
+     * @param endMinutes End time as the number of minutes after midnight.
+     */
+    public static TimeRange fromMinutes(int startMinutes, int endMinutes) {
+        LocalTime start = LocalTime.ofSecondOfDay(startMinutes * 60L);
+        LocalTime end = LocalTime.ofSecondOfDay(endMinutes * 60L);
+        checkArgument(end.compareTo(start) > 0 && start.compareTo(DAY_START) >= 0 && end.compareTo(DAY_END) <= 0,
+                MESSAGE_CONSTRAINTS);
+        return new TimeRange(start, end);
+    }
+
     public LocalTime getStart() {
         return start;
     }
@@ -53,6 +74,20 @@ public class TimeRange implements Comparable<TimeRange> {
         return end;
     }
 
+    /**
+     * Returns the start time as the number of minutes after midnight.
+     */
+    public int getStartMinutes() {
+        return start.toSecondOfDay() / 60;
+    }
+
+    /**
+     * Returns the end time as the number of minutes after midnight.
+     */
+    public int getEndMinutes() {
+        return end.toSecondOfDay() / 60;
+    }
+
     public Duration getDuration() {
         return Duration.between(start, end);
     }
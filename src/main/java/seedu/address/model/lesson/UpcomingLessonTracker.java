@@ -0,0 +1,206 @@
+package seedu.address.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import com.calendarfx.model.Entry;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * Keeps track of the lessons that are upcoming within the next two days.
+ *
+ * Each tracked lesson is scheduled with the time at which it next needs to be checked, which is when it
+ * enters the two day window, leaves the window, or moves on to its next occurrence.
+ * Updating the upcoming lessons only re-evaluates the lessons that are due, and the list of upcoming lessons
+ * is kept sorted by display end date time through targeted insertions and removals.
+ */
+class UpcomingLessonTracker {
+    // two day time difference in minutes
+    private static final long TWO_DAY_DIFF = 2880;
+
+    private final ObservableList<Entry<Lesson>> upcomingLessons = FXCollections.observableArrayList();
+    private final ObservableList<Entry<Lesson>> unmodifiableUpcomingLessons =
+            FXCollections.unmodifiableObservableList(upcomingLessons);
+    private final Map<Lesson, TrackedLesson> trackedLessons = new HashMap<>();
+    private final TreeSet<TrackedLesson> pendingChecks = new TreeSet<>(
+            Comparator.comparing((TrackedLesson tracked) -> tracked.nextCheck)
+                    .thenComparingLong(tracked -> tracked.id));
+    private long nextId = 0;
+
+    /**
+     * Starts tracking the lesson of the specified calendar entry.
+     * Only one calendar entry is tracked for each lesson.
+     *
+     * @param entry The calendar entry of the lesson to track.
+     * @param now The current date time.
+     */
+    public void add(Entry<Lesson> entry, LocalDateTime now) {
+        requireNonNull(entry);
+        Lesson lesson = entry.getUserObject();
+        if (trackedLessons.containsKey(lesson)) {
+            return;
+        }
+        TrackedLesson tracked = new TrackedLesson(entry, nextId++);
+        trackedLessons.put(lesson, tracked);
+        evaluate(tracked, now);
+    }
+
+    /**
+     * Stops tracking the specified calendar entry.
+     *
+     * @param entry The calendar entry to stop tracking.
+     * @return True if the entry was the one tracked for its lesson.
+     */
+    public boolean remove(Entry<Lesson> entry) {
+        requireNonNull(entry);
+        TrackedLesson tracked = trackedLessons.get(entry.getUserObject());
+        if (tracked == null || tracked.entry != entry) {
+            return false;
+        }
+        hide(tracked);
+        schedule(tracked, null);
+        trackedLessons.remove(entry.getUserObject());
+        return true;
+    }
+
+    /**
+     * Stops tracking all lessons.
+     */
+    public void clear() {
+        trackedLessons.clear();
+        pendingChecks.clear();
+        upcomingLessons.clear();
+    }
+
+    /**
+     * Re-evaluates the lessons that are due to enter or leave the list of upcoming lessons.
+     *
+     * @param now The current date time.
+     */
+    public void update(LocalDateTime now) {
+        requireNonNull(now);
+        List<TrackedLesson> dueLessons = new ArrayList<>();
+        while (!pendingChecks.isEmpty() && !pendingChecks.first().nextCheck.isAfter(now)) {
+            dueLessons.add(pendingChecks.pollFirst());
+        }
+        for (TrackedLesson tracked : dueLessons) {
+            tracked.nextCheck = null;
+            evaluate(tracked, now);
+        }
+    }
+
+    /**
+     * Returns the earliest date time at which the list of upcoming lessons changes, if any.
+     */
+    public Optional<LocalDateTime> getNextUpdateTime() {
+        return pendingChecks.isEmpty() ? Optional.empty() : Optional.of(pendingChecks.first().nextCheck);
+    }
+
+    /**
+     * Returns an unmodifiable view of upcoming lessons, sorted from the earliest to the latest end date time.
+     */
+    public ObservableList<Entry<Lesson>> asUnmodifiableObservableList() {
+        return unmodifiableUpcomingLessons;
+    }
+
+    /**
+     * Shows or hides the tracked lesson depending on whether it is upcoming, and schedules its next check.
+     */
+    private void evaluate(TrackedLesson tracked, LocalDateTime now) {
+        Lesson lesson = tracked.entry.getUserObject();
+        LocalDate displayDate = lesson.getDisplayLocalDate();
+        LocalDateTime start = lesson.getTimeRange().getStart().atDate(displayDate);
+        LocalDateTime end = lesson.getTimeRange().getEnd().atDate(displayDate);
+
+        long endTimeDiff = ChronoUnit.MINUTES.between(now, end);
+        long startTimeDiff = ChronoUnit.MINUTES.between(now, start);
+        boolean isUpcoming = endTimeDiff >= 0 && (startTimeDiff < TWO_DAY_DIFF || endTimeDiff < TWO_DAY_DIFF);
+
+        if (tracked.isShown && (!isUpcoming || !end.equals(tracked.displayEnd))) {
+            hide(tracked);
+        }
+        tracked.displayEnd = end;
+        if (isUpcoming && !tracked.isShown) {
+            show(tracked);
+        }
+
+        if (isUpcoming) {
+            // leaves the window once the end time is more than a minute ago
+            schedule(tracked, end.plusMinutes(1));
+        } else if (endTimeDiff >= 0) {
+            // enters the window once the start time is less than two days away
+            schedule(tracked, start.minusMinutes(TWO_DAY_DIFF).plusNanos(1));
+        } else if (lesson.isRecurring() && lesson.getEndDate().getLocalDate().isAfter(now.toLocalDate())) {
+            // the display date of a recurring lesson moves on to the next occurrence on the next day
+            schedule(tracked, now.toLocalDate().plusDays(1).atStartOfDay());
+        } else {
+            // lesson does not occur anymore
+            schedule(tracked, null);
+        }
+    }
+
+    private void schedule(TrackedLesson tracked, LocalDateTime nextCheck) {
+        if (tracked.nextCheck != null) {
+            pendingChecks.remove(tracked);
+        }
+        tracked.nextCheck = nextCheck;
+        if (nextCheck != null) {
+            pendingChecks.add(tracked);
+        }
+    }
+
+    /**
+     * Inserts the tracked lesson into the list of upcoming lessons after all entries that end
+     * at the same time or earlier.
+     */
+    private void show(TrackedLesson tracked) {
+        int low = 0;
+        int high = upcomingLessons.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            LocalDateTime midEnd = trackedLessons.get(upcomingLessons.get(mid).getUserObject()).displayEnd;
+            if (midEnd.isAfter(tracked.displayEnd)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        upcomingLessons.add(low, tracked.entry);
+        tracked.isShown = true;
+    }
+
+    private void hide(TrackedLesson tracked) {
+        if (tracked.isShown) {
+            upcomingLessons.remove(tracked.entry);
+            tracked.isShown = false;
+        }
+    }
+
+    /**
+     * A lesson that is tracked through one of its calendar entries.
+     */
+    private static class TrackedLesson {
+        private final Entry<Lesson> entry;
+        private final long id;
+        private LocalDateTime displayEnd;
+        private LocalDateTime nextCheck;
+        private boolean isShown = false;
+
+        TrackedLesson(Entry<Lesson> entry, long id) {
+            this.entry = entry;
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Subject;
+
+/**
+ * Running totals of the outstanding fees of persons, updated as persons are added and removed,
+ * so the totals of the whole address book, of each subject and of each person never have to be recomputed.
+ *
+ * Fees are totalled in cents. If a total no longer fits in a {@code long}, the ledger stops keeping totals
+ * until it is cleared, and {@link #isOverflowed()} returns true.
+ * Persons are compared by reference.
+ */
+public class FeesLedger {
+
+    private static final Comparator<Debt> LARGEST_DEBT_FIRST = Comparator.<Debt>comparingLong(debt -> debt.cents)
+            .reversed()
+            .thenComparing(debt -> debt.person.getName().fullName)
+            .thenComparingInt(debt -> System.identityHashCode(debt.person));
+
+    private final Map<Person, Debt> debts = new IdentityHashMap<>();
+    private final TreeSet<Debt> sortedDebts = new TreeSet<>(LARGEST_DEBT_FIRST);
+    private final Map<Subject, Long> subjectCents = new HashMap<>();
+    private long totalCents = 0;
+    private boolean isOverflowed = false;
+
+    /**
+     * Adds the outstanding fees of the person to the totals.
+     *
+     * @param person The person to add.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (isOverflowed) {
+            return;
+        }
+
+        try {
+            long personCents = 0;
+            for (Lesson lesson : person.getLessons()) {
+                long lessonCents = lesson.getOutstandingFees().getValueInCents();
+                personCents = Math.addExact(personCents, lessonCents);
+                subjectCents.merge(lesson.getSubject(), lessonCents, Math::addExact);
+            }
+            totalCents = Math.addExact(totalCents, personCents);
+
+            Debt debt = new Debt(person, personCents);
+            debts.put(person, debt);
+            if (personCents > 0) {
+                sortedDebts.add(debt);
+            }
+        } catch (ArithmeticException e) {
+            overflow();
+        }
+    }
+
+    /**
+     * Removes the outstanding fees of the person from the totals.
+     * Does nothing if the person has not been added.
+     *
+     * @param person The person to remove.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Debt debt = debts.remove(person);
+        if (debt == null) {
+            return;
+        }
+
+        sortedDebts.remove(debt);
+        for (Lesson lesson : person.getLessons()) {
+            long lessonCents = lesson.getOutstandingFees().getValueInCents();
+            subjectCents.computeIfPresent(lesson.getSubject(), (subject, cents) -> cents == lessonCents
+                    ? null
+                    : cents - lessonCents);
+        }
+        totalCents -= debt.cents;
+    }
+
+    /**
+     * Removes all persons from the ledger, which resumes keeping totals if it has overflowed.
+     */
+    public void clear() {
+        debts.clear();
+        sortedDebts.clear();
+        subjectCents.clear();
+        totalCents = 0;
+        isOverflowed = false;
+    }
+
+    /**
+     * Returns true if the totals became too large to be kept in cents, in which case they are not kept.
+     */
+    public boolean isOverflowed() {
+        return isOverflowed;
+    }
+
+    /**
+     * Returns the total outstanding fees of all persons in cents.
+     */
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    /**
+     * Returns the outstanding fees of the person in cents, or 0 if the person has not been added.
+     *
+     * @param person The person whose fees to return.
+     */
+    public long getPersonCents(Person person) {
+        requireNonNull(person);
+        Debt debt = debts.get(person);
+        return debt == null ? 0 : debt.cents;
+    }
+
+    /**
+     * Returns the total outstanding fees in cents of the lessons of each subject.
+     * Subjects without outstanding fees are left out.
+     */
+    public Map<Subject, Long> getSubjectCents() {
+        Map<Subject, Long> nonZeroSubjectCents = new HashMap<>(subjectCents);
+        nonZeroSubjectCents.values().removeIf(cents -> cents == 0);
+        return Collections.unmodifiableMap(nonZeroSubjectCents);
+    }
+
+    /**
+     * Returns up to {@code count} persons with outstanding fees, from the largest fees to the smallest.
+     * Persons with the same fees are ordered by name.
+     *
+     * @param count The maximum number of persons to return.
+     */
+    public List<Person> getTopDebtors(int count) {
+        List<Person> topDebtors = new ArrayList<>();
+        Iterator<Debt> iterator = sortedDebts.iterator();
+        while (topDebtors.size() < count && iterator.hasNext()) {
+            topDebtors.add(iterator.next().person);
+        }
+        return topDebtors;
+    }
+
+    private void overflow() {
+        clear();
+        isOverflowed = true;
+    }
+
+    /**
+     * The outstanding fees of a person when it was added.
+     */
+    private static class Debt {
+        private final Person person;
+        private final long cents;
+
+        Debt(Person person, long cents) {
+            this.person = person;
+            this.cents = cents;
+        }
+    }
+}
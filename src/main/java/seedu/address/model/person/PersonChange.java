@@ -0,0 +1,96 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents a change to the persons of an address book, identified by the name of the person changed.
+ * A change either puts a person into the address book, replacing the person with the same name if there is one,
+ * or removes the person with a name.
+ *
+ * As a change sets the person with a name to a single value, applying a sequence of changes again
+ * to data that already has them applied does not change the persons in the data.
+ */
+public class PersonChange {
+    private final Name name;
+    private final Person person;
+    private final int index;
+
+    private PersonChange(Name name, Person person, int index) {
+        this.name = name;
+        this.person = person;
+        this.index = index;
+    }
+
+    /**
+     * Returns a change that puts {@code person} at {@code index} of the persons,
+     * or in place of the person with the same name if there is one.
+     *
+     * @param person Person to put into the address book.
+     * @param index Zero-based index of the person in the list of persons after the change.
+     */
+    public static PersonChange put(Person person, int index) {
+        requireNonNull(person);
+        assert index >= 0;
+        return new PersonChange(person.getName(), person, index);
+    }
+
+    /**
+     * Returns a change that removes the person named {@code name}, if there is one.
+     *
+     * @param name Name of the person to remove.
+     */
+    public static PersonChange remove(Name name) {
+        requireNonNull(name);
+        return new PersonChange(name, null, -1);
+    }
+
+    public Name getName() {
+        return name;
+    }
+
+    /**
+     * Returns the person put by this change, or an empty optional if this change removes a person.
+     */
+    public Optional<Person> getPerson() {
+        return Optional.ofNullable(person);
+    }
+
+    /**
+     * Returns the zero-based index of the person put by this change, or -1 if this change removes a person.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public boolean isRemoval() {
+        return person == null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof PersonChange)) {
+            return false;
+        }
+
+        PersonChange otherChange = (PersonChange) other;
+        return name.equals(otherChange.name)
+                && Objects.equals(person, otherChange.person)
+                && index == otherChange.index;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, person, index);
+    }
+
+    @Override
+    public String toString() {
+        return isRemoval() ? "Remove " + name : "Put " + name + " at " + index;
+    }
+}
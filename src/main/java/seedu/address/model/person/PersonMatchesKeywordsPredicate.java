@@ -1,24 +1,35 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.FindCommand.FindCondition;
 import seedu.address.model.lesson.Date;
+import seedu.address.model.lesson.Homework;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.lesson.TimeRange;
+import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Person}'s fields matches the keywords given.
+ * The keywords are compiled into a list of predicates on the first test after they are set,
+ * so testing a person does not rebuild the predicates.
+ * If a search index is set, only the candidates from the index are tested against the full fields.
  */
 public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
+    private static final String MESSAGE_KEYWORD_CANNOT_EMPTY = "Keyword cannot be empty";
+    private static final long CANDIDATES_NOT_RESOLVED = -1;
+
     private List<String> nameKeywords;
     private List<String> phoneKeywords;
     private List<String> emailKeywords;
@@ -41,6 +52,14 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
 
     private FindCondition condition = FindCondition.ALL; // default find condition is match all
 
+    // predicates compiled from the keywords and fields, or null if they have changed since the last test
+    private List<Predicate<Person>> plan;
+
+    // candidates narrowed down through the search index, or null if all persons have to be tested
+    private PersonSearchIndex searchIndex;
+    private Set<Person> candidates;
+    private long candidatesVersion = CANDIDATES_NOT_RESOLVED;
+
     /**
      * Returns true if at least one field is searched.
      *
@@ -68,6 +87,18 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
      */
     public void setCondition(FindCondition condition) {
         this.condition = condition;
+        candidatesVersion = CANDIDATES_NOT_RESOLVED;
+    }
+
+    /**
+     * Sets the search index used to narrow down the persons to test.
+     * Persons that are not in the search index are treated as not matching any of the indexed fields.
+     *
+     * @param searchIndex The search index of all persons to be tested.
+     */
+    public void setSearchIndex(PersonSearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+        candidatesVersion = CANDIDATES_NOT_RESOLVED;
     }
 
     /**
@@ -84,6 +115,7 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
      */
     public void setNameKeywords(List<String> keywords) {
         nameKeywords = keywords;
+        plan = null;
     }
 
     /**
@@ -100,6 +132,7 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
      */
     public void setPhoneKeywords(List<String> keywords) {
         phoneKeywords = keywords;
+        plan = null;
     }
 
     /**
@@ -116,6 +149,7 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
      */
     public void setEmailKeywords(List<String> keywords) {
         emailKeywords = keywords;
+        plan = null;
     }
 
     /**
@@ -132,6 +166,7 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
      */
     public void setParentPhoneKeywords(List<String> keywords) {
         parentPhoneKeywords = keywords;
+        plan = null;
     }
 
     /**
@@ -148,6 +183,7 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
      */
     public void setParentEmailKeywords(List<String> keywords) {
         parentEmailKeywords = keywords;
+        plan = null;
     }
 
     /**
@@ -164,6 +200,7 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
      */
     public void setAddressKeywords(List<String> keywords) {
         addressKeywords = keywords;
+        plan = null;
     }
 
     /**
@@ -180,6 +217,7 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
      */
     public void setSchoolKeywords(List<String> keywords) {
         schoolKeywords = keywords;
+        plan = null;
     }
 
     /**
@@ -196,6 +234,7 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
      */
     public void setAcadStreamKeywords(List<String> keywords) {
         acadStreamKeywords = keywords;
+        plan = null;
     }
 
     /**
@@ -212,6 +251,7 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
      */
     public void setAcadLevelKeywords(List<String> keywords) {
         acadLevelKeywords = keywords;
+        plan = null;
     }
 
     /**
@@ -228,6 +268,7 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
      */
     public void setRemarkKeywords(List<String> keywords) {
         this.remarkKeywords = keywords;
+        plan = null;
     }
 
     /**
@@ -237,6 +278,7 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
      */
     public void setTimeRange(TimeRange timeRange) {
         this.timeRange = timeRange;
+        plan = null;
     }
 
     /**
@@ -253,6 +295,7 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
      */
     public void setDate(Date date) {
         this.date = date;
+        plan = null;
     }
 
     /**
@@ -269,6 +312,7 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
      */
     public void setCancelledDate(Date cancelledDate) {
         this.cancelledDate = cancelledDate;
+        plan = null;
     }
 
     /**
@@ -285,6 +329,7 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
      */
     public void setSubjectKeywords(List<String> keywords) {
         subjectKeywords = keywords;
+        plan = null;
     }
 
     /**
@@ -301,6 +346,7 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
      */
     public void setRatesKeywords(List<String> keywords) {
         ratesKeywords = keywords;
+        plan = null;
     }
 
     /**
@@ -317,6 +363,7 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
      */
     public void setHomeworkKeywords(List<String> keywords) {
         homeworkKeywords = keywords;
+        plan = null;
     }
 
     /**
@@ -340,163 +387,84 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
      */
     public void setTagKeywords(List<String> keywords) {
         this.tagKeywords = keywords;
+        plan = null;
     }
 
     /**
-     * Returns true if field matches any of the keywords given.
+     * Returns true if field matches all of the keywords given.
      * There is a match if a keyword is a substring of the field.
      *
-     * @param keywords Keywords to find.
+     * @param lowerCaseKeywords Lower case keywords to find.
      * @param field    Person's field to match with keywords.
      * @return True if field matches keywords.
      */
-    private boolean isMatch(List<String> keywords, String field) {
-        requireAllNonNull(keywords, field);
-        return keywords.stream().allMatch(keyword -> StringUtil.containsSubstringIgnoreCase(field, keyword));
-    }
-
-    // Person Predicates -----------------------------------------------------------------------------------------------
-    /**
-     * Returns a {@code Predicate} that tests that a {@code Person}'s {@code Name} matches the keywords given.
-     *
-     * @return A predicate that tests a person's name.
-     */
-    private Predicate<Person> getNameMatchPredicate() {
-        return person -> isMatch(nameKeywords, person.getName().fullName);
-    }
-
-    /**
-     * Returns a {@code Predicate} that tests that a {@code Person}'s {@code Phone} matches the keywords given.
-     *
-     * @return A predicate that tests a person's phone number.
-     */
-    private Predicate<Person> getPhoneMatchPredicate() {
-        return person -> isMatch(phoneKeywords, person.getPhone().value);
-    }
-
-    /**
-     * Returns a {@code Predicate} that tests that a {@code Person}'s {@code Email} matches the keywords given.
-     *
-     * @return A predicate that tests a person's email.
-     */
-    private Predicate<Person> getEmailMatchPredicate() {
-        return person -> isMatch(emailKeywords, person.getEmail().value);
-    }
-
-    /**
-     * Returns a {@code Predicate} that tests that a {@code Person}'s parent {@code Phone} matches the keywords given.
-     *
-     * @return A predicate that tests a person's parent phone number.
-     */
-    private Predicate<Person> getParentPhoneMatchPredicate() {
-        return person -> isMatch(parentPhoneKeywords, person.getParentPhone().value);
-    }
-
-    /**
-     * Returns a {@code Predicate} that tests that a {@code Person}'s parent {@code Email} matches the keywords given.
-     *
-     * @return A predicate that tests a person's parent email.
-     */
-    private Predicate<Person> getParentEmailMatchPredicate() {
-        return person -> isMatch(parentEmailKeywords, person.getParentEmail().value);
-    }
-
-    /**
-     * Returns a {@code Predicate} that tests that a {@code Person}'s {@code Address} matches the keywords given.
-     *
-     * @return A predicate that tests a person's address.
-     */
-    private Predicate<Person> getAddressMatchPredicate() {
-        return person -> isMatch(addressKeywords, person.getAddress().value);
+    private static boolean isMatch(String[] lowerCaseKeywords, String field) {
+        for (String keyword : lowerCaseKeywords) {
+            if (!StringUtil.containsLowerCaseSubstringIgnoreCase(field, keyword)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
-     * Returns a {@code Predicate} that tests that a {@code Person}'s {@code School} matches the keywords given.
-     *
-     * @return A predicate that tests a person's school.
+     * Returns the trimmed and lower case keywords, so that they are only prepared once for all persons.
      */
-    private Predicate<Person> getSchoolMatchPredicate() {
-        return person -> isMatch(schoolKeywords, person.getSchool().value);
+    private static String[] toLowerCaseKeywords(List<String> keywords) {
+        requireAllNonNull(keywords);
+        String[] lowerCaseKeywords = new String[keywords.size()];
+        for (int i = 0; i < lowerCaseKeywords.length; i++) {
+            lowerCaseKeywords[i] = keywords.get(i).trim().toLowerCase();
+            checkArgument(!lowerCaseKeywords[i].isEmpty(), MESSAGE_KEYWORD_CANNOT_EMPTY);
+        }
+        return lowerCaseKeywords;
     }
 
-    /**
-     * Returns a {@code Predicate} that tests that a {@code Person}'s {@code AcadStream} matches the keywords given.
-     *
-     * @return A predicate that tests a person's academic stream.
-     */
-    private Predicate<Person> getAcadStreamMatchPredicate() {
-        return person -> isMatch(acadStreamKeywords, person.getAcadStream().value);
-    }
+    // Person Predicates -----------------------------------------------------------------------------------------------
 
     /**
-     * Returns a {@code Predicate} that tests that a {@code Person}'s {@code AcadLevel} matches the keywords given.
+     * Returns a {@code Predicate} that tests that a {@code Person}'s field matches the keywords given.
      *
-     * @return A predicate that tests a person's academic level.
+     * @param keywords The keywords to match.
+     * @param field The function returning the field of a person to match.
+     * @return A predicate that tests a person's field.
      */
-    private Predicate<Person> getAcadLevelMatchPredicate() {
-        return person -> isMatch(acadLevelKeywords, person.getAcadLevel().value);
+    private static Predicate<Person> getFieldMatchPredicate(List<String> keywords, Function<Person, String> field) {
+        String[] lowerCaseKeywords = toLowerCaseKeywords(keywords);
+        return person -> isMatch(lowerCaseKeywords, field.apply(person));
     }
 
     /**
-     * Returns a {@code Predicate} that tests that a {@code Person}'s {@code Remark} matches the keywords given.
+     * Returns a {@code Predicate} that tests that one of a {@code Person}'s {@code tag}s matches the keyword given.
+     * Ignores case, but the keyword must match the full tag name.
      *
-     * @return A predicate that tests a person's remarks.
+     * @return A predicate that tests a person's tags.
      */
-    private Predicate<Person> getRemarkMatchPredicate() {
-        return person -> isMatch(remarkKeywords, person.getRemark().value);
+    private static Predicate<Person> getTagMatchPredicate(String keyword) {
+        return person -> {
+            for (Tag tag : person.getTags()) {
+                if (keyword.equalsIgnoreCase(tag.toString())) {
+                    return true;
+                }
+            }
+            return false;
+        };
     }
 
-
     // Person Lesson predicates ----------------------------------------------------------------------------------------
 
     /**
-     * Returns a {@code Predicate} that tests if any {@code Lesson} in a {@code Person}'s overlaps with
-     * the {@code TimeRange} given.
-     *
-     * @return A predicate that tests a person's lesson's TimeRanges.
-     */
-    private Predicate<Person> getTimeRangeMatchPredicate() {
-        return getLessonAnyMatch(lesson -> timeRange.isClashing(lesson.getTimeRange()));
-    }
-
-    /**
-     * Returns a {@code Predicate} that tests if any {@code Lesson} in a {@code Person}'s occur on the
-     * {@code Date} given.
-     *
-     * @return A predicate that tests a person's lesson's Dates.
-     */
-    private Predicate<Person> getDateMatchPredicate() {
-        return getLessonAnyMatch(lesson -> lesson.hasLessonOnDate(date));
-    }
-
-    /**
-     * Returns a {@code Predicate} that tests if any {@code Lesson} in a {@code Person}'s has cancelled dates
-     * that occur on the {@code Date} given.
-     *
-     * @return A predicate that tests a person's lesson's canceled dates.
-     */
-    private Predicate<Person> getCancelledDateMatchPredicate() {
-        return getLessonAnyMatch(lesson -> lesson.getCancelledDates().contains(cancelledDate));
-    }
-
-    /**
-     * Returns a {@code Predicate} that tests if any {@code Lesson} in a {@code Person}'s has a subject
+     * Returns a {@code Predicate} that tests if any {@code Lesson} in a {@code Person}'s lessons has a field
      * that matches the keywords given.
      *
-     * @return A predicate that tests a person's lesson's subject.
+     * @param keywords The keywords to match.
+     * @param field The function returning the field of a lesson to match.
+     * @return A predicate that tests a person's lesson's field.
      */
-    private Predicate<Person> getSubjectMatchPredicate() {
-        return getLessonAnyMatch(lesson -> isMatch(subjectKeywords, lesson.getSubject().value));
-    }
-
-    /**
-     * Returns a {@code Predicate} that tests if any {@code Lesson} in a {@code Person}'s has a rate
-     * that matches the keywords given.
-     *
-     * @return A predicate that tests a person's lesson's rates.
-     */
-    private Predicate<Person> getRatesMatchPredicate() {
-        return getLessonAnyMatch(lesson -> isMatch(ratesKeywords, lesson.getLessonRates().value));
+    private static Predicate<Person> getLessonFieldMatchPredicate(List<String> keywords,
+                                                                  Function<Lesson, String> field) {
+        String[] lowerCaseKeywords = toLowerCaseKeywords(keywords);
+        return getLessonAnyMatch(lesson -> isMatch(lowerCaseKeywords, field.apply(lesson)));
     }
 
     /**
@@ -505,9 +473,16 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
      *
      * @return A predicate that tests a person's lesson's homework.
      */
-    private Predicate<Person> getHomeworkMatchPredicate() {
-        return getLessonAnyMatch(lesson -> lesson.getHomework().stream()
-                .anyMatch(homework -> isMatch(homeworkKeywords, homework.description)));
+    private static Predicate<Person> getHomeworkMatchPredicate(List<String> keywords) {
+        String[] lowerCaseKeywords = toLowerCaseKeywords(keywords);
+        return getLessonAnyMatch(lesson -> {
+            for (Homework homework : lesson.getHomework()) {
+                if (isMatch(lowerCaseKeywords, homework.description)) {
+                    return true;
+                }
+            }
+            return false;
+        });
     }
 
     /**
@@ -516,121 +491,189 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
      * @param predicate The predicate to test a person's lessons with.
      * @return A predicate that tests a person's lesson's to a given predicate.
      */
-    private Predicate<Person> getLessonAnyMatch(Predicate<Lesson> predicate) {
-        return person -> person.getLessons().stream().anyMatch(predicate);
-    }
-
-    /**
-     * Returns a {@code List<Predicate<Person>>} that tests if each keyword matches a {@code Person}'s {@code Tag}s.
-     *
-     * @return A predicate that tests a person's tags.
-     */
-    private List<Predicate<Person>> getTagsMatchPredicates() {
-        return tagKeywords.stream().map(this::getTagMatchPredicate).collect(Collectors.toList());
-    }
-
-    /**
-     * Returns a {@code Predicate} that tests that one of a {@code Person}'s {@code tag}s matches the keyword given.
-     * Ignores case, but the keyword must match the full tag name.
-     *
-     * @return A predicate that tests a person's phone number.
-     */
-    private Predicate<Person> getTagMatchPredicate(String keyword) {
-        return person -> person.getTags().stream().anyMatch(tag -> keyword.equalsIgnoreCase(tag.toString()));
+    private static Predicate<Person> getLessonAnyMatch(Predicate<Lesson> predicate) {
+        return person -> {
+            for (Lesson lesson : person.getLessons()) {
+                if (predicate.test(lesson)) {
+                    return true;
+                }
+            }
+            return false;
+        };
     }
 
     /**
-     * Returns a list of predicates that test a person's fields against non-null keywords/fields.
+     * Compiles the predicates that test a person's fields against non-null keywords/fields.
+     * Predicates are ordered from the cheapest to the most expensive to evaluate so that
+     * {@link #test(Person)} can stop at the first predicate that decides the result.
      *
-     * @return A list of person predicates.
+     * @return An unmodifiable list of person predicates.
      */
-    private List<Predicate<Person>> getPredicates() {
+    private List<Predicate<Person>> compilePlan() {
         List<Predicate<Person>> predicates = new ArrayList<>();
-        if (getNameKeywords().isPresent()) {
-            predicates.add(getNameMatchPredicate());
+        // fields of the person are single strings
+        if (nameKeywords != null) {
+            predicates.add(getFieldMatchPredicate(nameKeywords, person -> person.getName().fullName));
         }
-        if (getPhoneKeywords().isPresent()) {
-            predicates.add(getPhoneMatchPredicate());
+        if (phoneKeywords != null) {
+            predicates.add(getFieldMatchPredicate(phoneKeywords, person -> person.getPhone().value));
         }
-        if (getEmailKeywords().isPresent()) {
-            predicates.add(getEmailMatchPredicate());
+        if (emailKeywords != null) {
+            predicates.add(getFieldMatchPredicate(emailKeywords, person -> person.getEmail().value));
         }
-        if (getParentPhoneKeywords().isPresent()) {
-            predicates.add(getParentPhoneMatchPredicate());
+        if (parentPhoneKeywords != null) {
+            predicates.add(getFieldMatchPredicate(parentPhoneKeywords, person -> person.getParentPhone().value));
         }
-        if (getParentEmailKeywords().isPresent()) {
-            predicates.add(getParentEmailMatchPredicate());
+        if (parentEmailKeywords != null) {
+            predicates.add(getFieldMatchPredicate(parentEmailKeywords, person -> person.getParentEmail().value));
         }
-        if (getAddressKeywords().isPresent()) {
-            predicates.add(getAddressMatchPredicate());
+        if (schoolKeywords != null) {
+            predicates.add(getFieldMatchPredicate(schoolKeywords, person -> person.getSchool().value));
         }
-        if (getSchoolKeywords().isPresent()) {
-            predicates.add(getSchoolMatchPredicate());
+        if (acadStreamKeywords != null) {
+            predicates.add(getFieldMatchPredicate(acadStreamKeywords, person -> person.getAcadStream().value));
         }
-        if (getAcadStreamKeywords().isPresent()) {
-            predicates.add(getAcadStreamMatchPredicate());
+        if (acadLevelKeywords != null) {
+            predicates.add(getFieldMatchPredicate(acadLevelKeywords, person -> person.getAcadLevel().value));
         }
-        if (getAcadLevelKeywords().isPresent()) {
-            predicates.add(getAcadLevelMatchPredicate());
+        if (addressKeywords != null) {
+            predicates.add(getFieldMatchPredicate(addressKeywords, person -> person.getAddress().value));
         }
-        if (getRemarkKeywords().isPresent()) {
-            predicates.add(getRemarkMatchPredicate());
+        if (remarkKeywords != null) {
+            predicates.add(getFieldMatchPredicate(remarkKeywords, person -> person.getRemark().value));
         }
-        if (getTagKeywords().isPresent()) {
-            predicates.addAll(getTagsMatchPredicates());
+        if (tagKeywords != null) {
+            for (String keyword : tagKeywords) {
+                predicates.add(getTagMatchPredicate(keyword));
+            }
         }
 
-        // Lesson predicates
-        if (getTimeRange().isPresent()) {
-            predicates.add(getTimeRangeMatchPredicate());
+        // Lesson predicates go through every lesson of the person
+        if (cancelledDate != null) {
+            Date cancelledDateToFind = cancelledDate;
+            predicates.add(getLessonAnyMatch(lesson -> lesson.getCancelledDates().contains(cancelledDateToFind)));
         }
-        if (getDate().isPresent()) {
-            predicates.add(getDateMatchPredicate());
+        if (timeRange != null) {
+            TimeRange timeRangeToFind = timeRange;
+            predicates.add(getLessonAnyMatch(lesson -> timeRangeToFind.isClashing(lesson.getTimeRange())));
         }
-        if (getCancelledDate().isPresent()) {
-            predicates.add(getCancelledDateMatchPredicate());
+        if (subjectKeywords != null) {
+            predicates.add(getLessonFieldMatchPredicate(subjectKeywords, lesson -> lesson.getSubject().value));
         }
-        if (getSubjectKeywords().isPresent()) {
-            predicates.add(getSubjectMatchPredicate());
+        if (ratesKeywords != null) {
+            predicates.add(getLessonFieldMatchPredicate(ratesKeywords, lesson -> lesson.getLessonRates().value));
         }
-        if (getRateKeywords().isPresent()) {
-            predicates.add(getRatesMatchPredicate());
+        if (date != null) {
+            Date dateToFind = date;
+            predicates.add(getLessonAnyMatch(lesson -> lesson.hasLessonOnDate(dateToFind)));
         }
-        if (getHomeworkKeywords().isPresent()) {
-            predicates.add(getHomeworkMatchPredicate());
+        if (homeworkKeywords != null) {
+            predicates.add(getHomeworkMatchPredicate(homeworkKeywords));
         }
 
-        return predicates;
+        return Collections.unmodifiableList(predicates);
     }
 
     /**
-     * Returns a composed predicate that represents matching all the given predicates.
-     *
-     * @param predicates A list of predicates to match.
-     * @return A predicate that returns true only if all predicates test true on a person.
+     * Returns the compiled predicates, compiling them if any keyword or field has changed since the last test.
      */
-    private Predicate<Person> matchAll(List<Predicate<Person>> predicates) {
-        return predicates.stream().reduce(x -> true, Predicate::and);
+    private List<Predicate<Person>> getPlan() {
+        if (plan == null) {
+            plan = compilePlan();
+            candidatesVersion = CANDIDATES_NOT_RESOLVED;
+        }
+        return plan;
     }
 
     /**
-     * Returns a composed predicate that represents matching any one of the given predicates.
-     *
-     * @param predicates A list of predicates to match.
-     * @return A predicate that returns true if any one of the predicates test true on a person.
+     * Returns the persons that may match this predicate, or null if all persons may match.
+     * The candidates are resolved again whenever the search index changes.
      */
-    private Predicate<Person> matchAny(List<Predicate<Person>> predicates) {
-        return predicates.stream().reduce(x -> false, Predicate::or);
+    private Set<Person> getCandidates() {
+        if (searchIndex == null) {
+            return null;
+        }
+        if (candidatesVersion != searchIndex.getVersion()) {
+            candidates = resolveCandidates();
+            candidatesVersion = searchIndex.getVersion();
+        }
+        return candidates;
     }
 
     /**
-     * Returns a composed predicate that represents matching none of the given predicates.
-     *
-     * @param predicates A list of predicates to match.
-     * @return A predicate that returns true only if none of the predicates test true on a person.
+     * Resolves the candidates of each indexed field from the search index, then intersects them if all fields
+     * must match, or unions them if any field may match.
+     * The union is only used if every field searched is narrowed down by the index, as the other fields
+     * may match any person.
+     */
+    private Set<Person> resolveCandidates() {
+        List<Set<Person>> fieldCandidates = new ArrayList<>();
+        addFieldCandidates(PersonSearchIndex.Field.NAME, nameKeywords, fieldCandidates);
+        addFieldCandidates(PersonSearchIndex.Field.ADDRESS, addressKeywords, fieldCandidates);
+        addFieldCandidates(PersonSearchIndex.Field.SCHOOL, schoolKeywords, fieldCandidates);
+        addFieldCandidates(PersonSearchIndex.Field.REMARK, remarkKeywords, fieldCandidates);
+        addFieldCandidates(PersonSearchIndex.Field.SUBJECT, subjectKeywords, fieldCandidates);
+        addFieldCandidates(PersonSearchIndex.Field.HOMEWORK, homeworkKeywords, fieldCandidates);
+        if (tagKeywords != null) {
+            for (String keyword : tagKeywords) {
+                fieldCandidates.add(searchIndex.getPersonsWithTag(keyword));
+            }
+        }
+
+        assert condition != null;
+        switch (condition) {
+        case ALL:
+            return fieldCandidates.isEmpty() ? null : PersonSearchIndex.intersect(fieldCandidates);
+        case ANY:
+        case NONE:
+            // each field searched has exactly one predicate in the plan
+            boolean isEveryFieldNarrowed = fieldCandidates.size() == getPlan().size();
+            return isEveryFieldNarrowed ? PersonSearchIndex.union(fieldCandidates) : null;
+        default:
+            // should not reach here
+            return null;
+        }
+    }
+
+    /**
+     * Adds the persons whose field may match all of the keywords, if the keywords narrow down the persons.
      */
-    private Predicate<Person> matchNone(List<Predicate<Person>> predicates) {
-        return matchAny(predicates).negate();
+    private void addFieldCandidates(PersonSearchIndex.Field field, List<String> keywords,
+                                    List<Set<Person>> fieldCandidates) {
+        if (keywords == null) {
+            return;
+        }
+        List<Set<Person>> keywordCandidates = new ArrayList<>();
+        for (String keyword : toLowerCaseKeywords(keywords)) {
+            searchIndex.getCandidates(field, keyword).ifPresent(keywordCandidates::add);
+        }
+        if (!keywordCandidates.isEmpty()) {
+            fieldCandidates.add(PersonSearchIndex.intersect(keywordCandidates));
+        }
+    }
+
+    /**
+     * Returns true if any of the predicates test true on the person.
+     */
+    private static boolean matchAny(List<Predicate<Person>> predicates, Person person) {
+        for (int i = 0; i < predicates.size(); i++) {
+            if (predicates.get(i).test(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true only if all of the predicates test true on the person.
+     */
+    private static boolean matchAll(List<Predicate<Person>> predicates, Person person) {
+        for (int i = 0; i < predicates.size(); i++) {
+            if (!predicates.get(i).test(person)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -641,15 +684,20 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
      */
     @Override
     public boolean test(Person person) {
-        List<Predicate<Person>> predicates = getPredicates();
+        List<Predicate<Person>> predicates = getPlan();
         assert condition != null;
+        Set<Person> candidates = getCandidates();
+        if (candidates != null && !candidates.contains(person)) {
+            // the person does not match any field narrowed down by the search index
+            return condition == FindCondition.NONE;
+        }
         switch (condition) {
         case ALL:
-            return matchAll(predicates).test(person);
+            return matchAll(predicates, person);
         case ANY:
-            return matchAny(predicates).test(person);
+            return matchAny(predicates, person);
         case NONE:
-            return matchNone(predicates).test(person);
+            return !matchAny(predicates, person);
         default:
             // should not reach here
             return false;
@@ -0,0 +1,250 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.lesson.Homework;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index of persons used to narrow down the persons to test when finding persons by keywords.
+ *
+ * Text fields are indexed by the trigrams (substrings of three characters) of their lower case values, so that
+ * the persons whose field may contain a keyword as a substring are the persons with every trigram of the keyword.
+ * Tags are indexed by their full lower case names, as tag keywords must match the full tag name.
+ *
+ * The candidates returned are a superset of the matching persons, and the persons are compared by reference,
+ * so each candidate still has to be verified against the full field.
+ */
+public class PersonSearchIndex {
+    /** Number of characters in each indexed substring. */
+    public static final int GRAM_LENGTH = 3;
+
+    /**
+     * Represents a text field of a person that is indexed.
+     */
+    public enum Field {
+        NAME, ADDRESS, SCHOOL, REMARK, SUBJECT, HOMEWORK
+    }
+
+    private final Map<Field, Map<String, Set<Person>>> gramIndex = new EnumMap<>(Field.class);
+    private final Map<String, Set<Person>> tagIndex = new HashMap<>();
+    private long version = 0;
+
+    /**
+     * Constructs an empty {@code PersonSearchIndex}.
+     */
+    public PersonSearchIndex() {
+        for (Field field : Field.values()) {
+            gramIndex.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Adds the person to the index.
+     *
+     * @param person The person to add.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Field field : Field.values()) {
+            Map<String, Set<Person>> postings = gramIndex.get(field);
+            for (String gram : getGrams(field, person)) {
+                postings.computeIfAbsent(gram, key -> newPersonSet()).add(person);
+            }
+        }
+        for (Tag tag : person.getTags()) {
+            tagIndex.computeIfAbsent(tag.toString().toLowerCase(), key -> newPersonSet()).add(person);
+        }
+        version++;
+    }
+
+    /**
+     * Removes the person from the index.
+     * Does nothing if the person has not been added.
+     *
+     * @param person The person to remove.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Field field : Field.values()) {
+            Map<String, Set<Person>> postings = gramIndex.get(field);
+            for (String gram : getGrams(field, person)) {
+                removeFromPostings(postings, gram, person);
+            }
+        }
+        for (Tag tag : person.getTags()) {
+            removeFromPostings(tagIndex, tag.toString().toLowerCase(), person);
+        }
+        version++;
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        gramIndex.values().forEach(Map::clear);
+        tagIndex.clear();
+        version++;
+    }
+
+    /**
+     * Returns a number that changes whenever a person is added to or removed from the index,
+     * such that candidates obtained from the index can be reused until it changes.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the persons whose field may contain the keyword as a substring.
+     * If the keyword is too short to be looked up, an empty optional is returned as all persons may match.
+     *
+     * @param field The field of the person to search.
+     * @param lowerCaseKeyword The trimmed lower case keyword.
+     * @return The candidate persons, if they can be narrowed down.
+     */
+    public Optional<Set<Person>> getCandidates(Field field, String lowerCaseKeyword) {
+        requireNonNull(field);
+        requireNonNull(lowerCaseKeyword);
+        if (lowerCaseKeyword.length() < GRAM_LENGTH) {
+            return Optional.empty();
+        }
+
+        Map<String, Set<Person>> postings = gramIndex.get(field);
+        List<Set<Person>> gramPersons = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseKeyword.length(); i++) {
+            Set<Person> persons = postings.get(lowerCaseKeyword.substring(i, i + GRAM_LENGTH));
+            if (persons == null) {
+                return Optional.of(Collections.emptySet());
+            }
+            gramPersons.add(persons);
+        }
+        return Optional.of(intersect(gramPersons));
+    }
+
+    /**
+     * Returns the persons with a tag that matches the keyword, ignoring case.
+     *
+     * @param keyword The full tag name.
+     * @return The persons with the tag.
+     */
+    public Set<Person> getPersonsWithTag(String keyword) {
+        requireNonNull(keyword);
+        Set<Person> persons = tagIndex.get(keyword.toLowerCase());
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+
+    /**
+     * Returns the persons that are in all of the specified sets.
+     * Persons are compared by reference.
+     *
+     * @param personSets The sets of persons, which must not be empty.
+     * @return A new set of persons in all of the sets.
+     */
+    public static Set<Person> intersect(List<Set<Person>> personSets) {
+        assert !personSets.isEmpty();
+        Set<Person> smallest = personSets.get(0);
+        for (Set<Person> persons : personSets) {
+            if (persons.size() < smallest.size()) {
+                smallest = persons;
+            }
+        }
+
+        Set<Person> intersection = newPersonSet();
+        for (Person person : smallest) {
+            if (personSets.stream().allMatch(persons -> persons.contains(person))) {
+                intersection.add(person);
+            }
+        }
+        return intersection;
+    }
+
+    /**
+     * Returns the persons that are in any of the specified sets.
+     * Persons are compared by reference.
+     *
+     * @param personSets The sets of persons.
+     * @return A new set of persons in any of the sets.
+     */
+    public static Set<Person> union(List<Set<Person>> personSets) {
+        Set<Person> union = newPersonSet();
+        personSets.forEach(union::addAll);
+        return union;
+    }
+
+    private static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static void removeFromPostings(Map<String, Set<Person>> postings, String key, Person person) {
+        Set<Person> persons = postings.get(key);
+        if (persons != null) {
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct trigrams of the specified field of the person.
+     */
+    private static Set<String> getGrams(Field field, Person person) {
+        Set<String> grams = new HashSet<>();
+        switch (field) {
+        case NAME:
+            addGrams(person.getName().fullName, grams);
+            break;
+        case ADDRESS:
+            addGrams(person.getAddress().value, grams);
+            break;
+        case SCHOOL:
+            addGrams(person.getSchool().value, grams);
+            break;
+        case REMARK:
+            addGrams(person.getRemark().value, grams);
+            break;
+        case SUBJECT:
+            for (Lesson lesson : person.getLessons()) {
+                addGrams(lesson.getSubject().value, grams);
+            }
+            break;
+        case HOMEWORK:
+            for (Lesson lesson : person.getLessons()) {
+                for (Homework homework : lesson.getHomework()) {
+                    addGrams(homework.description, grams);
+                }
+            }
+            break;
+        default:
+            // should not reach here
+            assert false : "Unknown field: " + field;
+        }
+        return grams;
+    }
+
+    /**
+     * Adds the trigrams of the value, lower cased character by character as when matching keywords.
+     */
+    private static void addGrams(String value, Set<String> grams) {
+        char[] lowerCaseChars = new char[value.length()];
+        for (int i = 0; i < lowerCaseChars.length; i++) {
+            lowerCaseChars[i] = Character.toLowerCase(value.charAt(i));
+        }
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseChars.length; i++) {
+            grams.add(new String(lowerCaseChars, i, GRAM_LENGTH));
+        }
+    }
+}
@@ -3,8 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,6 +27,8 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * will be removed.
  *
  * Supports a minimal set of list operations.
+ * As the identity of a person is given by their name, the persons are also kept in a map by name
+ * so that checking for an equivalent person does not scan the list.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -29,25 +37,103 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Person> personsByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
     }
 
     /**
-     * Adds a person to the list.
-     * The person must not already exist in the list.
+     * Returns the person in the list with the given name, if any.
      */
-    public void add(Person toAdd) {
+    public Optional<Person> get(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(personsByName.get(name));
+    }
+
+    /**
+     * Throws a {@code DuplicatePersonException} if an equivalent person to {@code toAdd} is in the list,
+     * so that {@link #add(Person)} would fail.
+     */
+    public void requireAddable(Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+    }
+
+    /**
+     * Throws if {@link #setPerson(Person, Person)} would fail for {@code target} and {@code editedPerson}.
+     *
+     * @throws PersonNotFoundException If {@code target} is not in the list.
+     * @throws DuplicatePersonException If {@code editedPerson} is equivalent to another person in the list.
+     */
+    public void requireSettable(Person target, Person editedPerson) {
+        requireNonNull(editedPerson);
+        requireRemovable(target);
+        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+            throw new DuplicatePersonException();
+        }
+    }
+
+    /**
+     * Throws if {@link #replacePersons(Map)} would fail for {@code editedPersons}.
+     *
+     * @throws PersonNotFoundException If any target person is not in the list.
+     * @throws DuplicatePersonException If any edited person is equivalent to another person in the list
+     *     once all the replacements are done.
+     */
+    public void requireReplaceable(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+        Set<Name> targetNames = new HashSet<>();
+        for (Person target : editedPersons.keySet()) {
+            requireRemovable(target);
+            targetNames.add(target.getName());
+        }
+        Set<Name> editedNames = new HashSet<>();
+        for (Person editedPerson : editedPersons.values()) {
+            Name name = editedPerson.getName();
+            if (!editedNames.add(name) || (contains(editedPerson) && !targetNames.contains(name))) {
+                throw new DuplicatePersonException();
+            }
+        }
+    }
+
+    /**
+     * Throws a {@code PersonNotFoundException} if {@code toRemove} is not in the list,
+     * so that {@link #remove(Person)} would fail.
+     */
+    public void requireRemovable(Person toRemove) {
+        requireNonNull(toRemove);
+        // persons are unique by name, so only the person with the same name can be equal
+        if (!toRemove.equals(personsByName.get(toRemove.getName()))) {
+            throw new PersonNotFoundException();
+        }
+    }
+
+    /**
+     * Throws a {@code DuplicatePersonException} if {@code persons} contains duplicate persons,
+     * so that {@link #setPersons(List)} would fail.
+     */
+    public void requireUnique(List<Person> persons) {
+        requireAllNonNull(persons);
+        if (!personsAreUnique(persons)) {
+            throw new DuplicatePersonException();
+        }
+    }
+
+    /**
+     * Adds a person to the list.
+     * The person must not already exist in the list.
+     */
+    public void add(Person toAdd) {
+        requireAddable(toAdd);
         internalList.add(toAdd);
+        personsByName.put(toAdd.getName(), toAdd);
     }
 
     /**
@@ -56,10 +142,9 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(Person toAdd, Index toIndex) {
         requireAllNonNull(toAdd, toIndex);
-        if (contains(toAdd)) {
-            throw new DuplicatePersonException();
-        }
+        requireAddable(toAdd);
         internalList.add(toIndex.getZeroBased(), toAdd);
+        personsByName.put(toAdd.getName(), toAdd);
     }
 
     /**
@@ -69,17 +154,38 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
+        requireSettable(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new PersonNotFoundException();
-        }
+        internalList.set(internalList.indexOf(target), editedPerson);
+        personsByName.remove(target.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
+    }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
-            throw new DuplicatePersonException();
+    /**
+     * Replaces each target person in the list with the corresponding edited person.
+     * All target persons must exist in the list.
+     * The person identities of the edited persons must not be the same as other persons in the list.
+     * The list is only changed once all replacements are known to be valid.
+     *
+     * @param editedPersons The edited persons mapped by the persons they replace.
+     */
+    public void replacePersons(Map<Person, Person> editedPersons) {
+        requireReplaceable(editedPersons);
+        List<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < internalList.size(); i++) {
+            if (editedPersons.containsKey(internalList.get(i))) {
+                indices.add(i);
+            }
         }
 
-        internalList.set(index, editedPerson);
+        for (int index : indices) {
+            personsByName.remove(internalList.get(index).getName());
+        }
+        for (int index : indices) {
+            Person editedPerson = editedPersons.get(internalList.get(index));
+            internalList.set(index, editedPerson);
+            personsByName.put(editedPerson.getName(), editedPerson);
+        }
     }
 
     /**
@@ -87,15 +193,16 @@ public class UniquePersonList implements Iterable<Person> {
      * The person must exist in the list.
      */
     public void remove(Person toRemove) {
-        requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new PersonNotFoundException();
-        }
+        requireRemovable(toRemove);
+        internalList.remove(toRemove);
+        personsByName.remove(toRemove.getName());
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        personsByName.clear();
+        personsByName.putAll(replacement.personsByName);
     }
 
     /**
@@ -105,11 +212,13 @@ public class UniquePersonList implements Iterable<Person> {
      * @param persons The Persons to be set.
      */
     public void setPersons(List<Person> persons) {
-        requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        requireUnique(persons);
+
         internalList.setAll(persons);
+        personsByName.clear();
+        for (Person person : persons) {
+            personsByName.put(person.getName(), person);
+        }
     }
 
     /**
@@ -140,11 +249,10 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
+                return false;
             }
         }
         return true;
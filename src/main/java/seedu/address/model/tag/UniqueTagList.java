@@ -3,10 +3,14 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -17,8 +21,12 @@ import seedu.address.model.tag.exceptions.TagNotFoundException;
 /**
  * A list of tags that enforces uniqueness between its elements in terms of tag names, does not allow nulls,
  * and keeps track of the number of persons labelled with each existing tag.
+ * The tag list is kept sorted alphabetically, with each tag inserted or removed at its position found by
+ * binary search, while the tag counter gives constant time membership checks.
  */
 public class UniqueTagList {
+    private static final Comparator<Tag> TAG_ORDER = Comparator.comparing(Tag::toString);
+
     private final ObservableMap<Tag, Integer> tagCounter = FXCollections.observableHashMap();
 
     private final ObservableList<Tag> internalList = FXCollections.observableArrayList();
@@ -33,7 +41,7 @@ public class UniqueTagList {
      */
     public boolean containsTag(Tag toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return tagCounter.containsKey(toCheck);
     }
 
     /**
@@ -49,9 +57,12 @@ public class UniqueTagList {
             Integer count = tagCounter.get(toAdd);
             assert count != null && count > 0;
             tagCounter.put(toAdd, count + 1);
+            refreshTag(toAdd);
         } else {
             tagCounter.put(toAdd, 1);
-            internalList.add(toAdd);
+            int index = Collections.binarySearch(internalList, toAdd, TAG_ORDER);
+            assert index < 0;
+            internalList.add(-index - 1, toAdd);
         }
     }
 
@@ -64,22 +75,28 @@ public class UniqueTagList {
     public void addTagFromPerson(Person person) {
         requireNonNull(person);
         person.addTagsToTagList(this);
-        sortTags();
     }
 
     /**
-     * Adds tags from the specified list of persons to the internal tag list.
+     * Replaces the internal tag list with the tags from the specified list of persons.
+     * The tags are counted first and sorted once, so the tag list only changes once.
      *
      * @param persons List of persons whose tags are to be added to the tag list.
      */
     public void addTagFromPersonList(List<Person> persons) {
         requireAllNonNull(persons);
-        tagCounter.clear();
-        internalList.clear();
-        internalUnmodifiableList.clear();
+        Map<Tag, Integer> counts = new HashMap<>();
         for (Person person : persons) {
-            addTagFromPerson(person);
+            for (Tag tag : person.getTags()) {
+                counts.merge(tag, 1, Integer::sum);
+            }
         }
+        List<Tag> sortedTags = new ArrayList<>(counts.keySet());
+        sortedTags.sort(TAG_ORDER);
+
+        tagCounter.clear();
+        tagCounter.putAll(counts);
+        internalList.setAll(sortedTags);
     }
 
     /**
@@ -100,10 +117,13 @@ public class UniqueTagList {
 
         if (numStudents == 1) {
             tagCounter.remove(toRemove);
-            internalList.remove(toRemove);
+            int index = Collections.binarySearch(internalList, toRemove, TAG_ORDER);
+            assert index >= 0;
+            internalList.remove(index);
         } else {
             int count = numStudents - 1;
             tagCounter.put(toRemove, count);
+            refreshTag(toRemove);
         }
     }
 
@@ -114,21 +134,29 @@ public class UniqueTagList {
      */
     public void removeTagFromPerson(Person person) {
         person.removeTagsFromTagList(this);
-        sortTags();
     }
 
     /**
      * Removes the tags from {@code target} and adds the tags from {@code editedPerson} to the tag list.
-     * Tags will be sorted alphabetically.
+     * Tags common to both persons are left unchanged.
      *
      * @param target Person whose tags are to be removed.
      * @param editedPerson Person whose tags are to be added.
      */
     public void editTagFromPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
-        target.removeTagsFromTagList(this);
-        editedPerson.addTagsToTagList(this);
-        sortTags();
+        Set<Tag> targetTags = target.getTags();
+        Set<Tag> editedTags = editedPerson.getTags();
+        for (Tag tag : targetTags) {
+            if (!editedTags.contains(tag)) {
+                removeTag(tag);
+            }
+        }
+        for (Tag tag : editedTags) {
+            if (!targetTags.contains(tag)) {
+                addTag(tag);
+            }
+        }
     }
 
     /**
@@ -142,13 +170,12 @@ public class UniqueTagList {
     }
 
     /**
-     * Sorts the tag list alphabetically.
+     * Notifies observers of the tag list that the number of students labelled under the tag has changed.
      */
-    private void sortTags() {
-        List<Tag> sortedList = internalList.stream()
-                .sorted(Comparator.comparing(Tag::toString))
-                .collect(Collectors.toList());
-        internalList.setAll(sortedList);
+    private void refreshTag(Tag tag) {
+        int index = Collections.binarySearch(internalList, tag, TAG_ORDER);
+        assert index >= 0;
+        internalList.set(index, tag);
     }
 
     /**
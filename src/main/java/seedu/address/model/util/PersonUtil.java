@@ -28,6 +28,20 @@ public class PersonUtil {
     public static Person createdEditedPerson(Person personToEdit, Set<Lesson> updatedLessons) {
         assert personToEdit != null;
 
+        return createdEditedPerson(personToEdit, personToEdit.getTags(), updatedLessons);
+    }
+
+    /**
+     * Creates a person with the same details but updated tags and lessons.
+     *
+     * @param personToEdit Person to edit tags and lessons.
+     * @param updatedTags The updated tags set.
+     * @param updatedLessons The updated lessons set.
+     * @return Person that is edited.
+     */
+    public static Person createdEditedPerson(Person personToEdit, Set<Tag> updatedTags, Set<Lesson> updatedLessons) {
+        assert personToEdit != null;
+
         Name updatedName = personToEdit.getName();
         Phone updatedPhone = personToEdit.getPhone();
         Email updatedEmail = personToEdit.getEmail();
@@ -38,7 +52,6 @@ public class PersonUtil {
         AcadStream updatedAcadStream = personToEdit.getAcadStream();
         AcadLevel updatedAcadLevel = personToEdit.getAcadLevel();
         Remark updatedRemark = personToEdit.getRemark();
-        Set<Tag> updatedTags = personToEdit.getTags();
 
         return new Person(updatedName, updatedPhone, updatedEmail, updatedParentPhone, updatedParentEmail,
                 updatedAddress, updatedSchool, updatedAcadStream, updatedAcadLevel,
@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBookFormat;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book data files between the formats they can be stored in,
+ * such as to export a binary snapshot to JSON as a human-readable backup.
+ */
+public class AddressBookConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookConverter.class);
+
+    /**
+     * Returns a storage for the address book data file at {@code filePath} in the specified format.
+     */
+    public static AddressBookStorage createStorage(Path filePath, AddressBookFormat format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case JSON:
+            return new JsonAddressBookStorage(filePath, false);
+        default:
+            throw new AssertionError("Unknown address book format: " + format);
+        }
+    }
+
+    /**
+     * Returns the format of the data file at {@code filePath}, which must exist.
+     * Files that do not start like a binary snapshot are taken to be JSON.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    public static AddressBookFormat detectFormat(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return in.readInt() == BinarySerializableAddressBook.MAGIC_NUMBER
+                    ? AddressBookFormat.BINARY
+                    : AddressBookFormat.JSON;
+        } catch (EOFException e) {
+            return AddressBookFormat.JSON;
+        }
+    }
+
+    /**
+     * Saves the address book read from {@code source} to {@code target}.
+     *
+     * @return true if the address book was converted, or false if {@code source} has no data file.
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     * @throws IOException if there was any problem reading from {@code source} or writing to {@code target}.
+     */
+    public static boolean convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+        target.saveAddressBook(addressBook.get());
+        return true;
+    }
+
+    /**
+     * Rewrites the data file at {@code filePath} in the specified format if it is stored in another format,
+     * such as after the format in the user preferences is changed.
+     *
+     * @return true if the data file was rewritten.
+     * @throws DataConversionException if the data file is not in the format it is detected to be in.
+     * @throws IOException if there was any problem reading or writing the data file.
+     */
+    public static boolean convertToFormat(Path filePath, AddressBookFormat format)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        AddressBookFormat currentFormat = detectFormat(filePath);
+        if (currentFormat == format) {
+            return false;
+        }
+        logger.info("Converting data file " + filePath + " from " + currentFormat + " to " + format);
+        return convert(createStorage(filePath, currentFormat), createStorage(filePath, format));
+    }
+}
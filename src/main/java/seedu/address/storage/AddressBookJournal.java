@@ -0,0 +1,170 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.storage.JsonAdaptedPerson.MESSAGE_CLASHING_LESSON;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.LastUpdatedDate;
+import seedu.address.model.person.PersonChange;
+import seedu.address.model.person.exceptions.ClashingLessonException;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * An append-only journal of the changes made to an address book since its data file was last written.
+ *
+ * Each batch of changes is appended as one line of JSON and forced to the disk before the append returns,
+ * so the cost of saving a batch depends only on the persons changed. A line that was only partly written,
+ * such as when the app crashed while appending, can only be the last line and is ignored when replaying.
+ * Each batch is tagged with the generation of the data file it was made after, and only the batches of the
+ * generation of the data file are replayed. Replaying changes on data that already has them is not safe,
+ * as a change undone by a later one in the same journal could clash with the data, so a journal left behind
+ * when the app stopped after the data file was replaced but before the journal was cleared is skipped.
+ */
+public class AddressBookJournal {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private final Path filePath;
+
+    /**
+     * Constructs an {@code AddressBookJournal} kept in the file at {@code filePath}.
+     */
+    public AddressBookJournal(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the journal of the changes made since the data file at {@code dataFilePath} was last written,
+     * which is kept next to the data file.
+     */
+    public static AddressBookJournal forDataFile(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        return new AddressBookJournal(dataFilePath.resolveSibling(dataFilePath.getFileName() + JOURNAL_FILE_SUFFIX));
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Appends the batch of changes to the journal, creating the journal if it does not exist.
+     *
+     * @param changes Changes to append, in the order they were made.
+     * @param lastUpdatedDate Last updated date of the address book after the changes.
+     * @param generation Generation of the data file the changes were made after.
+     * @throws IOException If the changes could not be written to the disk.
+     */
+    public void append(List<PersonChange> changes, LastUpdatedDate lastUpdatedDate, long generation)
+            throws IOException {
+        requireAllNonNull(changes, lastUpdatedDate);
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(line, false)) {
+            generator.writeObject(new JsonAdaptedJournalEntry(changes, lastUpdatedDate, generation));
+        }
+        line.write('\n');
+
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, CREATE, WRITE, APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(line.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Applies the changes in the journal made after the data file of {@code generation} to {@code addressBook},
+     * in the order they were appended. Does nothing if the journal does not exist.
+     *
+     * @param addressBook Address book read from the data file.
+     * @param generation Generation of the data file.
+     * @throws IOException If the journal could not be read or an entry other than the last is not valid JSON.
+     * @throws IllegalValueException If there were any data constraints violated in the changes.
+     */
+    public void replay(AddressBook addressBook, long generation) throws IOException, IllegalValueException {
+        requireNonNull(addressBook);
+        if (!Files.exists(filePath)) {
+            return;
+        }
+
+        int skippedEntries = 0;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                if (!line.isBlank()) {
+                    JsonAdaptedJournalEntry entry;
+                    try {
+                        entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+                    } catch (JsonProcessingException jpe) {
+                        if (nextLine != null) {
+                            throw jpe;
+                        }
+                        logger.warning("Ignoring incomplete last entry of journal " + filePath + ": " + jpe);
+                        break;
+                    }
+                    if (entry.getGeneration() == generation) {
+                        apply(entry, addressBook);
+                    } else {
+                        skippedEntries++;
+                    }
+                }
+                line = nextLine;
+            }
+        }
+        if (skippedEntries > 0) {
+            logger.info("Skipped " + skippedEntries + " entries of journal " + filePath
+                    + " not made after data file generation " + generation);
+        }
+    }
+
+    private static void apply(JsonAdaptedJournalEntry entry, AddressBook addressBook) throws IllegalValueException {
+        for (JsonAdaptedPersonChange change : entry.getChanges()) {
+            PersonChange personChange = change.toModelType();
+            try {
+                addressBook.applyPersonChange(personChange);
+            } catch (DuplicatePersonException e) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, e);
+            } catch (ClashingLessonException e) {
+                throw new IllegalValueException(MESSAGE_CLASHING_LESSON, e);
+            }
+        }
+        if (entry.getLastUpdated() != null) {
+            addressBook.setLastUpdatedDate(entry.getLastUpdated().toModelType());
+        }
+    }
+
+    /**
+     * Deletes the journal, once the changes in it have been written to the data file.
+     *
+     * @throws IOException If the journal could not be deleted.
+     */
+    public void clear() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+}
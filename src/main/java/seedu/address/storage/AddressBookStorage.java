@@ -2,10 +2,13 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.LastUpdatedDate;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PersonChange;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
@@ -42,4 +45,19 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves the changes made to the persons of the address book since its data was last saved or read,
+     * without saving the persons that did not change.
+     * @param changes cannot be null.
+     * @param lastUpdatedDate the last updated date of the address book after the changes. Cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveAddressBookChanges(List<PersonChange> changes, LastUpdatedDate lastUpdatedDate) throws IOException;
+
+    /**
+     * @see #saveAddressBookChanges(List, LastUpdatedDate)
+     */
+    void saveAddressBookChanges(List<PersonChange> changes, LastUpdatedDate lastUpdatedDate, Path filePath)
+            throws IOException;
+
 }
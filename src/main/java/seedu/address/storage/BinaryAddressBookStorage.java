@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk.
+ * The snapshot is smaller and faster to read than JSON, but is not human-readable;
+ * use {@link AddressBookConverter} to export it to JSON.
+ */
+public class BinaryAddressBookStorage extends JournaledAddressBookStorage {
+
+    public BinaryAddressBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The snapshot is read into memory in one go, then the persons are decoded from it in independent chunks.
+     */
+    @Override
+    protected AddressBook readDataFile(Path filePath) throws IOException, IllegalValueException {
+        // read whole rather than mapped, as a mapped file cannot be replaced on Windows until it is unmapped
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        return BinarySerializableAddressBook.readAddressBook(buffer);
+    }
+
+    @Override
+    protected long readGeneration(Path filePath) throws IOException, IllegalValueException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return BinarySerializableAddressBook.readGeneration(
+                    ByteBuffer.wrap(in.readNBytes(BinarySerializableAddressBook.GENERATION_END)));
+        }
+    }
+
+    @Override
+    protected void writeDataFile(ReadOnlyAddressBook addressBook, long generation, OutputStream out)
+            throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        BinarySerializableAddressBook.writeAddressBook(addressBook, generation, data);
+        data.flush();
+    }
+
+}
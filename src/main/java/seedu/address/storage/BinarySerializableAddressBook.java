@@ -0,0 +1,498 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.LastUpdatedDate;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.Date;
+import seedu.address.model.lesson.Homework;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonRates;
+import seedu.address.model.lesson.MakeUpLesson;
+import seedu.address.model.lesson.Money;
+import seedu.address.model.lesson.OutstandingFees;
+import seedu.address.model.lesson.RecurringLesson;
+import seedu.address.model.lesson.Subject;
+import seedu.address.model.lesson.TimeRange;
+import seedu.address.model.person.AcadLevel;
+import seedu.address.model.person.AcadStream;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.School;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes and reads an address book as a versioned binary snapshot.
+ *
+ * The snapshot starts with {@link #MAGIC_NUMBER}, {@link #VERSION} and the generation of the snapshot,
+ * followed by a table of the distinct strings
+ * in the address book, the last updated date, the offsets of the records of the persons and the records.
+ * The offsets let the records be decoded in independent chunks. Strings are written as indices into the table,
+ * dates as epoch days, time ranges as packed minutes and amounts of money as cents, unless their values are not
+ * in the format they would be formatted to, in which case the values are kept as strings.
+ * As each string is only converted once per chunk when reading, values repeated across persons, such as schools,
+ * tags and subjects, are shared instead of being validated again for every person.
+ */
+class BinarySerializableAddressBook {
+
+    /** Identifies a binary snapshot of an address book, "TAB" followed by a zero byte. */
+    public static final int MAGIC_NUMBER = 0x54414200;
+    public static final int VERSION = 3;
+    /** The last version without a generation, which is read as generation 0. */
+    public static final int VERSION_WITHOUT_GENERATION = 2;
+    /** Number of bytes from the start of the snapshot to the end of the generation. */
+    public static final int GENERATION_END = Integer.BYTES * 2 + Long.BYTES;
+
+    public static final String MESSAGE_NOT_SNAPSHOT = "File is not a binary snapshot of an address book!";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Snapshot version %1$d is not supported!";
+    public static final String MESSAGE_INVALID_VALUE = "Snapshot contains an invalid value!";
+
+    private static final int TAG_ENCODED = 0;
+    private static final int TAG_STRING = 1;
+    private static final int TYPE_MAKEUP_LESSON = 0;
+    private static final int TYPE_RECURRING_LESSON = 1;
+    private static final int MINUTES_SHIFT = 16;
+    private static final int MINUTES_MASK = (1 << MINUTES_SHIFT) - 1;
+    private static final int PERSONS_PER_CHUNK = 256;
+
+    /**
+     * Writes {@code source} to {@code out} as a binary snapshot.
+     *
+     * @param source Address book to write.
+     * @param generation Generation of the snapshot.
+     * @param out Output to write the snapshot to.
+     * @throws IOException If the snapshot could not be written.
+     */
+    public static void writeAddressBook(ReadOnlyAddressBook source, long generation, DataOutput out)
+            throws IOException {
+        new Writer(source, generation, out).write();
+    }
+
+    /**
+     * Reads an address book from the binary snapshot at the position of {@code buffer}.
+     *
+     * @param buffer Buffer holding the snapshot.
+     * @return The address book read.
+     * @throws IllegalValueException If the input is not a supported snapshot or any data constraints are violated.
+     */
+    public static AddressBook readAddressBook(ByteBuffer buffer) throws IllegalValueException {
+        return new Reader(buffer).read();
+    }
+
+    /**
+     * Reads the generation of the binary snapshot at the position of {@code buffer},
+     * which only needs to hold the first {@link #GENERATION_END} bytes of the snapshot.
+     *
+     * @param buffer Buffer holding the start of the snapshot.
+     * @return The generation read, or 0 if the snapshot was written without one.
+     * @throws IllegalValueException If the input is not a supported snapshot.
+     */
+    public static long readGeneration(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            return readHeader(buffer);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_VALUE, e);
+        }
+    }
+
+    /**
+     * Reads the magic number, version and generation at the position of {@code buffer}.
+     *
+     * @return The generation read, or 0 if the snapshot was written without one.
+     * @throws IllegalValueException If the input is not a supported snapshot.
+     */
+    private static long readHeader(ByteBuffer buffer) throws IllegalValueException {
+        if (buffer.getInt() != MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_NOT_SNAPSHOT);
+        }
+        int version = buffer.getInt();
+        if (version == VERSION_WITHOUT_GENERATION) {
+            return 0;
+        }
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        return buffer.getLong();
+    }
+
+    /**
+     * Writes one address book, collecting its strings into the string table before writing the persons.
+     * The records of the persons are buffered until their offsets are known.
+     */
+    private static class Writer {
+        private final ReadOnlyAddressBook source;
+        private final long generation;
+        private final DataOutput out;
+        private final Map<String, Integer> stringIndices = new LinkedHashMap<>();
+        private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        private final DataOutputStream records = new DataOutputStream(recordBytes);
+
+        private Writer(ReadOnlyAddressBook source, long generation, DataOutput out) {
+            this.source = source;
+            this.generation = generation;
+            this.out = out;
+        }
+
+        private void write() throws IOException {
+            addString(source.getLastUpdatedDate().value);
+            for (Person person : source.getPersonList()) {
+                addStrings(person);
+            }
+
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(VERSION);
+            out.writeLong(generation);
+            out.writeInt(stringIndices.size());
+            for (String string : stringIndices.keySet()) {
+                byte[] bytes = string.getBytes(UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            out.writeInt(stringIndices.get(source.getLastUpdatedDate().value));
+
+            // the persons are written after the offsets of their records, so that they can be read independently
+            List<Person> persons = source.getPersonList();
+            int[] offsets = new int[persons.size()];
+            for (int i = 0; i < persons.size(); i++) {
+                offsets[i] = records.size();
+                writePerson(persons.get(i));
+            }
+            out.writeInt(persons.size());
+            for (int offset : offsets) {
+                out.writeInt(offset);
+            }
+            out.write(recordBytes.toByteArray());
+        }
+
+        private void addString(String string) {
+            stringIndices.putIfAbsent(string, stringIndices.size());
+        }
+
+        private void addStrings(Person person) {
+            addString(person.getName().fullName);
+            addString(person.getPhone().value);
+            addString(person.getEmail().value);
+            addString(person.getParentPhone().value);
+            addString(person.getParentEmail().value);
+            addString(person.getAddress().value);
+            addString(person.getSchool().value);
+            addString(person.getAcadStream().value);
+            addString(person.getAcadLevel().value);
+            addString(person.getRemark().value);
+            person.getTags().forEach(tag -> addString(tag.toString()));
+            for (Lesson lesson : person.getLessons()) {
+                addString(lesson.getSubject().value);
+                lesson.getHomework().forEach(homework -> addString(homework.description));
+                if (!isEncodable(lesson.getStartDate()) || !isEncodable(lesson.getEndDate())) {
+                    addString(lesson.getStartDate().value);
+                    addString(lesson.getEndDate().value);
+                }
+                if (!isEncodable(lesson.getTimeRange())) {
+                    addString(lesson.getTimeRange().value);
+                }
+                if (!isEncodable(lesson.getLessonRates()) || !isEncodable(lesson.getOutstandingFees())) {
+                    addString(lesson.getLessonRates().value);
+                    addString(lesson.getOutstandingFees().value);
+                }
+                lesson.getCancelledDates().stream().filter(date -> !isEncodable(date))
+                        .forEach(date -> addString(date.value));
+            }
+        }
+
+        private void writeString(String string) throws IOException {
+            records.writeInt(stringIndices.get(string));
+        }
+
+        private void writePerson(Person person) throws IOException {
+            writeString(person.getName().fullName);
+            writeString(person.getPhone().value);
+            writeString(person.getEmail().value);
+            writeString(person.getParentPhone().value);
+            writeString(person.getParentEmail().value);
+            writeString(person.getAddress().value);
+            writeString(person.getSchool().value);
+            writeString(person.getAcadStream().value);
+            writeString(person.getAcadLevel().value);
+            writeString(person.getRemark().value);
+            records.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                writeString(tag.toString());
+            }
+            records.writeInt(person.getLessons().size());
+            for (Lesson lesson : person.getLessons()) {
+                writeLesson(lesson);
+            }
+        }
+
+        private void writeLesson(Lesson lesson) throws IOException {
+            records.writeByte(lesson.isRecurring() ? TYPE_RECURRING_LESSON : TYPE_MAKEUP_LESSON);
+            writeDate(lesson.getStartDate());
+            if (lesson.isRecurring()) {
+                writeDate(lesson.getEndDate());
+            }
+            writeTimeRange(lesson.getTimeRange());
+            writeString(lesson.getSubject().value);
+            records.writeInt(lesson.getHomework().size());
+            for (Homework homework : lesson.getHomework()) {
+                writeString(homework.description);
+            }
+            writeMoney(lesson.getLessonRates());
+            writeMoney(lesson.getOutstandingFees());
+            records.writeInt(lesson.getCancelledDates().size());
+            for (Date date : lesson.getCancelledDates()) {
+                writeDate(date);
+            }
+        }
+
+        private void writeDate(Date date) throws IOException {
+            if (isEncodable(date)) {
+                records.writeByte(TAG_ENCODED);
+                records.writeLong(date.getLocalDate().toEpochDay());
+            } else {
+                records.writeByte(TAG_STRING);
+                writeString(date.value);
+            }
+        }
+
+        private void writeTimeRange(TimeRange timeRange) throws IOException {
+            if (isEncodable(timeRange)) {
+                records.writeByte(TAG_ENCODED);
+                records.writeInt(timeRange.getStartMinutes() << MINUTES_SHIFT | timeRange.getEndMinutes());
+            } else {
+                records.writeByte(TAG_STRING);
+                writeString(timeRange.value);
+            }
+        }
+
+        private void writeMoney(Money money) throws IOException {
+            if (isEncodable(money)) {
+                records.writeByte(TAG_ENCODED);
+                records.writeLong(money.getValueInCents());
+            } else {
+                records.writeByte(TAG_STRING);
+                writeString(money.value);
+            }
+        }
+
+        private static boolean isEncodable(Date date) {
+            return date.equals(Date.fromLocalDate(date.getLocalDate()));
+        }
+
+        private static boolean isEncodable(TimeRange timeRange) {
+            return timeRange.value.equals(
+                    TimeRange.fromMinutes(timeRange.getStartMinutes(), timeRange.getEndMinutes()).value);
+        }
+
+        private static boolean isEncodable(Money money) {
+            try {
+                return money.value.equals(Money.formatCents(money.getValueInCents()));
+            } catch (ArithmeticException e) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Reads one address book. The persons are decoded in chunks, in parallel if there are enough of them,
+     * each chunk converting each string at most once per type of value, then added to the address book in one batch.
+     */
+    private static class Reader {
+        private final ByteBuffer buffer;
+        private String[] strings;
+
+        private Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private AddressBook read() throws IllegalValueException {
+            try {
+                readHeader(buffer);
+                strings = new String[readCount(buffer)];
+                for (int i = 0; i < strings.length; i++) {
+                    byte[] bytes = new byte[readCount(buffer)];
+                    buffer.get(bytes);
+                    strings[i] = new String(bytes, UTF_8);
+                }
+                LastUpdatedDate lastUpdatedDate = new LastUpdatedDate(strings[buffer.getInt()]);
+
+                int numberOfPersons = readCount(buffer);
+                AddressBook addressBook = JsonSerializableAddressBook.toAddressBook(decodePersons(numberOfPersons));
+                addressBook.setLastUpdatedDate(lastUpdatedDate);
+                return addressBook;
+            } catch (RuntimeException e) {
+                // invalid values are rejected by the constructors of the model's value objects,
+                // and truncated or corrupted snapshots by the buffer
+                throw new IllegalValueException(MESSAGE_INVALID_VALUE, e);
+            }
+        }
+
+        /**
+         * Decodes the persons after the offsets of their records, in chunks of {@link #PERSONS_PER_CHUNK}.
+         */
+        private List<Person> decodePersons(int numberOfPersons) {
+            int[] offsets = new int[numberOfPersons];
+            for (int i = 0; i < numberOfPersons; i++) {
+                offsets[i] = buffer.getInt();
+            }
+            ByteBuffer records = buffer.slice();
+
+            int numberOfChunks = (numberOfPersons + PERSONS_PER_CHUNK - 1) / PERSONS_PER_CHUNK;
+            IntStream chunks = IntStream.range(0, numberOfChunks);
+            if (numberOfChunks > 1) {
+                chunks = chunks.parallel();
+            }
+            return chunks.mapToObj(chunk -> {
+                int from = chunk * PERSONS_PER_CHUNK;
+                ByteBuffer chunkBuffer = records.duplicate();
+                chunkBuffer.position(offsets[from]);
+                return new PersonDecoder(chunkBuffer).decode(Math.min(PERSONS_PER_CHUNK, numberOfPersons - from));
+            }).flatMap(List::stream).collect(Collectors.toList());
+        }
+
+        private static int readCount(ByteBuffer buffer) {
+            int count = buffer.getInt();
+            if (count < 0) {
+                throw new IllegalArgumentException(MESSAGE_INVALID_VALUE);
+            }
+            return count;
+        }
+
+        /**
+         * Decodes consecutive person records from a buffer, converting each string at most once per type of value.
+         */
+        private class PersonDecoder {
+            private final ByteBuffer buffer;
+            private final Map<Class<?>, Object[]> convertedStrings = new HashMap<>();
+
+            private PersonDecoder(ByteBuffer buffer) {
+                this.buffer = buffer;
+            }
+
+            private List<Person> decode(int numberOfPersons) {
+                List<Person> persons = new ArrayList<>(numberOfPersons);
+                for (int i = 0; i < numberOfPersons; i++) {
+                    persons.add(readPerson());
+                }
+                return persons;
+            }
+
+            /**
+             * Returns the value of the next string, converted by {@code converter} only the first time the string
+             * is read as that type of value.
+             */
+            @SuppressWarnings("unchecked")
+            private <T> T readValue(Class<T> type, Function<String, T> converter) {
+                int index = buffer.getInt();
+                Object[] values = convertedStrings.computeIfAbsent(type, key -> new Object[strings.length]);
+                if (values[index] == null) {
+                    values[index] = converter.apply(strings[index]);
+                }
+                return (T) values[index];
+            }
+
+            private Person readPerson() {
+                Name name = readValue(Name.class, Name::new);
+                Phone phone = readValue(Phone.class, Phone::new);
+                Email email = readValue(Email.class, Email::new);
+                Phone parentPhone = readValue(Phone.class, Phone::new);
+                Email parentEmail = readValue(Email.class, Email::new);
+                Address address = readValue(Address.class, Address::new);
+                School school = readValue(School.class, School::new);
+                AcadStream acadStream = readValue(AcadStream.class, AcadStream::new);
+                AcadLevel acadLevel = readValue(AcadLevel.class, AcadLevel::new);
+                Remark remark = readValue(Remark.class, Remark::new);
+
+                Set<Tag> tags = new HashSet<>();
+                int numberOfTags = readCount(buffer);
+                for (int i = 0; i < numberOfTags; i++) {
+                    tags.add(readValue(Tag.class, Tag::new));
+                }
+                Set<Lesson> lessons = new HashSet<>();
+                int numberOfLessons = readCount(buffer);
+                for (int i = 0; i < numberOfLessons; i++) {
+                    lessons.add(readLesson());
+                }
+                return new Person(name, phone, email, parentPhone, parentEmail, address, school, acadStream,
+                        acadLevel, remark, tags, lessons);
+            }
+
+            private Lesson readLesson() {
+                int type = buffer.get();
+                if (type != TYPE_MAKEUP_LESSON && type != TYPE_RECURRING_LESSON) {
+                    throw new IllegalArgumentException(MESSAGE_INVALID_VALUE);
+                }
+                Date startDate = readDate();
+                Date endDate = type == TYPE_RECURRING_LESSON ? readDate() : startDate;
+                TimeRange timeRange = readTimeRange();
+                Subject subject = readValue(Subject.class, Subject::new);
+                Set<Homework> homework = new HashSet<>();
+                int numberOfHomework = readCount(buffer);
+                for (int i = 0; i < numberOfHomework; i++) {
+                    homework.add(readValue(Homework.class, Homework::new));
+                }
+                LessonRates rates = readTag() == TAG_ENCODED
+                        ? new LessonRates(buffer.getLong())
+                        : readValue(LessonRates.class, LessonRates::new);
+                OutstandingFees fees = readTag() == TAG_ENCODED
+                        ? new OutstandingFees(buffer.getLong())
+                        : readValue(OutstandingFees.class, OutstandingFees::new);
+                Set<Date> cancelledDates = new HashSet<>();
+                int numberOfCancelledDates = readCount(buffer);
+                for (int i = 0; i < numberOfCancelledDates; i++) {
+                    cancelledDates.add(readDate());
+                }
+
+                return type == TYPE_RECURRING_LESSON
+                        ? new RecurringLesson(startDate, endDate, timeRange, subject, homework, rates, fees,
+                                cancelledDates)
+                        : new MakeUpLesson(startDate, timeRange, subject, homework, rates, fees, cancelledDates);
+            }
+
+            private int readTag() {
+                int tag = buffer.get();
+                if (tag != TAG_ENCODED && tag != TAG_STRING) {
+                    throw new IllegalArgumentException(MESSAGE_INVALID_VALUE);
+                }
+                return tag;
+            }
+
+            private Date readDate() {
+                return readTag() == TAG_ENCODED
+                        ? Date.fromLocalDate(LocalDate.ofEpochDay(buffer.getLong()))
+                        : readValue(Date.class, Date::new);
+            }
+
+            private TimeRange readTimeRange() {
+                if (readTag() == TAG_STRING) {
+                    return readValue(TimeRange.class, TimeRange::new);
+                }
+                int packedMinutes = buffer.getInt();
+                return TimeRange.fromMinutes(packedMinutes >>> MINUTES_SHIFT, packedMinutes & MINUTES_MASK);
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.flightrecorder.AddressBookSaveEvent;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.LastUpdatedDate;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PersonChange;
+
+/**
+ * A class to access AddressBook data stored as a data file with an {@link AddressBookJournal} next to it.
+ * The data file is replaced as a whole when the address book is saved, and the changes made in between
+ * are appended to the journal. Subclasses decide the format of the data file.
+ *
+ * Each data file written has a greater generation than the one it replaces, and the changes are appended
+ * with the generation of the data file they were made after, so that changes already in the data file
+ * are not replayed if the journal could not be cleared after the data file was replaced.
+ */
+public abstract class JournaledAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private Path filePath;
+    /** Generations of the data files read or written, as they are slow to read again from JSON without one. */
+    private final Map<Path, Long> generations = new ConcurrentHashMap<>();
+
+    protected JournaledAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Reads the address book in the data file at {@code filePath}, without the changes in its journal.
+     *
+     * @throws IOException If the file could not be read.
+     * @throws IllegalValueException If the file is not in the format of this storage,
+     *     or there were any data constraints violated in it.
+     */
+    protected abstract AddressBook readDataFile(Path filePath) throws IOException, IllegalValueException;
+
+    /**
+     * Reads the generation of the existing data file at {@code filePath}, which is 0 if it was written without one.
+     *
+     * @throws IOException If the file could not be read.
+     * @throws IllegalValueException If the file is not in the format of this storage.
+     */
+    protected abstract long readGeneration(Path filePath) throws IOException, IllegalValueException;
+
+    /**
+     * Writes {@code addressBook} with {@code generation} to {@code out} in the format of this storage.
+     * The data must be flushed to {@code out}, which must be left open.
+     *
+     * @throws IOException If the data could not be written.
+     */
+    protected abstract void writeDataFile(ReadOnlyAddressBook addressBook, long generation, OutputStream out)
+            throws IOException;
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The changes in the journal of the file are applied after the data file is read.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format,
+     *     or the changes in the journal cannot be applied to it.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Data file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            long generation = readGeneration(filePath);
+            AddressBook addressBook = readDataFile(filePath);
+            generations.put(filePath, generation);
+            AddressBookJournal.forDataFile(filePath).replay(addressBook, generation);
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The address book is written to a temporary file, which then replaces the file,
+     * so the file is never left partly written. The journal of the file is cleared after.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        AddressBookSaveEvent event = AddressBookSaveEvent.start();
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = FileUtil.getTempFilePath(filePath);
+        // not below the time either, so that a journal left behind by a deleted data file is not replayed
+        long generation = Math.max(getGeneration(filePath) + 1, System.currentTimeMillis());
+        long bytesWritten;
+        try (FileChannel channel = FileChannel.open(tempFilePath, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            writeDataFile(addressBook, generation, new BufferedOutputStream(Channels.newOutputStream(channel)));
+            channel.force(true);
+            bytesWritten = channel.size();
+        }
+
+        FileUtil.moveReplacing(tempFilePath, filePath);
+        generations.put(filePath, generation);
+        AddressBookJournal.forDataFile(filePath).clear();
+        event.finish(addressBook.getPersonList().size(), bytesWritten);
+    }
+
+    @Override
+    public void saveAddressBookChanges(List<PersonChange> changes, LastUpdatedDate lastUpdatedDate)
+            throws IOException {
+        saveAddressBookChanges(changes, lastUpdatedDate, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBookChanges(List, LastUpdatedDate)}.
+     * The changes are appended to the journal of the file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBookChanges(List<PersonChange> changes, LastUpdatedDate lastUpdatedDate, Path filePath)
+            throws IOException {
+        requireAllNonNull(changes, lastUpdatedDate, filePath);
+        AddressBookJournal.forDataFile(filePath).append(changes, lastUpdatedDate, getGeneration(filePath));
+    }
+
+    /**
+     * Returns the generation of the data file at {@code filePath}, or 0 if there is none.
+     * A data file that cannot be read is treated as having none, so that it can still be replaced.
+     */
+    private long getGeneration(Path filePath) throws IOException {
+        Long generation = generations.get(filePath);
+        if (generation != null) {
+            return generation;
+        }
+        if (!Files.exists(filePath)) {
+            return 0;
+        }
+
+        try {
+            generation = readGeneration(filePath);
+        } catch (IllegalValueException ive) {
+            logger.info("Generation of " + filePath + " could not be read: " + ive.getMessage());
+            generation = 0L;
+        }
+        generations.put(filePath, generation);
+        return generation;
+    }
+
+}
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.LastUpdatedDate;
+import seedu.address.model.person.PersonChange;
+
+/**
+ * Jackson-friendly version of a batch of changes saved together in the address book journal,
+ * with the last updated date of the address book after the changes
+ * and the generation of the data file the changes were made after.
+ */
+class JsonAdaptedJournalEntry {
+
+    private final List<JsonAdaptedPersonChange> changes = new ArrayList<>();
+    private final JsonAdaptedLastUpdated lastUpdated;
+    private final long generation;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given changes, last updated date time and generation.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("changes") List<JsonAdaptedPersonChange> changes,
+                                   @JsonProperty("lastUpdated") JsonAdaptedLastUpdated lastUpdated,
+                                   @JsonProperty("generation") Long generation) {
+        if (changes != null) {
+            this.changes.addAll(changes);
+        }
+        this.lastUpdated = lastUpdated;
+        this.generation = generation == null ? 0 : generation;
+    }
+
+    /**
+     * Converts the given changes, last updated date and generation into this class for Jackson use.
+     */
+    public JsonAdaptedJournalEntry(List<PersonChange> changes, LastUpdatedDate lastUpdatedDate, long generation) {
+        this.changes.addAll(changes.stream().map(JsonAdaptedPersonChange::new).collect(Collectors.toList()));
+        lastUpdated = new JsonAdaptedLastUpdated(lastUpdatedDate.value);
+        this.generation = generation;
+    }
+
+    public List<JsonAdaptedPersonChange> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Returns the last updated date saved with the changes, which is null for entries saved without one.
+     */
+    public JsonAdaptedLastUpdated getLastUpdated() {
+        return lastUpdated;
+    }
+
+    /**
+     * Returns the generation of the data file the changes were made after, which is 0 for entries saved without one.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+}
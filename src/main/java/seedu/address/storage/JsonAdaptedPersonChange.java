@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.PersonChange;
+
+/**
+ * Jackson-friendly version of {@link PersonChange}.
+ * A change that removes a person only has the name of the person, while a change that puts a person
+ * has the person and its index.
+ */
+class JsonAdaptedPersonChange {
+
+    public static final String MESSAGE_INVALID_CHANGE = "Journal contains an invalid change!";
+
+    private final String removed;
+    private final JsonAdaptedPerson person;
+    private final Integer index;
+
+    /**
+     * Constructs a {@code JsonAdaptedPersonChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedPersonChange(@JsonProperty("removed") String removed,
+                                   @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("index") Integer index) {
+        this.removed = removed;
+        this.person = person;
+        this.index = index;
+    }
+
+    /**
+     * Converts a given {@code PersonChange} into this class for Jackson use.
+     */
+    public JsonAdaptedPersonChange(PersonChange source) {
+        if (source.isRemoval()) {
+            removed = source.getName().fullName;
+            person = null;
+            index = null;
+        } else {
+            removed = null;
+            person = new JsonAdaptedPerson(source.getPerson().get());
+            index = source.getIndex();
+        }
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code PersonChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public PersonChange toModelType() throws IllegalValueException {
+        if (removed != null && person == null) {
+            if (!Name.isValidName(removed)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            return PersonChange.remove(new Name(removed));
+        }
+        if (removed != null || person == null || index == null || index < 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_CHANGE);
+        }
+        return PersonChange.put(person.toModelType(), index);
+    }
+}
@@ -2,19 +2,28 @@ package seedu.address.storage;
 
 import static seedu.address.storage.JsonAdaptedPerson.MESSAGE_CLASHING_LESSON;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.LastUpdatedDate;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.ClashingLessonException;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -24,6 +33,12 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    private static final String FIELD_GENERATION = "generation";
+    private static final String FIELD_PERSONS = "persons";
+    private static final String FIELD_LAST_UPDATED = "lastUpdated";
+    private static final int PERSONS_PER_BATCH = 1024;
+    private static final int PARALLEL_THRESHOLD = 64;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final JsonAdaptedLastUpdated lastUpdated;
 
@@ -53,24 +68,153 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        AddressBook addressBook = toAddressBook(toModelPersons(persons));
+        setLastUpdatedDate(addressBook, lastUpdated);
+
+        return addressBook;
+    }
+
+    /**
+     * Writes the address book to {@code generator} in the same format as this class,
+     * converting one person at a time instead of the whole address book at once.
+     * The generation is written first, so that it can be read without reading the persons.
+     *
+     * @param source Address book to write.
+     * @param generation Generation of the data file written.
+     * @param generator Generator to write the JSON to.
+     * @throws IOException If the JSON could not be written.
+     */
+    public static void writeAddressBook(ReadOnlyAddressBook source, long generation, JsonGenerator generator)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField(FIELD_GENERATION, generation);
+        generator.writeArrayFieldStart(FIELD_PERSONS);
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeObjectField(FIELD_LAST_UPDATED, new JsonAdaptedLastUpdated(source.getLastUpdatedDate().value));
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads an address book written in the format of this class from {@code parser},
+     * converting the persons into the model's {@code Person} in batches of {@link #PERSONS_PER_BATCH} as they are read.
+     *
+     * @param parser Parser positioned before the address book object.
+     * @return The address book read.
+     * @throws IOException If the JSON could not be read or is not an address book.
+     * @throws IllegalValueException If there were any data constraints violated.
+     */
+    public static AddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Address book is not a JSON object");
+        }
+
+        List<Person> persons = new ArrayList<>();
+        JsonAdaptedLastUpdated lastUpdated = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (FIELD_PERSONS.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                List<JsonAdaptedPerson> batch = new ArrayList<>(PERSONS_PER_BATCH);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                    if (batch.size() == PERSONS_PER_BATCH) {
+                        persons.addAll(toModelPersons(batch));
+                        batch.clear();
+                    }
+                }
+                persons.addAll(toModelPersons(batch));
+            } else if (FIELD_LAST_UPDATED.equals(fieldName)) {
+                lastUpdated = parser.readValueAs(JsonAdaptedLastUpdated.class);
+            } else {
+                // the generation is read by readGeneration, and unknown fields are ignored, as when reading this class
+                parser.skipChildren();
+            }
+        }
+        AddressBook addressBook = toAddressBook(persons);
+        setLastUpdatedDate(addressBook, lastUpdated);
+
+        return addressBook;
+    }
+
+    /**
+     * Reads the generation of an address book written in the format of this class from {@code parser}.
+     *
+     * @param parser Parser positioned before the address book object.
+     * @return The generation read, or 0 if the address book was written without one.
+     * @throws IOException If the JSON could not be read or is not an address book.
+     */
+    public static long readGeneration(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Address book is not a JSON object");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (FIELD_GENERATION.equals(fieldName)) {
+                return parser.getValueAsLong();
+            }
+            parser.skipChildren();
+        }
+        return 0;
+    }
+
+    /**
+     * Converts {@code adaptedPersons} into the model's {@code Person}s in the same order,
+     * in parallel on the common fork-join pool if there are enough of them.
+     *
+     * @throws IllegalValueException The exception of the first person in the list that could not be converted.
+     */
+    private static List<Person> toModelPersons(List<JsonAdaptedPerson> adaptedPersons) throws IllegalValueException {
+        Person[] modelPersons = new Person[adaptedPersons.size()];
+        IllegalValueException[] failures = new IllegalValueException[adaptedPersons.size()];
+        IntStream indices = IntStream.range(0, adaptedPersons.size());
+        if (adaptedPersons.size() >= PARALLEL_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            try {
+                modelPersons[i] = adaptedPersons.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                failures[i] = ive;
             }
-            if (addressBook.hasClashingLesson(person.getLessons())) {
-                throw new IllegalValueException(MESSAGE_CLASHING_LESSON);
+        });
+
+        for (IllegalValueException failure : failures) {
+            if (failure != null) {
+                throw failure;
             }
-            addressBook.addPerson(person);
         }
+        return Arrays.asList(modelPersons);
+    }
+
+    /**
+     * Returns an address book of {@code persons}, whose persons, tags and calendar entries are each built
+     * in one batch rather than one person at a time.
+     *
+     * @throws IllegalValueException If there are duplicate persons or clashing lessons.
+     */
+    static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        } catch (ClashingLessonException e) {
+            throw new IllegalValueException(MESSAGE_CLASHING_LESSON);
+        }
+        return addressBook;
+    }
 
+    private static void setLastUpdatedDate(AddressBook addressBook, JsonAdaptedLastUpdated lastUpdated)
+            throws IllegalValueException {
         if (lastUpdated == null) {
             throw new IllegalValueException(JsonAdaptedLastUpdated.MISSING_FIELD_MESSAGE_FORMAT);
         }
         LastUpdatedDate lastUpdatedDate = lastUpdated.toModelType();
         addressBook.setLastUpdatedDate(lastUpdatedDate);
-
-        return addressBook;
     }
 }
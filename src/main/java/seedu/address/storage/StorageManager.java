@@ -2,14 +2,17 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.LastUpdatedDate;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PersonChange;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -76,4 +79,17 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void saveAddressBookChanges(List<PersonChange> changes, LastUpdatedDate lastUpdatedDate)
+            throws IOException {
+        saveAddressBookChanges(changes, lastUpdatedDate, addressBookStorage.getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBookChanges(List<PersonChange> changes, LastUpdatedDate lastUpdatedDate, Path filePath)
+            throws IOException {
+        logger.fine("Attempting to write " + changes.size() + " changes to the journal of data file: " + filePath);
+        addressBookStorage.saveAddressBookChanges(changes, lastUpdatedDate, filePath);
+    }
+
 }
@@ -1,8 +1,12 @@
 package seedu.address.ui;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -17,18 +21,27 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandCompleter commandCompleter;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandCompleter}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandCompleter commandCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandCompleter = commandCompleter;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // the Tab key would otherwise move the focus out of the command box
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB && !event.isShiftDown() && !event.isShortcutDown()) {
+                handleCompletionRequested();
+                event.consume();
+            }
+        });
     }
 
     /**
@@ -49,6 +62,46 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Handles the Tab button pressed event, by completing the command word being typed.
+     * The command word is completed up to where the command words it could be diverge,
+     * followed by a space if only one command word matches.
+     */
+    private void handleCompletionRequested() {
+        String commandText = commandTextField.getText();
+        if (commandText.isBlank() || commandText.contains(" ")) {
+            return;
+        }
+
+        List<String> completions = commandCompleter.getCompletions(commandText);
+        if (completions.isEmpty()) {
+            return;
+        }
+        String completion = completions.size() == 1
+                ? completions.get(0) + " "
+                : getCommonPrefix(completions);
+        if (completion.length() > commandText.length()) {
+            commandTextField.setText(completion);
+            commandTextField.end();
+        }
+    }
+
+    /**
+     * Returns the longest prefix shared by all of {@code words}.
+     */
+    private static String getCommonPrefix(List<String> words) {
+        String commonPrefix = words.get(0);
+        for (String word : words) {
+            int length = 0;
+            while (length < Math.min(commonPrefix.length(), word.length())
+                    && commonPrefix.charAt(length) == word.charAt(length)) {
+                length++;
+            }
+            commonPrefix = commonPrefix.substring(0, length);
+        }
+        return commonPrefix;
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -86,4 +139,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can complete command words.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns the command words that start with {@code partialCommandWord}.
+         *
+         * @see seedu.address.logic.Logic#getCommandWordCompletions(String)
+         */
+        List<String> getCompletions(String partialCommandWord);
+    }
+
 }
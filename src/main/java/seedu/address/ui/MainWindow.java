@@ -2,8 +2,11 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.logging.Logger;
 
+import javafx.animation.PauseTransition;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListView;
@@ -13,6 +16,7 @@ import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
@@ -54,6 +58,7 @@ public class MainWindow extends UiPart<Stage> {
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
     private ReminderWindow reminderWindow;
+    private final PauseTransition upcomingLessonsTimer = new PauseTransition();
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -164,12 +169,30 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCommandWordCompletions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         initListeners();
 
         initKeyPressEventHandler(commandBox);
+
+        upcomingLessonsTimer.setOnFinished(event -> {
+            logic.updateUpcomingLessons();
+            scheduleUpcomingLessonsUpdate();
+        });
+        scheduleUpcomingLessonsUpdate();
+    }
+
+    /**
+     * Schedules the list of upcoming lessons to be updated when the next lesson enters or leaves it.
+     */
+    private void scheduleUpcomingLessonsUpdate() {
+        upcomingLessonsTimer.stop();
+        logic.getNextUpcomingLessonsUpdate().ifPresent(nextUpdate -> {
+            long delay = Math.max(0, ChronoUnit.MILLIS.between(LocalDateTime.now(), nextUpdate));
+            upcomingLessonsTimer.setDuration(Duration.millis(delay));
+            upcomingLessonsTimer.play();
+        });
     }
 
     /**
@@ -390,6 +413,7 @@ public class MainWindow extends UiPart<Stage> {
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
+            scheduleUpcomingLessonsUpdate();
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
             switch (commandResult.getDisplayType()) {
@@ -37,6 +37,48 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validRecordingPath_success() {
+        parametersStub.namedParameters.put("record", "tab.jfr");
+        expected.setRecordingPath(Paths.get("tab.jfr"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidRecordingPath_success() {
+        parametersStub.namedParameters.put("record", "a\0");
+        expected.setRecordingPath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_validMetricsPath_success() {
+        parametersStub.namedParameters.put("metrics", "metrics.csv");
+        expected.setMetricsPath(Paths.get("metrics.csv"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidMetricsPath_success() {
+        parametersStub.namedParameters.put("metrics", "a\0");
+        expected.setMetricsPath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_validExportPath_success() {
+        parametersStub.namedParameters.put("export", "addressbook.json");
+        expected.setExportPath(Paths.get("addressbook.json"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidExportPath_success() {
+        parametersStub.namedParameters.put("export", "a\0");
+        expected.setExportPath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
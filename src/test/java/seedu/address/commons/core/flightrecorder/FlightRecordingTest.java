@@ -0,0 +1,85 @@
+package seedu.address.commons.core.flightrecorder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.address.commons.core.metrics.MetricsCenter;
+import seedu.address.model.AddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class FlightRecordingTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @AfterEach
+    public void stopRecording() {
+        FlightRecording.stop();
+    }
+
+    @Test
+    public void stop_notStarted_doesNothing() {
+        FlightRecording.stop();
+        assertFalse(FlightRecording.isRecording());
+    }
+
+    @Test
+    public void start_modelMutatedAndSaved_eventsRecorded() throws IOException {
+        Path recordingPath = testFolder.resolve("tab.jfr");
+        Path addressBookPath = testFolder.resolve("addressbook.json");
+
+        FlightRecording.start(recordingPath);
+        assertTrue(FlightRecording.isRecording());
+
+        AddressBook addressBook = new AddressBook();
+        MetricsCenter.Sample sample = MetricsCenter.startCommand("command", "add");
+        try {
+            addressBook.addPerson(ALICE);
+            addressBook.addPerson(BENSON);
+            addressBook.removePerson(ALICE);
+        } finally {
+            sample.stop();
+        }
+        new JsonAddressBookStorage(addressBookPath).saveAddressBook(addressBook);
+
+        FlightRecording.stop();
+        assertFalse(FlightRecording.isRecording());
+
+        List<RecordedEvent> mutations = readEvents(recordingPath, "seedu.address.PersonMutation");
+        assertEquals(3, mutations.size());
+        assertEquals(PersonMutationEvent.ADD, mutations.get(0).getString("operation"));
+        assertEquals("add", mutations.get(0).getString("commandWord"));
+        assertEquals(1, mutations.get(0).getInt("personCount"));
+        assertEquals(ALICE.getLessons().size(), mutations.get(0).getInt("entryCount"));
+        assertEquals(PersonMutationEvent.REMOVE, mutations.get(2).getString("operation"));
+        assertEquals(1, mutations.get(2).getInt("personCount"));
+
+        List<RecordedEvent> saves = readEvents(recordingPath, "seedu.address.AddressBookSave");
+        assertEquals(1, saves.size());
+        assertEquals(MetricsCenter.NO_COMMAND, saves.get(0).getString("commandWord"));
+        assertEquals(1, saves.get(0).getInt("personCount"));
+        assertEquals(Files.size(addressBookPath), saves.get(0).getLong("bytesWritten"));
+    }
+
+    private static List<RecordedEvent> readEvents(Path recordingPath, String eventName) throws IOException {
+        return RecordingFile.readAllEvents(recordingPath).stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .sorted((first, second) -> first.getStartTime().compareTo(second.getStartTime()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MetricsCenterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @BeforeEach
+    @AfterEach
+    public void clearTimers() {
+        MetricsCenter.clear();
+    }
+
+    @Test
+    public void time_outsideCommand_taggedNoCommand() {
+        MetricsCenter.time("save", () -> assertEquals(MetricsCenter.NO_COMMAND, MetricsCenter.getCommandWord()));
+
+        List<Timer> timers = MetricsCenter.getTimers();
+        assertEquals(1, timers.size());
+        assertEquals("save", timers.get(0).getName());
+        assertEquals(MetricsCenter.NO_COMMAND, timers.get(0).getTag());
+        assertEquals(1, timers.get(0).getCount());
+    }
+
+    @Test
+    public void startCommand_nestedSamples_taggedByCommandWord() {
+        MetricsCenter.Sample command = MetricsCenter.startCommand("command", "add");
+        MetricsCenter.time("parse", () -> assertEquals("add", MetricsCenter.getCommandWord()));
+        assertEquals("add", MetricsCenter.time("execute", MetricsCenter::getCommandWord));
+        command.stop();
+        assertEquals(MetricsCenter.NO_COMMAND, MetricsCenter.getCommandWord());
+
+        List<Timer> timers = MetricsCenter.getTimers();
+        assertEquals(3, timers.size());
+        // ordered by name
+        assertEquals("command", timers.get(0).getName());
+        assertEquals("execute", timers.get(1).getName());
+        assertEquals("parse", timers.get(2).getName());
+        timers.forEach(timer -> assertEquals("add", timer.getTag()));
+    }
+
+    @Test
+    public void time_operationThrows_exceptionRethrownAndTimed() {
+        assertThrows(IOException.class, "failed", () -> MetricsCenter.time("save", () -> {
+            throw new IOException("failed");
+        }));
+
+        List<Timer> timers = MetricsCenter.getTimers();
+        assertEquals(1, timers.size());
+        assertEquals(1, timers.get(0).getCount());
+    }
+
+    @Test
+    public void start_sameNameAndTag_sameTimer() {
+        for (int i = 0; i < 3; i++) {
+            MetricsCenter.start("save", "add").stop();
+        }
+        MetricsCenter.start("save", "edit").stop();
+
+        List<Timer> timers = MetricsCenter.getTimers();
+        assertEquals(2, timers.size());
+        assertEquals(3, timers.get(0).getCount());
+        assertEquals(1, timers.get(1).getCount());
+    }
+
+    @Test
+    public void dump_twice_headerWrittenOnce() throws IOException {
+        Path filePath = testFolder.resolve("metrics.csv");
+        MetricsCenter.start("save", "add").stop();
+
+        MetricsCenter.dump(filePath);
+        MetricsCenter.dump(filePath);
+
+        List<String> lines = Files.readAllLines(filePath);
+        assertEquals(3, lines.size());
+        assertEquals(MetricsCenter.DUMP_HEADER, lines.get(0));
+        assertEquals(true, lines.get(1).contains(",save,add,1,"));
+        assertEquals(true, lines.get(2).contains(",save,add,1,"));
+    }
+
+    @Test
+    public void toMillis_nanos_threeDecimalPlaces() {
+        assertEquals("1.500", MetricsCenter.toMillis(1_500_000));
+        assertEquals("0.000", MetricsCenter.toMillis(0));
+    }
+}
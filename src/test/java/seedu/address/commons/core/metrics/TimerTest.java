@@ -0,0 +1,63 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class TimerTest {
+
+    private static final long MICRO = 1000;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Timer(null, "tag"));
+        assertThrows(NullPointerException.class, () -> new Timer("name", null));
+    }
+
+    @Test
+    public void record_noRuns_zeroes() {
+        Timer timer = new Timer("name", "tag");
+        assertEquals(0, timer.getCount());
+        assertEquals(0, timer.getTotalNanos());
+        assertEquals(0, timer.getMaxNanos());
+        assertEquals(0, timer.getPercentileNanos(50));
+        assertEquals(Timer.ALLOCATION_UNKNOWN, timer.getMeanAllocatedBytes());
+    }
+
+    @Test
+    public void record_runs_totalsUpdated() {
+        Timer timer = new Timer("name", "tag");
+        timer.record(100 * MICRO, 300);
+        timer.record(300 * MICRO, Timer.ALLOCATION_UNKNOWN);
+        timer.record(200 * MICRO, 100);
+
+        assertEquals(3, timer.getCount());
+        assertEquals(600 * MICRO, timer.getTotalNanos());
+        assertEquals(300 * MICRO, timer.getMaxNanos());
+        // runs whose allocations are unknown are left out of the mean
+        assertEquals(200, timer.getMeanAllocatedBytes());
+    }
+
+    @Test
+    public void getPercentileNanos_runs_upperBoundWithinFactorOfTwo() {
+        Timer timer = new Timer("name", "tag");
+        for (int i = 0; i < 99; i++) {
+            timer.record(100 * MICRO, 0);
+        }
+        timer.record(10_000 * MICRO, 0);
+
+        long p50 = timer.getPercentileNanos(50);
+        assertEquals(true, p50 >= 100 * MICRO && p50 <= 200 * MICRO);
+        assertEquals(p50, timer.getPercentileNanos(99));
+        // capped at the longest run
+        assertEquals(10_000 * MICRO, timer.getPercentileNanos(100));
+    }
+
+    @Test
+    public void getPercentileNanos_subMicrosecondRuns_cappedAtMax() {
+        Timer timer = new Timer("name", "tag");
+        timer.record(10, 0);
+        assertEquals(10, timer.getPercentileNanos(50));
+    }
+}
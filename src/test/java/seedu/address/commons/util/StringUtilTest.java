@@ -123,6 +123,29 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsLowerCaseSubstringIgnoreCase --------------------------------------
+
+    @Test
+    public void containsLowerCaseSubstringIgnoreCase_nullSubstring_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.containsLowerCaseSubstringIgnoreCase("abc", null));
+    }
+
+    @Test
+    public void containsLowerCaseSubstringIgnoreCase_validInputs_correctResult() {
+        // Empty sentence
+        assertFalse(StringUtil.containsLowerCaseSubstringIgnoreCase("", "abc")); // Boundary case
+
+        // Substring not in sentence
+        assertFalse(StringUtil.containsLowerCaseSubstringIgnoreCase("aaa bbb", "bbbb"));
+        assertFalse(StringUtil.containsLowerCaseSubstringIgnoreCase("aaa bbb", "ab b"));
+
+        // Matches substring, different upper/lower case letters
+        assertTrue(StringUtil.containsLowerCaseSubstringIgnoreCase("AAA bBb", "aaa")); // Start (boundary case)
+        assertTrue(StringUtil.containsLowerCaseSubstringIgnoreCase("AAA bBb", "bb")); // End (boundary case)
+        assertTrue(StringUtil.containsLowerCaseSubstringIgnoreCase("AAA bBb", "a b")); // Across words
+        assertTrue(StringUtil.containsLowerCaseSubstringIgnoreCase("AAA bBb", "aaa bbb")); // Whole sentence
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
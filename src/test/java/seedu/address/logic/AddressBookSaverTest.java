@@ -0,0 +1,141 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.LastUpdatedDate;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PersonChange;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class AddressBookSaverTest {
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+    private static final LastUpdatedDate LAST_UPDATED_DATE = new LastUpdatedDate();
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final List<Runnable> queuedSaves = new ArrayList<>();
+    private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+    private final List<List<PersonChange>> savedChanges = new ArrayList<>();
+    private boolean isSaveFailing = false;
+
+    @Test
+    public void requestSave_multipleRequestsBeforeSave_latestSnapshotSavedOnce() {
+        AddressBookSaver saver = new AddressBookSaver(createStorage(), queuedSaves::add);
+        ReadOnlyAddressBook latest = new AddressBookSnapshot(getTypicalAddressBook());
+        saver.requestSave(new AddressBookSnapshot(new AddressBook()));
+        saver.requestSave(latest);
+
+        assertEquals(1, queuedSaves.size());
+        queuedSaves.forEach(Runnable::run);
+        assertEquals(List.of(latest), savedAddressBooks);
+    }
+
+    @Test
+    public void requestSaveChanges_multipleRequestsBeforeSave_changesSavedInOneBatch() {
+        AddressBookSaver saver = new AddressBookSaver(createStorage(), queuedSaves::add);
+        PersonChange removeAlice = PersonChange.remove(ALICE.getName());
+        PersonChange putBenson = PersonChange.put(BENSON, 0);
+        saver.requestSaveChanges(List.of(removeAlice), LAST_UPDATED_DATE);
+        saver.requestSaveChanges(List.of(putBenson), LAST_UPDATED_DATE);
+
+        assertEquals(1, queuedSaves.size());
+        queuedSaves.forEach(Runnable::run);
+        assertEquals(List.of(List.of(removeAlice, putBenson)), savedChanges);
+        assertTrue(savedAddressBooks.isEmpty());
+    }
+
+    @Test
+    public void requestSaveChanges_compactionThresholdReached_fullSaveNeeded() {
+        AddressBookSaver saver = new AddressBookSaver(createStorage(), Runnable::run);
+        saver.requestSaveChanges(Collections.nCopies(AddressBookSaver.COMPACTION_THRESHOLD - 1,
+                PersonChange.remove(ALICE.getName())), LAST_UPDATED_DATE);
+        assertFalse(saver.isFullSaveNeeded());
+
+        saver.requestSaveChanges(List.of(PersonChange.remove(ALICE.getName())), LAST_UPDATED_DATE);
+        assertTrue(saver.isFullSaveNeeded());
+
+        saver.requestSave(new AddressBookSnapshot(getTypicalAddressBook()));
+        assertFalse(saver.isFullSaveNeeded());
+    }
+
+    @Test
+    public void requestSaveChanges_saveFails_failurePolledOnceAndFullSaveNeeded() {
+        AddressBookSaver saver = new AddressBookSaver(createStorage(), Runnable::run);
+        isSaveFailing = true;
+        saver.requestSaveChanges(List.of(PersonChange.remove(ALICE.getName())), LAST_UPDATED_DATE);
+
+        assertEquals(DUMMY_IO_EXCEPTION, saver.pollFailure().get());
+        assertFalse(saver.pollFailure().isPresent());
+        assertTrue(saver.isFullSaveNeeded());
+
+        // changes are not saved until the whole address book is saved
+        isSaveFailing = false;
+        saver.requestSaveChanges(List.of(PersonChange.remove(ALICE.getName())), LAST_UPDATED_DATE);
+        assertTrue(savedChanges.isEmpty());
+    }
+
+    @Test
+    public void flush_pendingSave_savedOnCallingThread() throws Exception {
+        AddressBookSaver saver = new AddressBookSaver(createStorage(), queuedSaves::add);
+        ReadOnlyAddressBook snapshot = new AddressBookSnapshot(getTypicalAddressBook());
+        saver.requestSave(snapshot);
+        saver.flush();
+        assertEquals(List.of(snapshot), savedAddressBooks);
+
+        // the queued save has nothing left to save
+        queuedSaves.forEach(Runnable::run);
+        assertEquals(1, savedAddressBooks.size());
+        assertTrue(saver.pollFailure().isEmpty());
+    }
+
+    @Test
+    public void flush_saveFails_throwsIoException() {
+        AddressBookSaver saver = new AddressBookSaver(createStorage(), queuedSaves::add);
+        isSaveFailing = true;
+        saver.requestSave(new AddressBookSnapshot(getTypicalAddressBook()));
+        assertThrows(IOException.class, saver::flush);
+    }
+
+    private StorageManager createStorage() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (isSaveFailing) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                savedAddressBooks.add(addressBook);
+            }
+
+            @Override
+            public void saveAddressBookChanges(List<PersonChange> changes, LastUpdatedDate lastUpdatedDate,
+                                               Path filePath) throws IOException {
+                if (isSaveFailing) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                savedChanges.add(changes);
+            }
+        };
+        return new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("prefs.json")));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -163,6 +164,35 @@ class FeesCalculatorTest {
                 feesCalculator.updateLessonOutstandingFeesField(lessonBetweenLastUpdateAndToday));
     }
 
+    @Test
+    public void updateLessonOutstandingFeesField_noLessonPassed_returnsSameLesson() {
+        feesCalculator = new FeesCalculator(new LastUpdatedDate("2021-10-26T12:00"),
+                LocalDateTime.parse("2021-10-27T12:00"));
+        Lesson lesson = new LessonBuilder().withDate("9 SEP 2021").buildRecurring();
+        assertSame(lesson, feesCalculator.updateLessonOutstandingFeesField(lesson));
+    }
+
+    @Test
+    public void updateLessonOutstandingFeesField_cancelledMakeUpLesson_noUpdate() {
+        feesCalculator = new FeesCalculator(new LastUpdatedDate("2021-10-25T12:20"),
+                LocalDateTime.parse("2021-10-27T22:10"));
+        Lesson cancelledMakeUpLesson = new LessonBuilder().withDate("26 OCT 2021")
+                .withCancelledDatesSet(new Date("26 OCT 2021")).build();
+        assertEquals(cancelledMakeUpLesson, feesCalculator.updateLessonOutstandingFeesField(cancelledMakeUpLesson));
+    }
+
+    @Test
+    public void updateLessonOutstandingFeesField_partialHour_roundedToCents() {
+        feesCalculator = new FeesCalculator(new LastUpdatedDate("2021-10-25T12:00"),
+                LocalDateTime.parse("2021-10-27T12:00"));
+        // 20 minutes at $10.01 per hour is $3.336..., rounded to $3.34
+        Lesson lesson = new LessonBuilder().withDate("25 OCT 2021").withTimeRange("1400-1420")
+                .withLessonRates("10.01").withOutstandingFees("0").buildRecurring();
+        Lesson expected = new LessonBuilder().withDate("25 OCT 2021").withTimeRange("1400-1420")
+                .withLessonRates("10.01").withOutstandingFees("3.34").buildRecurring();
+        assertEquals(expected, feesCalculator.updateLessonOutstandingFeesField(lesson));
+    }
+
     // @@author eeliana - Code reused from lingshanng.
     @Test
     public void startBeforeUpdate_endAfterToday() {
@@ -0,0 +1,71 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonChangeRecorderTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final PersonChangeRecorder recorder = new PersonChangeRecorder();
+
+    @Test
+    public void onChanged_editPerson_recordedAsPutOnly() {
+        addressBook.getPersonList().addListener(recorder);
+        Person editedBenson = new PersonBuilder(BENSON).withRemark("Edited").build();
+        addressBook.setPerson(BENSON, editedBenson);
+
+        assertTrue(recorder.hasChanges());
+        assertEquals(List.of(PersonChange.put(editedBenson, 1)), recorder.takeChanges());
+        assertFalse(recorder.hasChanges());
+    }
+
+    @Test
+    public void onChanged_renamePerson_recordedAsRemoveAndPut() {
+        addressBook.getPersonList().addListener(recorder);
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Tan").build();
+        addressBook.setPerson(BENSON, renamedBenson);
+
+        assertEquals(List.of(PersonChange.remove(BENSON.getName()), PersonChange.put(renamedBenson, 1)),
+                recorder.takeChanges());
+    }
+
+    @Test
+    public void takeChanges_appliedToOriginalData_samePersons() {
+        AddressBook savedAddressBook = new AddressBook(addressBook);
+        addressBook.getPersonList().addListener(recorder);
+
+        addressBook.addPerson(HOON);
+        addressBook.addPerson(Index.fromZeroBased(1), IDA);
+        addressBook.setPerson(CARL, new PersonBuilder(CARL).withName("Carl Tan").build());
+        addressBook.removePerson(ALICE);
+        addressBook.setPersons(List.copyOf(addressBook.getPersonList()));
+        recorder.takeChanges().forEach(savedAddressBook::applyPersonChange);
+
+        assertEquals(addressBook.getPersonList(), savedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void clear_changesRecorded_noChanges() {
+        addressBook.getPersonList().addListener(recorder);
+        addressBook.removePerson(ALICE);
+        recorder.clear();
+        assertTrue(recorder.takeChanges().isEmpty());
+    }
+}
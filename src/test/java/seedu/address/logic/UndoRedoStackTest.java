@@ -54,6 +54,24 @@ class UndoRedoStackTest {
                 Collections.emptyList(), undoRedoStack);
     }
 
+    @Test
+    public void pushUndoableCommand_historyLimitExceeded_oldestCommandsForgotten() {
+        undoRedoStack = new UndoRedoStack(2);
+        undoRedoStack.pushUndoableCommand(dummyUndoableCommandOne);
+        undoRedoStack.pushUndoableCommand(dummyUndoableCommandTwo);
+        DummyUndoableCommand dummyUndoableCommandThree = new DummyUndoableCommand();
+        undoRedoStack.pushUndoableCommand(dummyUndoableCommandThree);
+        assertEquals(dummyUndoableCommandThree, undoRedoStack.popUndo());
+        assertEquals(dummyUndoableCommandTwo, undoRedoStack.popUndo());
+        assertFalse(undoRedoStack.canUndo());
+
+        // a command over the limit on its own is still kept
+        DummyUndoableCommand largeCommand = new DummyUndoableCommand(3);
+        undoRedoStack.pushUndoableCommand(largeCommand);
+        assertEquals(largeCommand, undoRedoStack.popUndo());
+        assertFalse(undoRedoStack.canUndo());
+    }
+
     @Test
     public void canUndo() {
         //empty undo stack
@@ -202,8 +220,19 @@ class UndoRedoStackTest {
     }
 
     private class DummyUndoableCommand extends UndoableCommand {
+        private final int historySize;
+
         private DummyUndoableCommand() {
+            this(1);
+        }
+
+        private DummyUndoableCommand(int historySize) {
             super("Dummy");
+            this.historySize = historySize;
+        }
+        @Override
+        public int getHistorySize() {
+            return historySize;
         }
         @Override
         public CommandResult executeUndoableCommand() {
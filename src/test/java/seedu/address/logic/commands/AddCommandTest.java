@@ -8,8 +8,11 @@ import static seedu.address.commons.core.Messages.MESSAGE_DUPLICATE_STUDENT;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -30,7 +33,10 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonDateIndex;
+import seedu.address.model.person.FeesLedger;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
@@ -195,6 +201,11 @@ public class AddCommandTest {
             throw new AssertionError(MESSAGE_UNEXPECTED_METHOD_CALL);
         }
 
+        @Override
+        public void replacePersons(Map<Person, Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Calendar getCalendar() {
             throw new AssertionError(MESSAGE_UNEXPECTED_METHOD_CALL);
@@ -210,6 +221,26 @@ public class AddCommandTest {
             throw new AssertionError(MESSAGE_UNEXPECTED_METHOD_CALL);
         }
 
+        @Override
+        public Optional<LocalDateTime> getNextUpcomingLessonsUpdate() {
+            throw new AssertionError(MESSAGE_UNEXPECTED_METHOD_CALL);
+        }
+
+        @Override
+        public PersonSearchIndex getPersonSearchIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public LessonDateIndex getLessonDateIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FeesLedger getFeesLedger() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError(MESSAGE_UNEXPECTED_METHOD_CALL);
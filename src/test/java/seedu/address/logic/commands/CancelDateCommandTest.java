@@ -0,0 +1,158 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.lesson.Date;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class CancelDateCommandTest {
+
+    private static final Date LESSON_DATE = new Date("27 Mar 2000");
+
+    // 20 Mar 2000 is a Monday
+    private static final Lesson RECURRING_LESSON = new LessonBuilder().withDate("20 Mar 2000")
+            .withTimeRange("1400-1500").buildRecurring();
+    private static final Lesson CANCELLED_RECURRING_LESSON = new LessonBuilder(RECURRING_LESSON)
+            .withCancelledDatesSet(LESSON_DATE).buildRecurring();
+    private static final Lesson MAKEUP_LESSON = new LessonBuilder().withDate("27 Mar 2000")
+            .withTimeRange("1600-1700").build();
+    private static final Lesson CANCELLED_MAKEUP_LESSON = new LessonBuilder(MAKEUP_LESSON)
+            .withCancelledDatesSet(LESSON_DATE).build();
+
+    private final Person recurringOwner = new PersonBuilder(ALICE).withLessons(RECURRING_LESSON).build();
+    private final Person makeUpOwner = new PersonBuilder(BENSON).withLessons(MAKEUP_LESSON).build();
+    private final Person cancelledRecurringOwner = new PersonBuilder(recurringOwner)
+            .withLessons(CANCELLED_RECURRING_LESSON).build();
+    private final Person cancelledMakeUpOwner = new PersonBuilder(makeUpOwner)
+            .withLessons(CANCELLED_MAKEUP_LESSON).build();
+
+    @Test
+    public void constructor_nullDate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CancelDateCommand(null, true));
+    }
+
+    @Test
+    public void execute_cancelDate_lessonsOfAllStudentsCancelled() {
+        Model model = prepareModel(recurringOwner, makeUpOwner, CARL);
+        Model expectedModel = prepareModel(cancelledRecurringOwner, cancelledMakeUpOwner, CARL);
+
+        String expectedMessage = String.format(CancelDateCommand.MESSAGE_CANCEL_SUCCESS, 2, 2, LESSON_DATE);
+        assertCommandSuccess(prepareCommand(model, true), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_uncancelDate_lessonsOfAllStudentsUncancelled() {
+        Model model = prepareModel(cancelledRecurringOwner, makeUpOwner);
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPerson(cancelledRecurringOwner, recurringOwner);
+
+        String expectedMessage = String.format(CancelDateCommand.MESSAGE_UNCANCEL_SUCCESS, 1, 1, LESSON_DATE);
+        assertCommandSuccess(prepareCommand(model, false), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noLessonsOnDate_failure() {
+        Model model = prepareModel(recurringOwner, makeUpOwner);
+        CancelDateCommand command = new CancelDateCommand(new Date("28 Mar 2000"), true);
+        command.setDependencies(model, new UndoRedoStack());
+
+        assertCommandFailure(command, model,
+                String.format(CancelDateCommand.MESSAGE_NO_LESSONS_ON_DATE, new Date("28 Mar 2000")));
+    }
+
+    @Test
+    public void execute_lessonsAlreadyCancelled_failure() {
+        Model model = prepareModel(cancelledRecurringOwner, cancelledMakeUpOwner);
+
+        assertCommandFailure(prepareCommand(model, true), model, BatchCommand.MESSAGE_NO_STUDENTS_CHANGED);
+    }
+
+    @Test
+    public void execute_uncancelledLessonsClash_failure() {
+        Lesson clashingLesson = new LessonBuilder(MAKEUP_LESSON).withTimeRange("1430-1530")
+                .withCancelledDatesSet(LESSON_DATE).build();
+        Model model = prepareModel(cancelledRecurringOwner,
+                new PersonBuilder(makeUpOwner).withLessons(clashingLesson).build());
+
+        assertCommandFailure(prepareCommand(model, false), model, CancelDateCommand.MESSAGE_CLASHING_LESSON);
+    }
+
+    @Test
+    public void undoRedo_cancelledDate_restoredTogether() throws Exception {
+        Model model = prepareModel(recurringOwner, makeUpOwner);
+        CancelDateCommand command = prepareCommand(model, true);
+        command.execute();
+
+        command.undo();
+        assertEquals(List.of(recurringOwner, makeUpOwner), model.getAddressBook().getPersonList());
+
+        command.redo();
+        assertEquals(List.of(cancelledRecurringOwner, cancelledMakeUpOwner), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void hashcode() {
+        CancelDateCommand cancelCommand = new CancelDateCommand(LESSON_DATE, true);
+
+        // same values -> returns same hashcode
+        assertEquals(cancelCommand.hashCode(), new CancelDateCommand(new Date("27 Mar 2000"), true).hashCode());
+
+        // different action -> returns different hashcode
+        assertNotEquals(cancelCommand.hashCode(), new CancelDateCommand(LESSON_DATE, false).hashCode());
+    }
+
+    @Test
+    public void equals() {
+        CancelDateCommand cancelCommand = new CancelDateCommand(LESSON_DATE, true);
+
+        // same values -> returns true
+        assertTrue(cancelCommand.equals(new CancelDateCommand(new Date("27 Mar 2000"), true)));
+
+        // same object -> returns true
+        assertTrue(cancelCommand.equals(cancelCommand));
+
+        // null -> returns false
+        assertFalse(cancelCommand.equals(null));
+
+        // different date -> returns false
+        assertFalse(cancelCommand.equals(new CancelDateCommand(new Date("28 Mar 2000"), true)));
+
+        // uncancel -> returns false
+        assertFalse(cancelCommand.equals(new CancelDateCommand(LESSON_DATE, false)));
+    }
+
+    private static Model prepareModel(Person... persons) {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            addressBook.addPerson(person);
+        }
+        return new ModelManager(addressBook, new UserPrefs());
+    }
+
+    private static CancelDateCommand prepareCommand(Model model, boolean isCancelling) {
+        CancelDateCommand command = new CancelDateCommand(LESSON_DATE, isCancelling);
+        command.setDependencies(model, new UndoRedoStack());
+        return command;
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class FeesCommandTest {
+
+    @Test
+    public void execute_noLessons_zeroTotal() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(new AddressBook(), new UserPrefs());
+
+        assertCommandSuccess(prepareCommand(model), model, String.format(FeesCommand.MESSAGE_TOTAL, "0.00"),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_personsWithFees_totalsShown() {
+        Person alice = new PersonBuilder(ALICE).withLessons(
+                new LessonBuilder().withSubject("Math").withDate("22 Mar 2000").withOutstandingFees("10").build())
+                .build();
+        Person benson = new PersonBuilder(BENSON).withLessons(
+                new LessonBuilder().withSubject("Math").withOutstandingFees("30").build(),
+                new LessonBuilder().withSubject("Art").withDate("21 Mar 2000").withOutstandingFees("5").build())
+                .build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(benson);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        Model expectedModel = new ModelManager(new AddressBook(addressBook), new UserPrefs());
+
+        String expectedMessage = String.format(FeesCommand.MESSAGE_TOTAL, "45.00")
+                + FeesCommand.MESSAGE_SUBJECTS_HEADER
+                + String.format(FeesCommand.MESSAGE_ENTRY, "Math", "40.00")
+                + String.format(FeesCommand.MESSAGE_ENTRY, "Art", "5.00")
+                + FeesCommand.MESSAGE_TOP_DEBTORS_HEADER
+                + String.format(FeesCommand.MESSAGE_ENTRY, benson.getName(), "35.00")
+                + String.format(FeesCommand.MESSAGE_ENTRY, alice.getName(), "10.00");
+        assertCommandSuccess(prepareCommand(model), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_feesTooLarge_failure() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder(ALICE).withLessons(
+                new LessonBuilder().withOutstandingFees("99999999999999999999").build()).build());
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        assertCommandFailure(prepareCommand(model), model, FeesCommand.MESSAGE_FEES_TOO_LARGE);
+    }
+
+    private static FeesCommand prepareCommand(Model model) {
+        FeesCommand command = new FeesCommand();
+        command.setDependencies(model, new UndoRedoStack());
+        return command;
+    }
+}
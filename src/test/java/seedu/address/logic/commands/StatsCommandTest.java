@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.metrics.MetricsCenter;
+import seedu.address.commons.core.metrics.Timer;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    // created before the timers are cleared, as creating a model times its calendar update
+    private final Model model = new ModelManager();
+    private final Model expectedModel = new ModelManager();
+
+    @BeforeEach
+    @AfterEach
+    public void clearTimers() {
+        MetricsCenter.clear();
+    }
+
+    @Test
+    public void execute_noTimers_headerOnly() {
+        assertCommandSuccess(prepareCommand(), model, StatsCommand.MESSAGE_HEADER, expectedModel);
+    }
+
+    @Test
+    public void execute_timers_groupedByCommandWord() {
+        MetricsCenter.start("save", "edit").stop();
+        MetricsCenter.start("parse", "add").stop();
+        MetricsCenter.start("execute", "add").stop();
+
+        StringBuilder expectedMessage = new StringBuilder(StatsCommand.MESSAGE_HEADER);
+        String commandWord = null;
+        for (String[] nameAndTag : new String[][] {{"execute", "add"}, {"parse", "add"}, {"save", "edit"}}) {
+            Timer timer = MetricsCenter.getTimers().stream()
+                    .filter(t -> t.getName().equals(nameAndTag[0]) && t.getTag().equals(nameAndTag[1]))
+                    .findFirst().orElseThrow();
+            if (!nameAndTag[1].equals(commandWord)) {
+                commandWord = nameAndTag[1];
+                expectedMessage.append(String.format(StatsCommand.MESSAGE_COMMAND_WORD, commandWord));
+            }
+            expectedMessage.append(String.format(StatsCommand.MESSAGE_ENTRY, timer.getName(), 1,
+                    MetricsCenter.toMillis(timer.getPercentileNanos(50)),
+                    MetricsCenter.toMillis(timer.getPercentileNanos(99)),
+                    MetricsCenter.toMillis(timer.getMaxNanos())));
+            if (timer.getMeanAllocatedBytes() != Timer.ALLOCATION_UNKNOWN) {
+                expectedMessage.append(String.format(StatsCommand.MESSAGE_ALLOCATED,
+                        timer.getMeanAllocatedBytes() / 1024));
+            }
+        }
+        assertCommandSuccess(prepareCommand(), model, expectedMessage.toString(), expectedModel);
+    }
+
+    private StatsCommand prepareCommand() {
+        StatsCommand command = new StatsCommand();
+        command.setDependencies(model, new UndoRedoStack());
+        return command;
+    }
+}
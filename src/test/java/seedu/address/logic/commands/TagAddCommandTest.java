@@ -0,0 +1,186 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_ZOOM;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.KEYWORD_MATCHING_MEIER;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesKeywordsPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.PersonUtil;
+import seedu.address.testutil.PersonMatchesKeywordsPredicateBuilder;
+
+public class TagAddCommandTest {
+
+    private static final Set<Tag> TAGS_TO_ADD = Set.of(new Tag("sec4"));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullTags_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TagAddCommand(List.of(INDEX_FIRST_PERSON), null));
+        assertThrows(NullPointerException.class, () -> new TagAddCommand(null));
+    }
+
+    @Test
+    public void execute_indicesUnfilteredList_success() {
+        TagAddCommand tagAddCommand = prepareTagAddCommand(List.of(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON));
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.replacePersons(editedPersons(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON));
+
+        String expectedMessage = String.format(TagAddCommand.MESSAGE_TAG_ADD_SUCCESS, TAGS_TO_ADD, 2);
+        assertCommandSuccess(tagAddCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allDisplayedFilteredList_onlyDisplayedPersonsTagged() {
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+        Person displayedPerson = model.getFilteredPersonList().get(0);
+        TagAddCommand tagAddCommand = new TagAddCommand(TAGS_TO_ADD);
+        tagAddCommand.setDependencies(model, new UndoRedoStack());
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_SECOND_PERSON);
+        expectedModel.replacePersons(Map.of(displayedPerson, withAddedTags(displayedPerson)));
+
+        String expectedMessage = String.format(TagAddCommand.MESSAGE_TAG_ADD_SUCCESS, TAGS_TO_ADD, 1);
+        assertCommandSuccess(tagAddCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allDisplayedFoundList_taggedPersonsStillShown() throws Exception {
+        PersonMatchesKeywordsPredicate predicate = new PersonMatchesKeywordsPredicateBuilder()
+                .withName(KEYWORD_MATCHING_MEIER).build();
+        predicate.setSearchIndex(model.getPersonSearchIndex());
+        model.updateFilteredPersonList(predicate);
+        List<Person> taggedPersons = List.of(withAddedTags(BENSON), withAddedTags(DANIEL));
+        TagAddCommand tagAddCommand = new TagAddCommand(TAGS_TO_ADD);
+        tagAddCommand.setDependencies(model, new UndoRedoStack());
+
+        tagAddCommand.execute();
+        assertEquals(taggedPersons, model.getFilteredPersonList());
+
+        tagAddCommand.undo();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+
+        tagAddCommand.redo();
+        assertEquals(taggedPersons, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_invalidIndex_failure() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        TagAddCommand tagAddCommand = prepareTagAddCommand(List.of(INDEX_FIRST_PERSON, outOfBoundIndex));
+
+        assertCommandFailure(tagAddCommand, model, Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_personsAlreadyTagged_failure() {
+        TagAddCommand tagAddCommand = prepareTagAddCommand(List.of(INDEX_FIRST_PERSON));
+        model.replacePersons(editedPersons(INDEX_FIRST_PERSON));
+
+        assertCommandFailure(tagAddCommand, model, BatchCommand.MESSAGE_NO_STUDENTS_CHANGED);
+    }
+
+    @Test
+    public void undoRedo_taggedPersons_restoredTogether() throws Exception {
+        AddressBook originalAddressBook = new AddressBook(model.getAddressBook());
+        TagAddCommand tagAddCommand = prepareTagAddCommand(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON));
+        tagAddCommand.execute();
+        AddressBook taggedAddressBook = new AddressBook(model.getAddressBook());
+        assertEquals(2, tagAddCommand.getHistorySize());
+
+        assertNull(tagAddCommand.undo());
+        assertEquals(originalAddressBook, model.getAddressBook());
+
+        assertNull(tagAddCommand.redo());
+        assertEquals(taggedAddressBook, model.getAddressBook());
+    }
+
+    @Test
+    public void equals() {
+        TagAddCommand tagAddCommand = new TagAddCommand(List.of(INDEX_FIRST_PERSON), TAGS_TO_ADD);
+
+        // same values -> returns true
+        assertTrue(tagAddCommand.equals(new TagAddCommand(List.of(INDEX_FIRST_PERSON), TAGS_TO_ADD)));
+
+        // same object -> returns true
+        assertTrue(tagAddCommand.equals(tagAddCommand));
+
+        // null -> returns false
+        assertFalse(tagAddCommand.equals(null));
+
+        // different indices -> returns false
+        assertFalse(tagAddCommand.equals(new TagAddCommand(List.of(INDEX_SECOND_PERSON), TAGS_TO_ADD)));
+
+        // all displayed students -> returns false
+        assertFalse(tagAddCommand.equals(new TagAddCommand(TAGS_TO_ADD)));
+
+        // different tags -> returns false
+        assertFalse(tagAddCommand.equals(new TagAddCommand(List.of(INDEX_FIRST_PERSON),
+                Set.of(new Tag(VALID_TAG_ZOOM)))));
+    }
+
+    @Test
+    public void hashcode() {
+        TagAddCommand tagAddCommand = new TagAddCommand(List.of(INDEX_FIRST_PERSON), TAGS_TO_ADD);
+
+        // same values -> returns same hashcode
+        assertEquals(tagAddCommand.hashCode(),
+                new TagAddCommand(List.of(Index.fromOneBased(1)), Set.of(new Tag("sec4"))).hashCode());
+
+        // all displayed students -> returns same hashcode
+        assertEquals(new TagAddCommand(TAGS_TO_ADD).hashCode(), new TagAddCommand(TAGS_TO_ADD).hashCode());
+    }
+
+    private TagAddCommand prepareTagAddCommand(List<Index> indices) {
+        TagAddCommand tagAddCommand = new TagAddCommand(indices, TAGS_TO_ADD);
+        tagAddCommand.setDependencies(model, new UndoRedoStack());
+        return tagAddCommand;
+    }
+
+    private Map<Person, Person> editedPersons(Index... indices) {
+        Map<Person, Person> editedPersons = new LinkedHashMap<>();
+        for (Index index : indices) {
+            Person person = model.getFilteredPersonList().get(index.getZeroBased());
+            editedPersons.put(person, withAddedTags(person));
+        }
+        return editedPersons;
+    }
+
+    private static Person withAddedTags(Person person) {
+        Set<Tag> tags = new HashSet<>(person.getTags());
+        tags.addAll(TAGS_TO_ADD);
+        return PersonUtil.createdEditedPerson(person, tags, person.getLessons());
+    }
+}
@@ -4,35 +4,47 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_LESSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.BackCommand;
 import seedu.address.logic.commands.CalendarCommand;
+import seedu.address.logic.commands.CancelDateCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DayCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FeesCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.LessonAddCommand;
 import seedu.address.logic.commands.LessonDeleteCommand;
+import seedu.address.logic.commands.LessonEditCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MonthCommand;
 import seedu.address.logic.commands.NextCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TagAddCommand;
 import seedu.address.logic.commands.TodayCommand;
 import seedu.address.logic.commands.WeekCommand;
 import seedu.address.logic.commands.YearCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.lesson.Date;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonMatchesKeywordsPredicate;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.LessonBuilder;
 import seedu.address.testutil.LessonUtil;
@@ -109,6 +121,34 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(predicate), command);
     }
 
+    @Test
+    public void parseCommand_tagAdd() throws Exception {
+        TagAddCommand command = (TagAddCommand) parser.parseCommand(
+                TagAddCommand.COMMAND_WORD + " 1-2 " + PREFIX_TAG + "friend");
+        assertEquals(new TagAddCommand(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON),
+                Set.of(new Tag("friend"))), command);
+    }
+
+    @Test
+    public void parseCommand_cancelDate() throws Exception {
+        assertEquals(new CancelDateCommand(new Date("25 Dec 2021"), true),
+                parser.parseCommand(CancelDateCommand.COMMAND_WORD + " date/25 Dec 2021"));
+        assertEquals(new CancelDateCommand(new Date("25 Dec 2021"), false),
+                parser.parseCommand(CancelDateCommand.COMMAND_WORD_UNCANCEL + " date/25 Dec 2021"));
+    }
+
+    @Test
+    public void parseCommand_fees() throws Exception {
+        assertTrue(parser.parseCommand(FeesCommand.COMMAND_WORD) instanceof FeesCommand);
+        assertThrows(ParseException.class, () -> parser.parseCommand(FeesCommand.COMMAND_WORD + " 1"));
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertThrows(ParseException.class, () -> parser.parseCommand(StatsCommand.COMMAND_WORD + " 1"));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -174,4 +214,26 @@ public class AddressBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_unknownCommandWithArgs_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand 1"));
+    }
+
+    @Test
+    public void getCommandWordCompletions_partialCommandWord_matchingCommandWords() {
+        assertEquals(List.of(LessonAddCommand.COMMAND_WORD, LessonDeleteCommand.COMMAND_WORD,
+                LessonEditCommand.COMMAND_WORD, ListCommand.COMMAND_WORD), parser.getCommandWordCompletions("l"));
+        assertEquals(List.of(LessonAddCommand.COMMAND_WORD), parser.getCommandWordCompletions("LA"));
+        assertEquals(List.of(ListCommand.COMMAND_WORD), parser.getCommandWordCompletions(ListCommand.COMMAND_WORD));
+        assertEquals(List.of(), parser.getCommandWordCompletions("unknown"));
+    }
+
+    @Test
+    public void getCommandWordCompletions_emptyString_allCommandWords() {
+        List<String> completions = parser.getCommandWordCompletions("");
+        assertTrue(completions.contains(AddCommand.COMMAND_WORD));
+        assertTrue(completions.contains(CancelDateCommand.COMMAND_WORD_UNCANCEL));
+        assertTrue(completions.contains(StatsCommand.COMMAND_WORD));
+    }
 }
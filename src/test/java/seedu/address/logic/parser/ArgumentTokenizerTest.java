@@ -136,6 +136,30 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_overlappingPrefixes_longestPrefixTaken() {
+        Prefix pp = new Prefix("pp/");
+        String argsString = " pp/ parent p/ student pp/";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pp);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, pSlash, "student");
+        assertArgumentPresent(argMultimap, pp, "parent", "");
+    }
+
+    @Test
+    public void tokenizeArgs_sameTokenizerReused_noStaleValues() {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(pSlash, dashT);
+        ArgumentMultimap argMultimap = tokenizer.tokenizeArgs("preamble p/first -t tag");
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, "first");
+        assertArgumentPresent(argMultimap, dashT, "tag");
+
+        argMultimap = tokenizer.tokenizeArgs(" p/second");
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, pSlash, "second");
+        assertArgumentAbsent(argMultimap, dashT);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
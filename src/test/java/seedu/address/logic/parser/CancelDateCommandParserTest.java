@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CancelDateCommand;
+import seedu.address.model.lesson.Date;
+
+public class CancelDateCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, CancelDateCommand.MESSAGE_USAGE);
+
+    private final CancelDateCommandParser parser = new CancelDateCommandParser(true);
+
+    @Test
+    public void parse_missingParts_failure() {
+        // no date
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " date/", MESSAGE_INVALID_FORMAT);
+
+        // preamble
+        assertParseFailure(parser, " 1 date/25 Dec 2021", MESSAGE_INVALID_FORMAT);
+
+        // more than one date
+        assertParseFailure(parser, " date/25 Dec 2021 date/26 Dec 2021", MESSAGE_INVALID_FORMAT);
+
+        // usage of uncancel
+        assertParseFailure(new CancelDateCommandParser(false), "",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, CancelDateCommand.MESSAGE_USAGE_UNCANCEL));
+    }
+
+    @Test
+    public void parse_invalidDate_failure() {
+        assertParseFailure(parser, " date/32 Dec 2021", Date.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validDate_success() {
+        assertParseSuccess(parser, " date/25 Dec 2021", new CancelDateCommand(new Date("25 Dec 2021"), true));
+        assertParseSuccess(new CancelDateCommandParser(false), " date/05 Dec 2021",
+                new CancelDateCommand(new Date("5 Dec 2021"), false));
+    }
+}
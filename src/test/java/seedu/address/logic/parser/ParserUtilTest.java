@@ -5,7 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_LESSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INDEX_RANGE_TOO_LARGE;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
@@ -16,6 +18,7 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.FindCommand.FindCondition;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.lesson.Date;
@@ -98,6 +101,32 @@ public class ParserUtilTest {
                 MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX, () -> ParserUtil.parseStudentIndex("a"));
     }
 
+    @Test
+    public void parseStudentIndexRanges_validInput_success() throws Exception {
+        // single indices and ranges, with indices in more than one range only returned once
+        assertEquals(Arrays.asList(Index.fromOneBased(5), Index.fromOneBased(1), Index.fromOneBased(2),
+                Index.fromOneBased(3)), ParserUtil.parseStudentIndexRanges("5", "1-3", "2-2"));
+    }
+
+    @Test
+    public void parseStudentIndexRanges_invalidInput_throwsParseException() {
+        // invalid index
+        assertThrows(ParseException.class, MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX, () ->
+                ParserUtil.parseStudentIndexRanges("0-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX, () ->
+                ParserUtil.parseStudentIndexRanges("1-"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX, () ->
+                ParserUtil.parseStudentIndexRanges("1-2-3"));
+
+        // end before start
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_RANGE, () ->
+                ParserUtil.parseStudentIndexRanges("3-1"));
+
+        // too many indices
+        assertThrows(ParseException.class, MESSAGE_INDEX_RANGE_TOO_LARGE, () ->
+                ParserUtil.parseStudentIndexRanges("1-" + Integer.MAX_VALUE));
+    }
+
     @Test
     public void parseLessonIndex_invalidInput_throwsParseException() {
         assertThrows(ParseException.class,
@@ -0,0 +1,72 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie<Integer> trie = new PrefixTrie<>();
+
+    @BeforeEach
+    public void setUp() {
+        trie.put("p/", 1);
+        trie.put("pp/", 2);
+        trie.put("pe/", 3);
+        trie.put("t/", 4);
+    }
+
+    @Test
+    public void put_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trie.put(null, 1));
+        assertThrows(NullPointerException.class, () -> trie.put("a/", null));
+    }
+
+    @Test
+    public void put_existingKey_valueReplaced() {
+        trie.put("p/", 5);
+        assertEquals(Optional.of(5), trie.get("p/"));
+    }
+
+    @Test
+    public void get_keys_values() {
+        assertEquals(Optional.of(1), trie.get("p/"));
+        assertEquals(Optional.of(2), trie.get("pp/"));
+
+        // part of a key
+        assertEquals(Optional.empty(), trie.get("p"));
+        assertEquals(Optional.empty(), trie.get(""));
+        // not a key
+        assertEquals(Optional.empty(), trie.get("q/"));
+        assertEquals(Optional.empty(), trie.get("p/p"));
+    }
+
+    @Test
+    public void getLongestKeyValueAt_keyAtStart_value() {
+        assertEquals(1, trie.getLongestKeyValueAt("p/91234567", 0));
+        assertEquals(2, trie.getLongestKeyValueAt("n/Bob pp/91234567", 6));
+        assertEquals(3, trie.getLongestKeyValueAt("n/Bob pe/", 6));
+    }
+
+    @Test
+    public void getLongestKeyValueAt_noKeyAtStart_null() {
+        assertNull(trie.getLongestKeyValueAt("n/Bob pp/91234567", 0));
+        assertNull(trie.getLongestKeyValueAt("pp", 0));
+        assertNull(trie.getLongestKeyValueAt("t/", 2));
+    }
+
+    @Test
+    public void getKeysStartingWith_prefix_keysInAlphabeticalOrder() {
+        assertEquals(List.of("p/", "pe/", "pp/"), trie.getKeysStartingWith("p"));
+        assertEquals(List.of("pp/"), trie.getKeysStartingWith("pp"));
+        assertEquals(List.of("t/"), trie.getKeysStartingWith("t/"));
+        assertEquals(List.of("p/", "pe/", "pp/", "t/"), trie.getKeysStartingWith(""));
+        assertEquals(List.of(), trie.getKeysStartingWith("q"));
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_TAG_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_FORGETFUL;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_ZOOM;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FORGETFUL;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_ZOOM;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.TagAddCommand;
+import seedu.address.model.tag.Tag;
+
+public class TagAddCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, TagAddCommand.MESSAGE_USAGE);
+
+    private final TagAddCommandParser parser = new TagAddCommandParser();
+
+    @Test
+    public void parse_missingParts_failure() {
+        // no index specified
+        assertParseFailure(parser, TAG_DESC_ZOOM, MESSAGE_INVALID_FORMAT);
+
+        // no tag specified
+        assertParseFailure(parser, "1-3", MESSAGE_INVALID_FORMAT);
+
+        // empty tag
+        assertParseFailure(parser, "1 t/", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, "1" + INVALID_TAG_DESC, Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "0-2" + TAG_DESC_ZOOM, MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+        assertParseFailure(parser, "all 1" + TAG_DESC_ZOOM, MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void parse_indexRanges_success() {
+        TagAddCommand expectedCommand = new TagAddCommand(
+                List.of(Index.fromOneBased(1), Index.fromOneBased(2), Index.fromOneBased(3), Index.fromOneBased(5)),
+                Set.of(new Tag(VALID_TAG_ZOOM), new Tag(VALID_TAG_FORGETFUL)));
+        assertParseSuccess(parser, "1-3 5" + TAG_DESC_ZOOM + TAG_DESC_FORGETFUL, expectedCommand);
+    }
+
+    @Test
+    public void parse_allDisplayedStudents_success() {
+        TagAddCommand expectedCommand = new TagAddCommand(Set.of(new Tag(VALID_TAG_ZOOM)));
+        assertParseSuccess(parser, " all" + TAG_DESC_ZOOM, expectedCommand);
+        assertParseSuccess(parser, " ALL" + TAG_DESC_ZOOM, expectedCommand);
+    }
+}
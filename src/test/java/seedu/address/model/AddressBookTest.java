@@ -7,28 +7,40 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_ZOOM;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.LastUpdatedDateUtil.VALID_LAST_UPDATED_DATE_TIME;
+import static seedu.address.testutil.TypicalLessons.FUTURE_MAKEUP_LESSON;
 import static seedu.address.testutil.TypicalLessons.MAKEUP_LESSON;
 import static seedu.address.testutil.TypicalLessons.RECURRING_LESSON;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.KEYWORD_MATCHING_MEIER;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalTags.TAG_ZOOM;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
+import javafx.collections.transformation.FilteredList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
+import seedu.address.model.person.PersonMatchesKeywordsPredicate;
 import seedu.address.model.person.exceptions.ClashingLessonException;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonMatchesKeywordsPredicateBuilder;
 
 public class AddressBookTest {
 
@@ -51,6 +63,26 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_keepingSomePersons_sameAsRebuilt() {
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.addPerson(new PersonBuilder(BOB).withLessons(RECURRING_LESSON).build());
+        Person editedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_ZOOM).withLessons(FUTURE_MAKEUP_LESSON)
+                .build();
+        List<Person> newPersons = new ArrayList<>(getTypicalAddressBook().getPersonList());
+        newPersons.remove(ALICE);
+        newPersons.set(newPersons.indexOf(CARL), editedCarl);
+        AddressBookStub newData = new AddressBookStub(newPersons);
+
+        addressBook.resetData(newData);
+        AddressBook rebuilt = new AddressBook(newData);
+        assertEquals(rebuilt, addressBook);
+        assertEquals(rebuilt.getTagList(), addressBook.getTagList());
+        assertEquals(rebuilt.getTagCounter(), addressBook.getTagCounter());
+        assertFalse(addressBook.hasClashingLesson(RECURRING_LESSON));
+        assertTrue(addressBook.hasClashingLesson(FUTURE_MAKEUP_LESSON));
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields
@@ -73,6 +105,65 @@ public class AddressBookTest {
         assertThrows(ClashingLessonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void applyPersonChange_putNewPerson_addedAtIndex() {
+        addressBook.addPerson(ALICE);
+        addressBook.applyPersonChange(PersonChange.put(BOB, 0));
+        assertEquals(List.of(BOB, ALICE), addressBook.getPersonList());
+
+        // index out of range -> added at the end
+        AddressBook expectedAddressBook = new AddressBook(addressBook);
+        addressBook.applyPersonChange(PersonChange.put(CARL, 5));
+        expectedAddressBook.addPerson(CARL);
+        assertEquals(expectedAddressBook.getPersonList(), addressBook.getPersonList());
+    }
+
+    @Test
+    public void applyPersonChange_putExistingPerson_replacedInPlace() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.applyPersonChange(PersonChange.put(editedAlice, 1));
+        assertEquals(List.of(editedAlice, BOB), addressBook.getPersonList());
+    }
+
+    @Test
+    public void applyPersonChange_removeMissingPerson_noChange() {
+        addressBook.addPerson(ALICE);
+        addressBook.applyPersonChange(PersonChange.remove(BOB.getName()));
+        assertEquals(List.of(ALICE), addressBook.getPersonList());
+
+        addressBook.applyPersonChange(PersonChange.remove(ALICE.getName()));
+        assertTrue(addressBook.getPersonList().isEmpty());
+    }
+
+    @Test
+    public void personList_matchingPersonsChanged_filteredListUpdated() {
+        addressBook.resetData(getTypicalAddressBook());
+        PersonMatchesKeywordsPredicate predicate = new PersonMatchesKeywordsPredicateBuilder()
+                .withName(KEYWORD_MATCHING_MEIER).build();
+        predicate.setSearchIndex(addressBook.getPersonSearchIndex());
+        FilteredList<Person> filteredPersons = new FilteredList<>(addressBook.getPersonList(), predicate);
+        assertEquals(List.of(BENSON, DANIEL), filteredPersons);
+
+        Person editedBenson = new PersonBuilder(BENSON).withRemark("Edited remark").build();
+        addressBook.setPerson(BENSON, editedBenson);
+        assertEquals(List.of(editedBenson, DANIEL), filteredPersons);
+
+        addressBook.addPerson(HOON);
+        assertEquals(List.of(editedBenson, DANIEL, HOON), filteredPersons);
+
+        Person editedDaniel = new PersonBuilder(DANIEL).withTags(VALID_TAG_ZOOM).build();
+        addressBook.replacePersons(Map.of(DANIEL, editedDaniel));
+        assertEquals(List.of(editedBenson, editedDaniel, HOON), filteredPersons);
+
+        addressBook.removePerson(HOON);
+        assertEquals(List.of(editedBenson, editedDaniel), filteredPersons);
+
+        addressBook.applyPersonChange(PersonChange.put(BENSON, 1));
+        assertEquals(List.of(BENSON, editedDaniel), filteredPersons);
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -116,6 +207,19 @@ public class AddressBookTest {
         assertTrue(addressBook.hasClashingLesson(MAKEUP_LESSON));
     }
 
+    @Test
+    public void replacePersons_editedLessons_replacesPersonsAndLessons() {
+        Person alice = new PersonBuilder(ALICE).withLessons(RECURRING_LESSON).build();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(BOB);
+        Person editedAlice = new PersonBuilder(alice).withLessons(FUTURE_MAKEUP_LESSON).build();
+        addressBook.replacePersons(Map.of(alice, editedAlice));
+
+        assertEquals(List.of(editedAlice, BOB), addressBook.getPersonList());
+        assertFalse(addressBook.hasClashingLesson(MAKEUP_LESSON));
+        assertTrue(addressBook.hasClashingLesson(FUTURE_MAKEUP_LESSON));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -7,6 +7,9 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.KEYWORD_MATCHING_MEIER;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalTags.TAG_ZOOM;
 
 import java.nio.file.Path;
@@ -16,8 +19,11 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonMatchesKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonMatchesKeywordsPredicateBuilder;
 
 public class ModelManagerTest {
 
@@ -109,6 +115,25 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getTagCounter().put(TAG_ZOOM, 1));
     }
 
+    @Test
+    public void updateFilteredPersonList_matchingPersonEditedOrDeleted_filteredListUpdated() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        PersonMatchesKeywordsPredicate predicate = new PersonMatchesKeywordsPredicateBuilder()
+                .withName(KEYWORD_MATCHING_MEIER).build();
+        predicate.setSearchIndex(modelManager.getPersonSearchIndex());
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        // edited matching person -> still shown
+        Person editedBenson = new PersonBuilder(BENSON).withRemark("Edited remark").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(editedBenson, DANIEL), modelManager.getFilteredPersonList());
+
+        // removed matching person -> no longer shown
+        modelManager.deletePerson(DANIEL);
+        assertEquals(Arrays.asList(editedBenson), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
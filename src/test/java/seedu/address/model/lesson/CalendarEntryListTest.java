@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.ClashingLessonException;
 import seedu.address.model.person.exceptions.LessonNotFoundException;
+import seedu.address.testutil.LessonBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class CalendarEntryListTest {
@@ -125,6 +126,19 @@ public class CalendarEntryListTest {
         assertEquals(expectedCalendarEntryList, calendarEntryList);
     }
 
+    @Test
+    public void removeLessons_multiplePersons_removesOnlyLessonsOfPerson() {
+        Person bobWithNonClashingLesson = new PersonBuilder(BOB)
+                .withLessons(new LessonBuilder(MAKEUP_LESSON).withTimeRange("1900-2000").build()).build();
+        calendarEntryList.addLessons(aliceWithLesson);
+        calendarEntryList.addLessons(bobWithNonClashingLesson);
+        calendarEntryList.removeLessons(aliceWithLesson);
+        CalendarEntryList expectedCalendarEntryList = new CalendarEntryList();
+        expectedCalendarEntryList.addLessons(bobWithNonClashingLesson);
+        assertEquals(expectedCalendarEntryList, calendarEntryList);
+        assertThrows(LessonNotFoundException.class, () -> calendarEntryList.removeLessons(aliceWithLesson));
+    }
+
     @Test
     public void resetLessons_nullPersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> calendarEntryList.resetLessons(null));
@@ -0,0 +1,121 @@
+package seedu.address.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.calendarfx.model.Entry;
+
+import seedu.address.testutil.LessonBuilder;
+
+public class LessonClashIndexTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2000, 3, 20);
+
+    private final LessonClashIndex clashIndex = new LessonClashIndex();
+
+    @Test
+    public void hasClashes_nullLesson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> clashIndex.hasClashes(null, null));
+    }
+
+    @Test
+    public void hasClashes_emptyIndex_returnsFalse() {
+        assertFalse(clashIndex.hasClashes(new LessonBuilder().buildRecurring(), null));
+    }
+
+    @Test
+    public void hasClashes_overlappingTimeRangeOnSameDay_returnsTrue() {
+        clashIndex.add(toEntry(new LessonBuilder().withTimeRange("1400-1500").buildRecurring()));
+        assertTrue(clashIndex.hasClashes(new LessonBuilder().withTimeRange("1430-1530").build(), null));
+    }
+
+    @Test
+    public void hasClashes_adjacentTimeRange_returnsFalse() {
+        clashIndex.add(toEntry(new LessonBuilder().withTimeRange("1400-1500").buildRecurring()));
+        assertFalse(clashIndex.hasClashes(new LessonBuilder().withTimeRange("1500-1600").buildRecurring(), null));
+    }
+
+    @Test
+    public void hasClashes_cancelledDate_returnsFalse() {
+        clashIndex.add(toEntry(new LessonBuilder().withCancelledDatesSet("27 Mar 2000").buildRecurring()));
+        assertFalse(clashIndex.hasClashes(new LessonBuilder().withDate("27 Mar 2000").build(), null));
+    }
+
+    @Test
+    public void hasClashes_ignoredLesson_returnsFalse() {
+        Lesson lesson = new LessonBuilder().buildRecurring();
+        clashIndex.add(toEntry(lesson));
+        assertFalse(clashIndex.hasClashes(lesson, lesson));
+    }
+
+    @Test
+    public void remove_existingEntry_noLongerClashes() {
+        Lesson lesson = new LessonBuilder().buildRecurring();
+        Entry<Lesson> entry = toEntry(lesson);
+        clashIndex.add(entry);
+        clashIndex.remove(entry);
+        assertFalse(clashIndex.hasClashes(lesson, null));
+    }
+
+    @Test
+    public void getClashingEntries_randomLessons_sameAsLinearScan() {
+        Random random = new Random(2103);
+        List<Entry<Lesson>> entries = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Entry<Lesson> entry = toEntry(randomLesson(random));
+            entries.add(entry);
+            clashIndex.add(entry);
+        }
+        // remove some entries to exercise rebalancing
+        for (int i = 0; i < 100; i++) {
+            clashIndex.remove(entries.remove(random.nextInt(entries.size())));
+        }
+
+        for (int i = 0; i < 300; i++) {
+            Lesson toCheck = randomLesson(random);
+            List<Entry<Lesson>> expected = entries.stream()
+                    .filter(entry -> entry.getUserObject().isClashing(toCheck))
+                    .collect(Collectors.toList());
+            List<Entry<Lesson>> actual = clashIndex.getClashingEntries(toCheck, null);
+            assertEquals(expected.size(), actual.size());
+            assertTrue(actual.containsAll(expected));
+            assertEquals(!expected.isEmpty(), clashIndex.hasClashes(toCheck, null));
+        }
+    }
+
+    private static Lesson randomLesson(Random random) {
+        LocalDate startDate = BASE_DATE.plusDays(random.nextInt(28));
+        int startHour = 8 + random.nextInt(12);
+        String timeRange = String.format("%02d%02d-%02d%02d", startHour, random.nextInt(4) * 15,
+                startHour + 1 + random.nextInt(2), random.nextInt(4) * 15);
+        LessonBuilder builder = new LessonBuilder()
+                .withDate(startDate.format(Date.FORMATTER))
+                .withTimeRange(timeRange);
+        if (random.nextBoolean()) {
+            return builder.build();
+        }
+        if (random.nextBoolean()) {
+            builder.withEndDate(startDate.plusWeeks(1 + random.nextInt(6)).format(Date.FORMATTER));
+        }
+        if (random.nextBoolean()) {
+            builder.withCancelledDatesSet(startDate.plusWeeks(random.nextInt(2)).format(Date.FORMATTER));
+        }
+        return builder.buildRecurring();
+    }
+
+    private static Entry<Lesson> toEntry(Lesson lesson) {
+        Entry<Lesson> entry = new Entry<>();
+        entry.setUserObject(lesson);
+        return entry;
+    }
+}
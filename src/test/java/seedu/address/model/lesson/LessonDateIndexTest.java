@@ -0,0 +1,78 @@
+package seedu.address.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class LessonDateIndexTest {
+
+    // 20 Mar 2000 is a Monday
+    private static final Lesson RECURRING_LESSON = new LessonBuilder().withDate("20 Mar 2000")
+            .withEndDate("10 Apr 2000").buildRecurring();
+    private static final Lesson MAKEUP_LESSON = new LessonBuilder().withDate("28 Mar 2000")
+            .withCancelledDatesSet("28 Mar 2000").build();
+
+    private final LessonDateIndex lessonDateIndex = new LessonDateIndex();
+    private final Person recurringOwner = new PersonBuilder(ALICE).withLessons(RECURRING_LESSON).build();
+    private final Person makeUpOwner = new PersonBuilder(BENSON).withLessons(MAKEUP_LESSON).build();
+
+    @Test
+    public void getLessonOwners_nullDate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> lessonDateIndex.getLessonOwners(null));
+    }
+
+    @Test
+    public void getLessonOwners_recurringLesson_ownerOnlyOnLessonDates() {
+        lessonDateIndex.add(recurringOwner);
+        assertEquals(Set.of(recurringOwner), lessonDateIndex.getLessonOwners(new Date("27 Mar 2000")));
+        assertEquals(Set.of(recurringOwner), lessonDateIndex.getLessonOwners(new Date("10 Apr 2000")));
+
+        // different day of week
+        assertTrue(lessonDateIndex.getLessonOwners(new Date("28 Mar 2000")).isEmpty());
+        // before start date
+        assertTrue(lessonDateIndex.getLessonOwners(new Date("13 Mar 2000")).isEmpty());
+        // after end date
+        assertTrue(lessonDateIndex.getLessonOwners(new Date("17 Apr 2000")).isEmpty());
+    }
+
+    @Test
+    public void getLessonOwners_cancelledMakeUpLesson_ownerFound() {
+        lessonDateIndex.add(makeUpOwner);
+        lessonDateIndex.add(recurringOwner);
+        assertEquals(Set.of(makeUpOwner), lessonDateIndex.getLessonOwners(new Date("28 Mar 2000")));
+        assertTrue(lessonDateIndex.getLessonOwners(new Date("4 Apr 2000")).isEmpty());
+    }
+
+    @Test
+    public void remove_addedPerson_ownerNotFound() {
+        lessonDateIndex.add(recurringOwner);
+        lessonDateIndex.add(makeUpOwner);
+        lessonDateIndex.remove(recurringOwner);
+        assertTrue(lessonDateIndex.getLessonOwners(new Date("27 Mar 2000")).isEmpty());
+        assertFalse(lessonDateIndex.getLessonOwners(new Date("28 Mar 2000")).isEmpty());
+
+        lessonDateIndex.clear();
+        assertTrue(lessonDateIndex.getLessonOwners(new Date("28 Mar 2000")).isEmpty());
+    }
+
+    @Test
+    public void isOnDate() {
+        assertTrue(LessonDateIndex.isOnDate(RECURRING_LESSON, new Date("3 Apr 2000")));
+        assertFalse(LessonDateIndex.isOnDate(RECURRING_LESSON, new Date("4 Apr 2000")));
+
+        // cancelled lessons are still on their date
+        assertTrue(LessonDateIndex.isOnDate(MAKEUP_LESSON, new Date("28 Mar 2000")));
+        assertFalse(LessonDateIndex.isOnDate(MAKEUP_LESSON, new Date("27 Mar 2000")));
+    }
+}
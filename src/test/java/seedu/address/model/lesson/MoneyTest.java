@@ -1,5 +1,6 @@
 package seedu.address.model.lesson;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -49,4 +50,22 @@ class MoneyTest {
         assertTrue(Money.isValidMonetaryField("00123.45")); // leading zeroes
         assertTrue(Money.isValidMonetaryField("124293842033123.99")); // large fee
     }
+
+    @Test
+    public void getValueInCents() {
+        assertEquals(0, new Money("0").getValueInCents());
+        assertEquals(50, new Money("0.5").getValueInCents());
+        assertEquals(12345, new Money("00123.45").getValueInCents());
+
+        // too large to be represented in cents
+        assertThrows(ArithmeticException.class, () -> new Money("124293842033123999999.99").getValueInCents());
+    }
+
+    @Test
+    public void formatCents() {
+        assertEquals("0.00", Money.formatCents(0));
+        assertEquals("0.05", Money.formatCents(5));
+        assertEquals("12.50", Money.formatCents(1250));
+        assertEquals(new Money("99999.99").value, Money.formatCents(9999999));
+    }
 }
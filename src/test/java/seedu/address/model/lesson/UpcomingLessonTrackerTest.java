@@ -0,0 +1,103 @@
+package seedu.address.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.calendarfx.model.Entry;
+
+import seedu.address.testutil.LessonBuilder;
+
+public class UpcomingLessonTrackerTest {
+
+    private static final LocalDate TOMORROW = LocalDate.now().plusDays(1);
+    private static final LocalDateTime NOW = LocalDate.now().atTime(LocalTime.of(10, 0));
+
+    private final UpcomingLessonTracker tracker = new UpcomingLessonTracker();
+
+    @Test
+    public void add_nullEntry_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tracker.add(null, NOW));
+    }
+
+    @Test
+    public void add_lessonWithinTwoDays_addedToUpcomingLessons() {
+        Entry<Lesson> entry = toEntry(makeupLesson(TOMORROW, "1400-1500"));
+        tracker.add(entry, NOW);
+        assertEquals(List.of(entry), tracker.asUnmodifiableObservableList());
+        assertEquals(Optional.of(TOMORROW.atTime(15, 1)), tracker.getNextUpdateTime());
+    }
+
+    @Test
+    public void add_lessonAfterTwoDays_scheduledToEnterUpcomingLessons() {
+        LocalDate date = LocalDate.now().plusDays(5);
+        tracker.add(toEntry(makeupLesson(date, "1400-1500")), NOW);
+        assertTrue(tracker.asUnmodifiableObservableList().isEmpty());
+
+        LocalDateTime nextUpdate = tracker.getNextUpdateTime().get();
+        assertTrue(nextUpdate.isAfter(date.minusDays(2).atTime(13, 59)));
+        tracker.update(nextUpdate);
+        assertEquals(1, tracker.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void add_sameLessonTwice_trackedOnce() {
+        Lesson lesson = makeupLesson(TOMORROW, "1400-1500");
+        tracker.add(toEntry(lesson), NOW);
+        tracker.add(toEntry(lesson), NOW);
+        assertEquals(1, tracker.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void add_multipleLessons_sortedByEndDateTime() {
+        Entry<Lesson> later = toEntry(makeupLesson(TOMORROW, "1600-1700"));
+        Entry<Lesson> earlier = toEntry(makeupLesson(TOMORROW, "1400-1500"));
+        tracker.add(later, NOW);
+        tracker.add(earlier, NOW);
+        assertEquals(List.of(earlier, later), tracker.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void update_lessonOver_removedFromUpcomingLessons() {
+        tracker.add(toEntry(makeupLesson(TOMORROW, "1400-1500")), NOW);
+        tracker.update(TOMORROW.atTime(15, 1));
+        assertTrue(tracker.asUnmodifiableObservableList().isEmpty());
+        assertFalse(tracker.getNextUpdateTime().isPresent());
+    }
+
+    @Test
+    public void remove_trackedEntry_removedFromUpcomingLessons() {
+        Entry<Lesson> entry = toEntry(makeupLesson(TOMORROW, "1400-1500"));
+        tracker.add(entry, NOW);
+        assertTrue(tracker.remove(entry));
+        assertTrue(tracker.asUnmodifiableObservableList().isEmpty());
+        assertFalse(tracker.getNextUpdateTime().isPresent());
+    }
+
+    @Test
+    public void remove_untrackedEntryOfTrackedLesson_returnsFalse() {
+        Lesson lesson = makeupLesson(TOMORROW, "1400-1500");
+        tracker.add(toEntry(lesson), NOW);
+        assertFalse(tracker.remove(toEntry(lesson)));
+        assertEquals(1, tracker.asUnmodifiableObservableList().size());
+    }
+
+    private static Lesson makeupLesson(LocalDate date, String timeRange) {
+        return new LessonBuilder().withDate(date.format(Date.FORMATTER)).withTimeRange(timeRange).build();
+    }
+
+    private static Entry<Lesson> toEntry(Lesson lesson) {
+        Entry<Lesson> entry = new Entry<>();
+        entry.setUserObject(lesson);
+        return entry;
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.lesson.Subject;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class FeesLedgerTest {
+
+    private final FeesLedger feesLedger = new FeesLedger();
+
+    private final Person alice = new PersonBuilder(ALICE).withLessons(
+            new LessonBuilder().withSubject("Math").withOutstandingFees("100.50").build(),
+            new LessonBuilder().withSubject("Science").withDate("21 Mar 2000").withOutstandingFees("20").build())
+            .build();
+    private final Person benson = new PersonBuilder(BENSON).withLessons(
+            new LessonBuilder().withSubject("Math").withOutstandingFees("200").build()).build();
+    private final Person carl = new PersonBuilder(CARL).withLessons(
+            new LessonBuilder().withSubject("Math").withOutstandingFees("0").build()).build();
+
+    @Test
+    public void add_persons_totalsUpdated() {
+        feesLedger.add(alice);
+        feesLedger.add(benson);
+        feesLedger.add(carl);
+
+        assertEquals(32050, feesLedger.getTotalCents());
+        assertEquals(12050, feesLedger.getPersonCents(alice));
+        assertEquals(Map.of(new Subject("Math"), 30050L, new Subject("Science"), 2000L),
+                feesLedger.getSubjectCents());
+        assertEquals(List.of(benson, alice), feesLedger.getTopDebtors(5));
+        assertEquals(List.of(benson), feesLedger.getTopDebtors(1));
+    }
+
+    @Test
+    public void remove_addedPerson_totalsUpdated() {
+        feesLedger.add(alice);
+        feesLedger.add(benson);
+        feesLedger.remove(alice);
+
+        assertEquals(20000, feesLedger.getTotalCents());
+        assertEquals(0, feesLedger.getPersonCents(alice));
+        assertEquals(Map.of(new Subject("Math"), 20000L), feesLedger.getSubjectCents());
+        assertEquals(List.of(benson), feesLedger.getTopDebtors(5));
+
+        // person not added
+        feesLedger.remove(alice);
+        assertEquals(20000, feesLedger.getTotalCents());
+    }
+
+    @Test
+    public void add_paidPerson_debtorsReordered() {
+        feesLedger.add(alice);
+        feesLedger.add(benson);
+        Person paidBenson = new PersonBuilder(benson).withLessons(
+                new LessonBuilder().withSubject("Math").withOutstandingFees("50").build()).build();
+        feesLedger.remove(benson);
+        feesLedger.add(paidBenson);
+
+        assertEquals(17050, feesLedger.getTotalCents());
+        assertEquals(List.of(alice, paidBenson), feesLedger.getTopDebtors(5));
+    }
+
+    @Test
+    public void add_feesTooLarge_overflowedUntilCleared() {
+        Person largeDebtor = new PersonBuilder(BENSON).withLessons(
+                new LessonBuilder().withOutstandingFees("92233720368547758.07").build(),
+                new LessonBuilder().withDate("21 Mar 2000").withOutstandingFees("1").build()).build();
+        feesLedger.add(alice);
+        feesLedger.add(largeDebtor);
+        assertTrue(feesLedger.isOverflowed());
+
+        feesLedger.clear();
+        assertFalse(feesLedger.isOverflowed());
+        feesLedger.add(alice);
+        assertEquals(12050, feesLedger.getTotalCents());
+    }
+}
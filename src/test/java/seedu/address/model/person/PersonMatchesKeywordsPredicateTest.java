@@ -15,6 +15,8 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_SCHOOL_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FORGETFUL;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_ZOOM;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand.FindCondition;
@@ -196,6 +198,21 @@ public class PersonMatchesKeywordsPredicateTest {
         assertFalse(predicate.test(person));
     }
 
+    @Test
+    public void test_keywordsChangedAfterTest_matchesNewKeywords() {
+        PersonMatchesKeywordsPredicate predicate = new PersonMatchesKeywordsPredicateBuilder()
+                .withName("Alice").build();
+        Person person = new PersonBuilder().withName("Alice Bob").withSchool(VALID_SCHOOL_AMY).build();
+        assertTrue(predicate.test(person));
+
+        predicate.setNameKeywords(List.of("Carol"));
+        assertFalse(predicate.test(person));
+
+        predicate.setNameKeywords(null);
+        predicate.setSchoolKeywords(List.of(VALID_SCHOOL_AMY.toLowerCase()));
+        assertTrue(predicate.test(person));
+    }
+
     @Test
     public void equals() {
         PersonMatchesKeywordsPredicate
@@ -0,0 +1,94 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindCommand.FindCondition;
+import seedu.address.model.person.PersonSearchIndex.Field;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonMatchesKeywordsPredicateBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> searchIndex.add(null));
+    }
+
+    @Test
+    public void getCandidates_shortKeyword_returnsEmptyOptional() {
+        searchIndex.add(ALICE);
+        assertEquals(Optional.empty(), searchIndex.getCandidates(Field.NAME, "al"));
+    }
+
+    @Test
+    public void getCandidates_substringOfField_returnsPerson() {
+        searchIndex.add(ALICE);
+        searchIndex.add(BENSON);
+        assertEquals(List.of(ALICE), List.copyOf(searchIndex.getCandidates(Field.NAME, "pauli").get()));
+        assertTrue(searchIndex.getCandidates(Field.NAME, "xyz").get().isEmpty());
+    }
+
+    @Test
+    public void getCandidates_lessonFields_returnsPerson() {
+        Person person = new PersonBuilder().withLessons(new LessonBuilder().withSubject("Chemistry")
+                .withHomeworkSet("Worksheet 4").build()).build();
+        searchIndex.add(person);
+        assertTrue(searchIndex.getCandidates(Field.SUBJECT, "chem").get().contains(person));
+        assertTrue(searchIndex.getCandidates(Field.HOMEWORK, "sheet").get().contains(person));
+    }
+
+    @Test
+    public void getPersonsWithTag_differentCase_returnsPerson() {
+        Person person = new PersonBuilder().withTags("Unpaid").build();
+        searchIndex.add(person);
+        assertTrue(searchIndex.getPersonsWithTag("UNPAID").contains(person));
+        assertTrue(searchIndex.getPersonsWithTag("unpaid2").isEmpty());
+    }
+
+    @Test
+    public void remove_existingPerson_noLongerCandidate() {
+        searchIndex.add(ALICE);
+        long version = searchIndex.getVersion();
+        searchIndex.remove(ALICE);
+        assertNotEquals(version, searchIndex.getVersion());
+        assertTrue(searchIndex.getCandidates(Field.NAME, "alice").get().isEmpty());
+    }
+
+    @Test
+    public void test_withSearchIndex_sameAsWithoutSearchIndex() {
+        List<Person> persons = getTypicalPersons();
+        persons.forEach(searchIndex::add);
+
+        for (FindCondition condition : FindCondition.values()) {
+            assertSameMatches(persons, new PersonMatchesKeywordsPredicateBuilder()
+                    .withName("ali").withCondition(condition).build());
+            assertSameMatches(persons, new PersonMatchesKeywordsPredicateBuilder()
+                    .withName("e").withAddress("street").withCondition(condition).build());
+            assertSameMatches(persons, new PersonMatchesKeywordsPredicateBuilder()
+                    .withTags("friends").withSchool("school").withCondition(condition).build());
+            assertSameMatches(persons, new PersonMatchesKeywordsPredicateBuilder()
+                    .withName("meier").withPhone("9").withCondition(condition).build());
+        }
+    }
+
+    private void assertSameMatches(List<Person> persons, PersonMatchesKeywordsPredicate predicate) {
+        List<Person> expected = persons.stream().filter(predicate).collect(Collectors.toList());
+        predicate.setSearchIndex(searchIndex);
+        assertEquals(expected, persons.stream().filter(predicate).collect(Collectors.toList()));
+    }
+}
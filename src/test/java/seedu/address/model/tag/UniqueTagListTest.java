@@ -61,17 +61,30 @@ class UniqueTagListTest {
     public void addTagFromPerson_sorted_success() {
         uniqueTagList.addTagFromPerson(BENSON);
 
-        UniqueTagList unsortedList = new UniqueTagList();
-        unsortedList.addTag(TAG_UNPAID);
-        unsortedList.addTag(TAG_FORGETFUL);
-
         UniqueTagList sortedList = new UniqueTagList();
         sortedList.addTag(TAG_FORGETFUL);
         sortedList.addTag(TAG_UNPAID);
-        assertNotEquals(unsortedList, uniqueTagList);
+        assertEquals(List.of(TAG_FORGETFUL, TAG_UNPAID), uniqueTagList.asUnmodifiableTagList());
         assertEquals(sortedList, uniqueTagList);
     }
 
+    @Test
+    public void addTag_unsortedOrder_insertedInSortedPosition() {
+        uniqueTagList.addTag(TAG_UNPAID);
+        uniqueTagList.addTag(TAG_ZOOM);
+        uniqueTagList.addTag(TAG_FORGETFUL);
+        assertEquals(List.of(TAG_FORGETFUL, TAG_UNPAID, TAG_ZOOM), uniqueTagList.asUnmodifiableTagList());
+    }
+
+    @Test
+    public void editTagFromPerson_sharedTag_countUnchanged() {
+        uniqueTagList.addTagFromPerson(BENSON);
+        Person editedBenson = new PersonBuilder(BENSON).withTags(TAG_FORGETFUL.toString()).build();
+        uniqueTagList.editTagFromPerson(BENSON, editedBenson);
+        assertEquals(List.of(TAG_FORGETFUL), uniqueTagList.asUnmodifiableTagList());
+        assertEquals(1, uniqueTagList.getNumStudentsForTag(TAG_FORGETFUL));
+    }
+
     @Test
     public void addTagFromPersonList_nullPersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTagList.addTagFromPerson(null));
@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
+
+public class AddressBookConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void createStorage_eachFormat_storageOfFormat() {
+        Path filePath = testFolder.resolve("addressbook");
+        assertTrue(AddressBookConverter.createStorage(filePath, AddressBookFormat.JSON)
+                instanceof JsonAddressBookStorage);
+        assertTrue(AddressBookConverter.createStorage(filePath, AddressBookFormat.BINARY)
+                instanceof BinaryAddressBookStorage);
+    }
+
+    @Test
+    public void convert_binaryToJson_jsonReadable() throws Exception {
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(original);
+
+        assertTrue(AddressBookConverter.convert(new BinaryAddressBookStorage(binaryFilePath),
+                new JsonAddressBookStorage(jsonFilePath)));
+        assertEquals(AddressBookFormat.JSON, AddressBookConverter.detectFormat(jsonFilePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_missingSource_returnsFalse() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        assertFalse(AddressBookConverter.convert(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")),
+                new JsonAddressBookStorage(jsonFilePath)));
+        assertFalse(Files.exists(jsonFilePath));
+    }
+
+    @Test
+    public void convertToFormat_jsonFileToBinary_convertedInPlace() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertTrue(AddressBookConverter.convertToFormat(filePath, AddressBookFormat.BINARY));
+        assertEquals(AddressBookFormat.BINARY, AddressBookConverter.detectFormat(filePath));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+
+        // already in the format
+        assertFalse(AddressBookConverter.convertToFormat(filePath, AddressBookFormat.BINARY));
+    }
+
+    @Test
+    public void convertToFormat_missingFile_returnsFalse() throws Exception {
+        assertFalse(AddressBookConverter.convertToFormat(testFolder.resolve("missing.json"),
+                AddressBookFormat.BINARY));
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void read_notBinarySnapshot_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Files.writeString(filePath, "{\"persons\": []}");
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_unsupportedVersion_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinarySerializableAddressBook.MAGIC_NUMBER);
+            out.writeInt(BinarySerializableAddressBook.VERSION + 1);
+        }
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_truncatedSnapshot_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        binaryAddressBookStorage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(original.getLastUpdatedDate(), readBack.getLastUpdatedDate());
+
+        // Modify data, overwrite existing file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        binaryAddressBookStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_manyPersons_decodedInOrder() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 1000; i++) {
+            original.addPerson(new PersonBuilder().withName("Student " + i).withSchool("School " + i % 7)
+                    .withTags("group" + i % 3).build());
+        }
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        binaryAddressBookStorage.saveAddressBook(original);
+
+        assertEquals(original.getPersonList(), binaryAddressBookStorage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_valuesNotInFormattedForm_valuesKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Lesson lesson = new LessonBuilder().withDate("01 Jan 2022").withEndDate("05 feb 2022")
+                .withLessonRates("007.5").withOutstandingFees("0")
+                .withCancelledDatesSet("08 jan 2022", "15 Jan 2022").buildRecurring();
+        Person person = new PersonBuilder().withLessons(lesson).build();
+        AddressBook original = new AddressBook();
+        original.addPerson(person);
+
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        binaryAddressBookStorage.saveAddressBook(original);
+        Lesson readBack = binaryAddressBookStorage.readAddressBook().get().getPersonList().get(0).getLessons()
+                .iterator().next();
+        assertEquals(lesson, readBack);
+        assertEquals(lesson.getStartDate().value, readBack.getStartDate().value);
+        assertEquals(lesson.getEndDate().value, readBack.getEndDate().value);
+        assertEquals(lesson.getLessonRates().value, readBack.getLessonRates().value);
+        assertEquals(lesson.getOutstandingFees().value, readBack.getOutstandingFees().value);
+        assertEquals(lesson.getCancelledDates(), readBack.getCancelledDates());
+    }
+
+    @Test
+    public void saveAddressBookChanges_thenRead_changesApplied() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        binaryAddressBookStorage.saveAddressBook(original);
+
+        List<PersonChange> changes = List.of(PersonChange.remove(ALICE.getName()), PersonChange.put(IDA, 0));
+        binaryAddressBookStorage.saveAddressBookChanges(changes, original.getLastUpdatedDate());
+        changes.forEach(original::applyPersonChange);
+
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook().get();
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_clashingJournalEntry_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Lesson lesson = new LessonBuilder().buildRecurring();
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder(CARL).withLessons(lesson).build());
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        binaryAddressBookStorage.saveAddressBook(original);
+        Person clashingAlice = new PersonBuilder(ALICE).withLessons(lesson).build();
+        binaryAddressBookStorage.saveAddressBookChanges(List.of(PersonChange.put(clashingAlice, 0)),
+                original.getLastUpdatedDate());
+
+        assertThrows(DataConversionException.class, () -> binaryAddressBookStorage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journalOfReplacedDataFile_journalSkipped() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Lesson lesson = new LessonBuilder().buildRecurring();
+        Person carl = new PersonBuilder(CARL).withLessons(lesson).build();
+        Person clashingAlice = new PersonBuilder(ALICE).withLessons(lesson).build();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook();
+        binaryAddressBookStorage.saveAddressBook(addressBook);
+        for (PersonChange change : List.of(PersonChange.put(clashingAlice, 0), PersonChange.remove(ALICE.getName()),
+                PersonChange.put(carl, 0))) {
+            binaryAddressBookStorage.saveAddressBookChanges(List.of(change), addressBook.getLastUpdatedDate());
+            addressBook.applyPersonChange(change);
+        }
+
+        // the app stopped after the data file was replaced but before the journal was cleared
+        Path journalFilePath = AddressBookJournal.forDataFile(filePath).getFilePath();
+        byte[] journal = Files.readAllBytes(journalFilePath);
+        binaryAddressBookStorage.saveAddressBook(addressBook);
+        Files.write(journalFilePath, journal);
+
+        assertEquals(addressBook, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("SomeFile.bin")).saveAddressBook(null));
+    }
+}
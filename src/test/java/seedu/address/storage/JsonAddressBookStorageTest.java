@@ -2,22 +2,37 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.LastUpdatedDateUtil.VALID_LAST_UPDATED_DATE_TIME;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.LastUpdatedDate;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +101,116 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_prettyPrinted_sameAsSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        // the generation is only written by the storage, before the persons
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)),
+                FileUtil.readFromFile(filePath).replaceFirst("\\s*\"generation\" : \\d+,", ""));
+    }
+
+    @Test
+    public void saveAddressBook_compact_readableAsSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath, false).saveAddressBook(original);
+
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        JsonSerializableAddressBook readBack = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get();
+        assertEquals(original, readBack.toModelType());
+    }
+
+    @Test
+    public void saveAddressBookChanges_thenRead_changesApplied() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        Person editedBenson = new PersonBuilder(BENSON).withRemark("Edited").build();
+        List<PersonChange> changes = List.of(PersonChange.remove(ALICE.getName()), PersonChange.put(HOON, 0),
+                PersonChange.put(editedBenson, 1));
+        jsonAddressBookStorage.saveAddressBookChanges(changes, new LastUpdatedDate(VALID_LAST_UPDATED_DATE_TIME));
+        changes.forEach(original::applyPersonChange);
+        original.setLastUpdatedDate(new LastUpdatedDate(VALID_LAST_UPDATED_DATE_TIME));
+
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(original.getLastUpdatedDate(), readBack.getLastUpdatedDate());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastJournalEntry_entryIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBookChanges(List.of(PersonChange.remove(ALICE.getName())),
+                original.getLastUpdatedDate());
+        Files.writeString(AddressBookJournal.forDataFile(filePath).getFilePath(), "{\"changes\":[{\"rem",
+                StandardOpenOption.APPEND);
+
+        original.removePerson(ALICE);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalExists_journalCleared() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBookChanges(List.of(PersonChange.put(HOON, 0)),
+                original.getLastUpdatedDate());
+        assertTrue(Files.exists(AddressBookJournal.forDataFile(filePath).getFilePath()));
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertFalse(Files.exists(AddressBookJournal.forDataFile(filePath).getFilePath()));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_clashingJournalEntry_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Lesson lesson = new LessonBuilder().buildRecurring();
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder(CARL).withLessons(lesson).build());
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        Person clashingAlice = new PersonBuilder(ALICE).withLessons(lesson).build();
+        jsonAddressBookStorage.saveAddressBookChanges(List.of(PersonChange.put(clashingAlice, 0)),
+                original.getLastUpdatedDate());
+
+        assertThrows(DataConversionException.class, () -> jsonAddressBookStorage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journalOfReplacedDataFile_journalSkipped() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Lesson lesson = new LessonBuilder().buildRecurring();
+        Person carl = new PersonBuilder(CARL).withLessons(lesson).build();
+        Person clashingAlice = new PersonBuilder(ALICE).withLessons(lesson).build();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook();
+        jsonAddressBookStorage.saveAddressBook(addressBook);
+        for (PersonChange change : List.of(PersonChange.put(clashingAlice, 0), PersonChange.remove(ALICE.getName()),
+                PersonChange.put(carl, 0))) {
+            jsonAddressBookStorage.saveAddressBookChanges(List.of(change), addressBook.getLastUpdatedDate());
+            addressBook.applyPersonChange(change);
+        }
+
+        // the app stopped after the data file was replaced but before the journal was cleared
+        Path journalFilePath = AddressBookJournal.forDataFile(filePath).getFilePath();
+        byte[] journal = Files.readAllBytes(journalFilePath);
+        jsonAddressBookStorage.saveAddressBook(addressBook);
+        Files.write(journalFilePath, journal);
+
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
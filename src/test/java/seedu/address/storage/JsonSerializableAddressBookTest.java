@@ -5,6 +5,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -12,6 +14,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.LastUpdatedDate;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -80,4 +83,27 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class, JsonAdaptedPerson.MESSAGE_CLASHING_LESSON,
                 dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_manyPersons_convertedInOrder() throws Exception {
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 300; i++) {
+            original.addPerson(new PersonBuilder().withName("Student " + i).withTags("group" + i % 3).build());
+        }
+        AddressBook converted = new JsonSerializableAddressBook(original).toModelType();
+        assertEquals(original.getPersonList(), converted.getPersonList());
+        assertEquals(original.getTagCounter(), converted.getTagCounter());
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithDuplicate_throwsIllegalValueException() {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            persons.add(new JsonAdaptedPerson(new PersonBuilder().withName("Student " + i % 299).build()));
+        }
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(persons,
+                new JsonAdaptedLastUpdated(new LastUpdatedDate().value));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                data::toModelType);
+    }
 }
@@ -0,0 +1,265 @@
+package seedu.address.testutil;
+
+import static seedu.address.model.lesson.TimeRange.DAY_END;
+import static seedu.address.model.lesson.TimeRange.DAY_START;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.lesson.Date;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.TimeRange;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Generates address books of any size with realistic students, such as for benchmarks and load tests.
+ * The same seed always generates the same students.
+ *
+ * Lessons are scheduled term by term. Every lesson of a term takes its own half-hour weekly slots,
+ * whether it is recurring or a make up lesson, so no two lessons ever clash even if they are uncancelled.
+ * A new term starts once no free slots can be found in the current term,
+ * so large address books span many terms.
+ */
+public class AddressBookGenerator {
+
+    /** Seed for benchmarks that need the same students in every run, but no particular ones. */
+    public static final long DEFAULT_SEED = 1;
+
+    public static final LocalDate FIRST_TERM_START = LocalDate.of(2021, 1, 4);
+    public static final int TERM_WEEKS = 10;
+
+    public static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ling",
+        "Hui Min", "Arjun", "Siti", "Marcus", "Priya", "Jun Jie", "Nurul", "Ethan", "Chloe"};
+    public static final String[] LAST_NAMES = {"Yeo", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Ng", "Kumar", "Wong", "Rahman", "Goh", "Chua", "Lee", "Teo"};
+    public static final String[] SUBJECTS = {"Math", "Science", "English", "Physics", "Chemistry", "Biology",
+        "Additional Math", "Chinese"};
+    public static final String[] HOMEWORK = {"Textbook Page 5", "Worksheet 3", "Past Year Paper", "Essay",
+        "Chapter 4 Exercises", "Workbook 2"};
+    public static final String[] TAGS = {"unpaid", "forgetful", "exam", "zoom", "sec4", "jc1", "new"};
+
+    private static final String[] SCHOOLS = {"Raffles Institution", "Victoria School", "Nanyang Girls High",
+        "Anglo Chinese School", "Hwa Chong Institution"};
+    private static final String[] ACAD_STREAMS = {"Express", "Normal Academic", "IP", "IB"};
+    private static final String[] ACAD_LEVELS = {"S1", "S2", "S3", "S4", "J1", "J2"};
+    private static final String[] LESSON_RATES = {"40", "50", "60", "80", "100"};
+
+    private static final int SLOT_MINUTES = 30;
+    private static final int DAY_START_MINUTES = DAY_START.toSecondOfDay() / 60;
+    private static final int SLOTS_PER_DAY = (DAY_END.toSecondOfDay() / 60 - DAY_START_MINUTES) / SLOT_MINUTES;
+    private static final int DAYS_PER_WEEK = DayOfWeek.values().length;
+    private static final int MAX_SLOT_ATTEMPTS = 20;
+    private static final double CANCELLED_WEEK_PROBABILITY = 0.05;
+
+    private final Random random;
+    private final Set<String> names = new HashSet<>();
+    private int term = 0;
+    private boolean[][] takenSlots = new boolean[DAYS_PER_WEEK][SLOTS_PER_DAY];
+
+    /**
+     * Creates an {@code AddressBookGenerator} that generates the students determined by {@code seed}.
+     */
+    public AddressBookGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Returns the first day of the latest term with lessons.
+     */
+    public LocalDate getLastTermStart() {
+        return FIRST_TERM_START.plusWeeks((long) term * TERM_WEEKS);
+    }
+
+    /**
+     * Generates the next student, with a unique name and lessons that do not clash with the lessons
+     * of the students generated before.
+     */
+    public Person generatePerson() {
+        PersonBuilder personBuilder = new PersonBuilder()
+                .withName(generateName())
+                .withPhone(generatePhone())
+                .withEmail("student" + names.size() + "@example.com")
+                .withAddress(random.nextInt(999) + 1 + " Jurong West Ave " + (random.nextInt(9) + 1))
+                .withSchool(pick(SCHOOLS))
+                .withAcadStream(pick(ACAD_STREAMS))
+                .withAcadLevel(pick(ACAD_LEVELS))
+                .withTags(generateTags())
+                .withLessons(generateLessons());
+        if (random.nextBoolean()) {
+            personBuilder.withParentPhone(generatePhone());
+        }
+        if (random.nextInt(10) == 0) {
+            personBuilder.withRemark("Prefers online lessons");
+        }
+        return personBuilder.build();
+    }
+
+    /**
+     * Generates the next {@code count} students.
+     */
+    public List<Person> generatePersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(generatePerson());
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an {@code AddressBook} with the next {@code count} students.
+     */
+    public AddressBook generateAddressBook(int count) {
+        AddressBook ab = new AddressBook();
+        ab.setPersons(generatePersons(count));
+        return ab;
+    }
+
+    /**
+     * Saves an address book with the next {@code count} students to {@code filePath}, as TAB saves its data.
+     *
+     * @return The address book saved.
+     * @throws IOException If the file cannot be written.
+     */
+    public AddressBook generateAddressBook(int count, Path filePath) throws IOException {
+        AddressBook addressBook = generateAddressBook(count);
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        return addressBook;
+    }
+
+    private String generateName() {
+        String name = pick(FIRST_NAMES) + " " + pick(LAST_NAMES);
+        if (names.contains(name)) {
+            name = name + " " + names.size();
+        }
+        names.add(name);
+        return name;
+    }
+
+    private String generatePhone() {
+        return String.valueOf((random.nextBoolean() ? 80000000 : 90000000) + random.nextInt(10000000));
+    }
+
+    /**
+     * Returns up to two tags, where most students have no tags.
+     */
+    private String[] generateTags() {
+        int roll = random.nextInt(100);
+        int tagCount = roll < 50 ? 0 : roll < 85 ? 1 : 2;
+        Set<String> tags = new HashSet<>();
+        while (tags.size() < tagCount) {
+            tags.add(pick(TAGS));
+        }
+        return tags.toArray(new String[0]);
+    }
+
+    /**
+     * Returns one to three lessons, of which most are recurring.
+     */
+    private Lesson[] generateLessons() {
+        int roll = random.nextInt(100);
+        int lessonCount = roll < 60 ? 1 : roll < 90 ? 2 : 3;
+        Lesson[] lessons = new Lesson[lessonCount];
+        for (int i = 0; i < lessonCount; i++) {
+            lessons[i] = generateLesson();
+        }
+        return lessons;
+    }
+
+    /**
+     * Generates the next lesson, which is recurring for most students and does not clash with the lessons
+     * generated before.
+     */
+    public Lesson generateLesson() {
+        return generateLesson(random.nextInt(5) > 0);
+    }
+
+    private Lesson generateLesson(boolean isRecurring) {
+        int slotCount = 2 + random.nextInt(3); // one to two hours
+        int[] daySlot = takeSlots(slotCount);
+        int startMinutes = DAY_START_MINUTES + daySlot[1] * SLOT_MINUTES;
+        LocalDate termStart = getLastTermStart();
+        LocalDate firstDate = termStart.plusDays(daySlot[0]);
+
+        String lessonRates = pick(LESSON_RATES);
+        LessonBuilder lessonBuilder = new LessonBuilder()
+                .withTimeRange(TimeRange.fromMinutes(startMinutes, startMinutes + slotCount * SLOT_MINUTES).value)
+                .withSubject(pick(SUBJECTS))
+                .withHomeworkSet(generateHomework())
+                .withLessonRates(lessonRates)
+                .withOutstandingFees(random.nextBoolean()
+                        ? "0"
+                        : String.valueOf(Integer.parseInt(lessonRates) * (random.nextInt(4) + 1)));
+
+        if (!isRecurring) {
+            return lessonBuilder
+                    .withDate(Date.fromLocalDate(firstDate.plusWeeks(random.nextInt(TERM_WEEKS))))
+                    .build();
+        }
+
+        List<Date> cancelledDates = new ArrayList<>();
+        for (int week = 0; week < TERM_WEEKS; week++) {
+            if (random.nextDouble() < CANCELLED_WEEK_PROBABILITY) {
+                cancelledDates.add(Date.fromLocalDate(firstDate.plusWeeks(week)));
+            }
+        }
+        return lessonBuilder
+                .withDate(Date.fromLocalDate(firstDate))
+                .withEndDate(Date.fromLocalDate(firstDate.plusWeeks(TERM_WEEKS - 1)).value)
+                .withCancelledDatesSet(cancelledDates.toArray(new Date[0]))
+                .buildRecurring();
+    }
+
+    /**
+     * Takes {@code slotCount} free consecutive slots of a day of the current term,
+     * or of the next term if no free slots are found.
+     *
+     * @return The day of the week and the first slot of the day taken, counted from 0.
+     */
+    private int[] takeSlots(int slotCount) {
+        while (true) {
+            for (int attempt = 0; attempt < MAX_SLOT_ATTEMPTS; attempt++) {
+                int day = random.nextInt(DAYS_PER_WEEK);
+                int firstSlot = random.nextInt(SLOTS_PER_DAY - slotCount + 1);
+                if (areSlotsFree(day, firstSlot, slotCount)) {
+                    for (int slot = firstSlot; slot < firstSlot + slotCount; slot++) {
+                        takenSlots[day][slot] = true;
+                    }
+                    return new int[] {day, firstSlot};
+                }
+            }
+            term++;
+            takenSlots = new boolean[DAYS_PER_WEEK][SLOTS_PER_DAY];
+        }
+    }
+
+    private boolean areSlotsFree(int day, int firstSlot, int slotCount) {
+        for (int slot = firstSlot; slot < firstSlot + slotCount; slot++) {
+            if (takenSlots[day][slot]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String[] generateHomework() {
+        int homeworkCount = random.nextInt(4);
+        Set<String> homework = new HashSet<>();
+        while (homework.size() < homeworkCount) {
+            homework.add(pick(HOMEWORK));
+        }
+        return homework.toArray(new String[0]);
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}